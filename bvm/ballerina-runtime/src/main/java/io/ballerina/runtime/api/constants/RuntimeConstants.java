@@ -63,6 +63,8 @@ public final class RuntimeConstants {
                                                                         "lang.error", "0");
     public static final Module BALLERINA_QUERY_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
             "lang.query", "0");
+    public static final Module BALLERINA_RUNTIME_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
+            "lang.runtime", "0");
 
     // Lang libs
     public static final String STRING_LANG_LIB = "lang.string";
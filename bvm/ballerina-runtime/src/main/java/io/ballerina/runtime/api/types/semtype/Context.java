@@ -54,6 +54,16 @@ public final class Context {
         return new Context(env);
     }
 
+    /**
+     * Checks whether a type check is currently in progress in this context. An idle context can be handed over to a
+     * different thread and reused there.
+     *
+     * @return true if no type check is in progress
+     */
+    public boolean isIdle() {
+        return memoStack.isEmpty();
+    }
+
     /**
      * Memoization logic
      * Castagna's paper does not deal with this fully. Although he calls it memoization, it is not, strictly speaking,
@@ -91,6 +91,38 @@ public final class JsonUtils {
         return JsonParser.parse(in, charsetName, PredefinedTypes.TYPE_JSON);
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} and returns a json, whose objects are only
+     * read from the content when they are accessed. Objects which are never accessed are passed through as they are
+     * by the {@code serialize} methods of this class.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parseLazily(InputStream in) throws BError {
+        byte[] bytes;
+        try {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+        return JsonParser.parseLazily(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given bytes and returns a json, whose objects are only read from the
+     * content when they are accessed. Objects which are never accessed are passed through as they are by the
+     * {@code serialize} methods of this class. The bytes must not be modified while the json is in use.
+     *
+     * @param bytes bytes which contain the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parseLazily(byte[] bytes) throws BError {
+        return JsonParser.parseLazily(bytes, 0, bytes.length);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -239,6 +271,7 @@ public final class JsonUtils {
      */
     public static void serialize(Object json, OutputStream out) throws BError {
         try (JsonGenerator gen = new JsonGenerator(out)) {
+            gen.setPassThroughUnreadJson(true);
             gen.serialize(json);
             gen.flush();
         } catch (IOException e) {
@@ -256,6 +289,7 @@ public final class JsonUtils {
      */
     public static void serialize(Object json, OutputStream out, Charset charset) throws BError {
         try (JsonGenerator gen = new JsonGenerator(out, charset)) {
+            gen.setPassThroughUnreadJson(true);
             gen.serialize(json);
             gen.flush();
         } catch (IOException e) {
@@ -272,6 +306,7 @@ public final class JsonUtils {
      */
     public static void serialize(Object json, Writer writer) throws BError {
         try (JsonGenerator gen = new JsonGenerator(writer)) {
+            gen.setPassThroughUnreadJson(true);
             gen.serialize(json);
             gen.flush();
         } catch (IOException e) {
@@ -40,8 +40,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -108,27 +106,48 @@ public final class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                return new NonBmpStringValue(s, listHighSurrogates(s, i));
             }
         }
-        if (highSurrogates == null) {
-            return new BmpStringValue(s);
-        }
+        return new BmpStringValue(s);
+    }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
+    /**
+     * Returns the Ballerina string of a Java string which is known to contain only basic multilingual plane
+     * characters. Unlike {@link #fromString(String)}, the string is not scanned for surrogate pairs, so it must not
+     * contain any.
+     *
+     * @param s Java string without surrogate pairs
+     * @return Ballerina string
+     */
+    public static BString fromBmpString(String s) {
+        if (s == null) {
+            return null;
+        }
+        return new BmpStringValue(s);
+    }
 
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+    // Returns the code point indices of the high surrogates in the given string, starting from the first one.
+    private static int[] listHighSurrogates(String s, int firstIndex) {
+        int length = s.length();
+        int count = 1;
+        for (int i = firstIndex + 1; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                count++;
+            }
+        }
+        int[] highSurrogates = new int[count];
+        int k = 0;
+        for (int i = firstIndex; k < count; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogates[k] = i - k;
+                k++;
+            }
         }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return highSurrogates;
     }
 
     public static BArray fromStringArray(String[] s) {
@@ -32,6 +32,7 @@ import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.launch.LaunchUtils;
 import io.ballerina.runtime.internal.scheduling.RuntimeRegistry;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.StrandExecutor;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -122,6 +123,16 @@ public class BalRuntime extends Runtime {
         return this.scheduler.callMethod(object, methodName, metadata, args);
     }
 
+    /**
+     * Sets the executor used to run the strands started in this runtime, instead of the one configured through the
+     * strand limits of the {@code ballerina/lang.runtime} module.
+     *
+     * @param strandExecutor strand executor
+     */
+    public void setStrandExecutor(StrandExecutor strandExecutor) {
+        this.scheduler.setStrandExecutor(strandExecutor);
+    }
+
     @Override
     public void registerListener(BObject listener) {
         this.handleCallBeforeModuleInit("registerListener");
@@ -73,7 +73,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -116,8 +118,11 @@ public final class TypeChecker {
 
     private static final byte MAX_TYPECAST_ERROR_COUNT = 20;
     private static final String REG_EXP_TYPENAME = "RegExp";
-    private static final ThreadLocal<Context> threadContext =
-            ThreadLocal.withInitial(() -> Context.from(Env.getInstance()));
+    private static final ThreadLocal<Context> threadContext = new ThreadLocal<>();
+    // Strands run on short-lived virtual threads, so contexts released at the end of a strand are pooled to carry
+    // their memo tables over to the next strand instead of being rebuilt on every thread.
+    private static final int MAX_IDLE_CONTEXTS = 2 * Runtime.getRuntime().availableProcessors();
+    private static final Queue<Context> idleContexts = new ArrayBlockingQueue<>(MAX_IDLE_CONTEXTS);
 
     public static Object checkCast(Object sourceVal, Type targetType) {
         if (checkIsType(sourceVal, targetType)) {
@@ -148,7 +153,32 @@ public final class TypeChecker {
 
     public static Context context() {
         // We are pinning each context to thread. We can't use the same context with multiple type checks concurrently
-        return threadContext.get();
+        Context cx = threadContext.get();
+        if (cx == null) {
+            cx = idleContexts.poll();
+            if (cx == null) {
+                cx = Context.from(Env.getInstance());
+            }
+            threadContext.set(cx);
+        }
+        return cx;
+    }
+
+    /**
+     * Unpins the type checking context from the current thread, if there is one, and makes it available for reuse by
+     * other threads. Must be called only when the current thread will not continue any ongoing type check.
+     */
+    public static void releaseContext() {
+        Context cx = threadContext.get();
+        if (cx == null) {
+            return;
+        }
+        threadContext.remove();
+        // A context left part way through a type check, for instance by an exception, still holds provisional memo
+        // entries, so it is dropped instead of being reused.
+        if (cx.isIdle()) {
+            idleContexts.offer(cx);
+        }
     }
 
     public static long anyToInt(Object sourceVal) {
@@ -119,6 +119,8 @@ public final class ErrorReasons {
 
     public static final BString ASYNC_CALL_INSIDE_LOCK =
             StringUtils.fromString(BALLERINA_PREFIX.concat("AsyncCallInsideLockError"));
+    public static final BString STRAND_LIMIT_EXCEEDED =
+            StringUtils.fromString(BALLERINA_PREFIX.concat("StrandLimitExceededError"));
     public static final BString UNORDERED_TYPES_ERROR = StringUtils.fromString(UNORDERED_TYPES);
     public static final BString UNSUPPORTED_DECIMAL_ERROR = StringUtils.fromString(BALLERINA_PREFIX.concat(
             "UnsupportedDecimalError"));
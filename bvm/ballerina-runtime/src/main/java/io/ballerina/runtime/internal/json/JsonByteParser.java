@@ -0,0 +1,1186 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.RecordFieldTable;
+import io.ballerina.runtime.internal.utils.ValueConverter;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.internal.utils.ValueUtils.createRecordValueWithDefaultValues;
+
+/**
+ * Parser which reads UTF-8 encoded JSON directly from bytes and binds the values to the target type while reading.
+ * <p>
+ * Unlike {@link JsonParser}, records are not first read into an intermediate map. Field names are matched against
+ * the precomputed {@link RecordFieldTable} of the record type without decoding them, field values are kept until the
+ * end of the object and the record value is created once with them. Fields which cannot be added to a closed record
+ * are rejected as soon as their name is read. Values are converted with the same rules as {@link JsonParser}.
+ * <p>
+ * Errors are reported with the same messages and locations as {@link JsonParser}. The location of an error is only
+ * worked out when the error is reported, by scanning the content up to it, so that reading the content does not have
+ * to keep track of lines and columns. Content read from a stream is kept in a buffer which only has to hold the
+ * string or token being read, and the content dropped from the buffer is scanned for the location as it is dropped.
+ * Content which is not valid JSON, but is accepted by {@link JsonParser}, such as a field value followed by a
+ * {@code ]}, is rejected.
+ *
+ * @since 2201.13.0
+ */
+final class JsonByteParser {
+
+    private static final int MAX_SIMPLE_LONG_DIGITS = 18;
+    private static final int MAX_NESTING_DEPTH = 512;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    // where a non-string value is read, which decides the characters that end it
+    private static final int DOCUMENT = 0;
+    private static final int FIELD = 1;
+    private static final int ELEMENT = 2;
+
+    private static final String UNEXPECTED_END_OF_STRING = "unexpected end of the input stream";
+    private static final String UNEXPECTED_END_OF_VALUE = "unexpected end of input stream";
+
+    private byte[] buff;
+    private final InputStream in;
+    private int end;
+    private int index;
+    private int depth;
+    // set when the string being read may contain characters outside the basic multilingual plane
+    private boolean nonBmpInString;
+    private StringBuilder stringBuilder;
+    // structural index built by indexDocument(), for lazy parsing
+    private int[] containerEnds;
+    private int[] containerNexts;
+    private int containerCount;
+    // container that follows the value read last by readLazyValue()
+    private int nextContainer;
+
+    // offset of the character at which the last error was found, or -1 if it was found at the current index
+    private int errorOffset = -1;
+    // whether JsonParser reads the character at which the last error was found twice, as the start of a value
+    private boolean errorAtValueStart;
+    // location of the content before the offset scanned so far, counted the same way as JsonParser
+    private int scannedTo;
+    private int line = 1;
+    private int column;
+    private boolean inString;
+    private boolean escaped;
+    private boolean inToken;
+    // whether a value is expected next, in which case a character which does not start a string, object or array
+    // starts a non-string value
+    private boolean atValue = true;
+    private int[] scannedContainers = new int[16];
+    private int scannedDepth;
+
+    private JsonByteParser(byte[] buff, int offset, int length, InputStream in) {
+        this.buff = buff;
+        this.in = in;
+        this.index = offset;
+        this.end = offset + length;
+        this.scannedTo = offset;
+    }
+
+    /**
+     * Returns whether values of the given type can be created by this parser. Tuple and table values are only
+     * created by {@link JsonParser}.
+     *
+     * @param targetType target type of the parsing
+     * @return true if the type is supported
+     */
+    static boolean isSupportedType(Type targetType) {
+        return isSupportedType(targetType, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static boolean isSupportedType(Type type, Set<Type> visitedRecordTypes) {
+        Type impliedType = TypeUtils.getImpliedType(type);
+        return switch (impliedType.getTag()) {
+            case TypeTags.TUPLE_TAG, TypeTags.TABLE_TAG -> false;
+            case TypeTags.ARRAY_TAG ->
+                    isSupportedType(((ArrayType) impliedType).getElementType(), visitedRecordTypes);
+            case TypeTags.MAP_TAG -> isSupportedType(((MapType) impliedType).getConstrainedType(), visitedRecordTypes);
+            case TypeTags.RECORD_TYPE_TAG -> {
+                BRecordType recordType = (BRecordType) impliedType;
+                if (!visitedRecordTypes.add(recordType)) {
+                    yield true;
+                }
+                for (Field field : recordType.getFields().values()) {
+                    if (!isSupportedType(field.getFieldType(), visitedRecordTypes)) {
+                        yield false;
+                    }
+                }
+                yield recordType.restFieldType == null || isSupportedType(recordType.restFieldType,
+                        visitedRecordTypes);
+            }
+            default -> true;
+        };
+    }
+
+    /**
+     * Returns whether the given string can be parsed by this parser, which is when it can be encoded in UTF-8 as it
+     * is. Strings with unpaired surrogates are only parsed by {@link JsonParser}.
+     *
+     * @param str string which contains the content
+     * @return true if the string can be parsed
+     */
+    static boolean isSupportedString(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            if (!Character.isSurrogate(ch)) {
+                continue;
+            }
+            if (!Character.isHighSurrogate(ch) || ++i == str.length() || !Character.isLowSurrogate(str.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given byte range to a value of the given target type.
+     *
+     * @param buff       bytes which contain the content
+     * @param offset     start of the content
+     * @param length     length of the content
+     * @param targetType target type of the value
+     * @return value of the target type
+     * @throws BError for any parsing error
+     */
+    static Object parse(byte[] buff, int offset, int length, Type targetType) throws BError {
+        return new JsonByteParser(buff, offset, length, null).parseDocument(targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content read from the given stream to a value of the given target type. The
+     * stream is read as the content is parsed, so the whole content is never held in memory.
+     *
+     * @param in         stream which contains the content
+     * @param targetType target type of the value
+     * @return value of the target type
+     * @throws BError for any parsing error
+     */
+    static Object parse(InputStream in, Type targetType) throws BError {
+        return new JsonByteParser(new byte[STREAM_BUFFER_SIZE], 0, 0, in).parseDocument(targetType);
+    }
+
+    /**
+     * Parses the JSON content in the given string to a value of the given target type. The string must be one for
+     * which {@link #isSupportedString} is true.
+     *
+     * @param str        string which contains the content
+     * @param targetType target type of the value
+     * @return value of the target type
+     * @throws BError for any parsing error
+     */
+    static Object parse(String str, Type targetType) throws BError {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        return parse(bytes, 0, bytes.length, targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given byte range to a json value whose objects are read only when
+     * they are first accessed.
+     * <p>
+     * The whole content is validated first, recording where each object and array ends. Each object is then created
+     * as a {@link LazyJsonMapValue} that reads its own members, skipping nested objects and arrays with the recorded
+     * offsets. Arrays are read along with the value which contains them, but objects in them are again read lazily.
+     * The bytes are referred to by the returned value and must not be modified afterwards.
+     *
+     * @param buff   bytes which contain the content
+     * @param offset start of the content
+     * @param length length of the content
+     * @return json value
+     * @throws BError for any parsing error
+     */
+    static Object parseLazily(byte[] buff, int offset, int length) throws BError {
+        JsonByteParser parser = new JsonByteParser(buff, offset, length, null);
+        try {
+            parser.indexDocument();
+            StructuralIndex structure = new StructuralIndex(buff, parser.containerEnds, parser.containerNexts);
+            parser.index = offset;
+            return parser.readLazyValue(structure, 0, DOCUMENT);
+        } catch (ParserException e) {
+            throw parser.createError(e);
+        }
+    }
+
+    /**
+     * Reads the members of the lazily parsed object starting at the given offset into the given map.
+     *
+     * @param structure structural index of the document
+     * @param container index of the object among the containers of the document
+     * @param start     offset of the opening brace of the object
+     * @param target    map to add the members to
+     * @throws ParserException if the content is not accepted by this parser
+     */
+    static void readLazyObject(StructuralIndex structure, int container, int start, Map<BString, Object> target)
+            throws ParserException {
+        JsonByteParser parser = new JsonByteParser(structure.buff, start, structure.getEnd(container) + 1 - start,
+                null);
+        parser.index++;
+        if (!parser.readFirstFieldStart()) {
+            return;
+        }
+        int child = container + 1;
+        do {
+            BString key = parser.readBString();
+            parser.readFieldSeparator();
+            target.put(key, parser.readLazyValue(structure, child, FIELD));
+            child = parser.nextContainer;
+        } while (parser.readObjectSeparator());
+    }
+
+    private Object parseDocument(Type targetType) throws BError {
+        try {
+            Type impliedType = TypeUtils.getImpliedType(targetType);
+            Object value = switch (peekNonWhitespace()) {
+                case '{' -> readObject(impliedType);
+                case '[' -> readArray(impliedType);
+                case '"' -> readConvertedString(targetType);
+                case EOF -> throw error("empty JSON document");
+                default -> readNonStringValue(impliedType, DOCUMENT);
+            };
+            readDocumentEnd();
+            return value;
+        } catch (ParserException e) {
+            throw createError(e);
+        }
+    }
+
+    private void readDocumentEnd() throws ParserException {
+        if (peekNonWhitespace() != EOF) {
+            throw error("input stream has already ended");
+        }
+    }
+
+    private Object readValue(Type type, int context) throws ParserException {
+        Type impliedType = TypeUtils.getImpliedType(type);
+        return switch (peekNonWhitespace()) {
+            case '{' -> readObject(impliedType);
+            case '[' -> readArray(impliedType);
+            case '"' -> readConvertedString(type);
+            default -> readNonStringValue(impliedType, context);
+        };
+    }
+
+    private Object readConvertedString(Type type) throws ParserException {
+        index++;
+        BString str = readBString();
+        try {
+            return ValueConverter.getConvertedStringValue(str, type);
+        } catch (BError e) {
+            throw error(e.getMessage(), index - 1);
+        }
+    }
+
+    private Object readObject(Type impliedType) throws ParserException {
+        enterNested();
+        Object value = switch (impliedType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG -> readRecord((BRecordType) impliedType);
+            case TypeTags.MAP_TAG -> readMap((MapType) impliedType);
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.JsonStateMachine.convert(readJsonObject(false), impliedType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> readJsonObject(impliedType.isReadOnly());
+            default -> throw error("unsupported type: " + impliedType + "'");
+        };
+        depth--;
+        return value;
+    }
+
+    private Object readArray(Type impliedType) throws ParserException {
+        enterNested();
+        Object value = switch (impliedType.getTag()) {
+            case TypeTags.ARRAY_TAG -> readTypedArray((ArrayType) impliedType);
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.JsonStateMachine.convert(readJsonArray(false), impliedType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> readJsonArray(impliedType.isReadOnly());
+            default -> throw error("target type is not array type");
+        };
+        depth--;
+        return value;
+    }
+
+    private void enterNested() throws ParserException {
+        if (++depth > MAX_NESTING_DEPTH) {
+            throw error("nesting is too deep");
+        }
+    }
+
+    private BMap<BString, Object> readRecord(BRecordType recordType) throws ParserException {
+        RecordFieldTable fieldTable = recordType.getFieldTable();
+        // entry index + 1 of each declared field, entries are kept in the order the fields first appear
+        int[] fieldEntries = new int[fieldTable.size()];
+        BString[] keys = new BString[Math.max(fieldTable.size(), 4)];
+        Object[] values = new Object[keys.length];
+        int entryCount = 0;
+        Map<String, Integer> restFieldEntries = null;
+
+        index++;
+        if (readFirstFieldStart()) {
+            do {
+                int nameLength = scanUnescapedString();
+                String name = null;
+                int fieldIndex;
+                if (nameLength >= 0) {
+                    int nameStart = index;
+                    index += nameLength + 1;
+                    fieldIndex = fieldTable.indexOf(buff, nameStart, nameStart + nameLength);
+                    if (fieldIndex < 0) {
+                        name = new String(buff, nameStart, nameLength, StandardCharsets.UTF_8);
+                    }
+                } else {
+                    name = readString();
+                    fieldIndex = fieldTable.indexOf(name);
+                }
+
+                BString key;
+                Type fieldType;
+                int entry;
+                if (fieldIndex >= 0) {
+                    key = fieldTable.getName(fieldIndex);
+                    fieldType = fieldTable.getField(fieldIndex).getFieldType();
+                    entry = fieldEntries[fieldIndex] - 1;
+                    if (entry < 0) {
+                        entry = entryCount;
+                        fieldEntries[fieldIndex] = entry + 1;
+                    }
+                } else {
+                    if (recordType.sealed) {
+                        throw error("field '" + name + "' cannot be added to the closed record '" + recordType + "'",
+                                index - 1);
+                    }
+                    key = StringUtils.fromString(name);
+                    fieldType = recordType.restFieldType;
+                    if (restFieldEntries == null) {
+                        restFieldEntries = new HashMap<>();
+                    }
+                    Integer restFieldEntry = restFieldEntries.putIfAbsent(name, entryCount);
+                    entry = restFieldEntry == null ? entryCount : restFieldEntry;
+                }
+                readFieldSeparator();
+                Object value = readFieldValue(fieldType);
+
+                if (entry == entryCount) {
+                    if (entryCount == keys.length) {
+                        keys = Arrays.copyOf(keys, entryCount * 2);
+                        values = Arrays.copyOf(values, entryCount * 2);
+                    }
+                    keys[entryCount++] = key;
+                }
+                values[entry] = value;
+            } while (readObjectSeparator());
+        }
+
+        List<String> notProvidedFields = new ArrayList<>();
+        for (int i = 0; i < fieldEntries.length; i++) {
+            if (fieldEntries[i] != 0) {
+                continue;
+            }
+            Field field = fieldTable.getField(i);
+            long fieldFlags = field.getFlags();
+            if (SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.REQUIRED)) {
+                throw error("missing required field '" + field.getFieldName() + "' of type '"
+                        + field.getFieldType() + "' in record '" + recordType + "'", index - 1);
+            } else if (!SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.OPTIONAL)) {
+                notProvidedFields.add(field.getFieldName());
+            }
+        }
+        BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
+                recordType.getName(), notProvidedFields);
+        for (int i = 0; i < entryCount; i++) {
+            recordValue.populateInitialValue(keys[i], values[i]);
+        }
+        if (recordType.isReadOnly()) {
+            recordValue.freezeDirect();
+        }
+        return recordValue;
+    }
+
+    private MapValueImpl<BString, Object> readMap(MapType mapType) throws ParserException {
+        MapValueImpl<BString, Object> mapValue = new MapValueImpl<>(mapType);
+        Type constrainedType = mapType.getConstrainedType();
+        index++;
+        if (!readFirstFieldStart()) {
+            return mapValue;
+        }
+        do {
+            BString key = readBString();
+            readFieldSeparator();
+            mapValue.putForcefully(key, readFieldValue(constrainedType));
+        } while (readObjectSeparator());
+        return mapValue;
+    }
+
+    private Object readFieldValue(Type type) throws ParserException {
+        int b = peekNonWhitespace();
+        if (b == '}' || b == ']') {
+            throw error("expected a field value");
+        }
+        return readValue(type, FIELD);
+    }
+
+    private ArrayValueImpl readTypedArray(ArrayType arrayType) throws ParserException {
+        ArrayValueImpl arrayValue = new ArrayValueImpl(arrayType);
+        Type elementType = arrayType.getElementType();
+        Type impliedElementType = TypeUtils.getImpliedType(elementType);
+        boolean closed = arrayType.getState() == ArrayType.ArrayState.CLOSED;
+        int listIndex = 0;
+        index++;
+        if (readFirstElementStart()) {
+            do {
+                switch (peekNonWhitespace()) {
+                    case '"' -> {
+                        index++;
+                        BString str = readBString();
+                        try {
+                            arrayValue.convertStringAndAddRefValue(listIndex, str);
+                        } catch (BError e) {
+                            throw error(e.getMessage(), index - 1);
+                        }
+                    }
+                    case '{', '[' -> {
+                        if (closed && arrayType.getSize() <= listIndex) {
+                            throw error("'" + arrayType + "' array size is not enough for the provided values");
+                        }
+                        arrayValue.addRefValue(listIndex, readValue(elementType, ELEMENT));
+                    }
+                    default -> arrayValue.addRefValue(listIndex, readNonStringValue(impliedElementType, ELEMENT));
+                }
+                listIndex++;
+            } while (readArraySeparator());
+        }
+        if (closed && arrayType.getSize() > listIndex && !arrayType.hasFillerValue()) {
+            throw error("missing required number of values for the '" + arrayType
+                    + "' array which does not have a filler value", index - 1);
+        }
+        return arrayValue;
+    }
+
+    private Object readJsonValue(boolean readonly, int context) throws ParserException {
+        return switch (peekNonWhitespace()) {
+            case '{' -> {
+                enterNested();
+                MapValueImpl<BString, Object> mapValue = readJsonObject(readonly);
+                depth--;
+                yield mapValue;
+            }
+            case '[' -> {
+                enterNested();
+                ArrayValueImpl arrayValue = readJsonArray(readonly);
+                depth--;
+                yield arrayValue;
+            }
+            case '"' -> {
+                index++;
+                yield readBString();
+            }
+            default -> readNonStringValue(PredefinedTypes.TYPE_JSON, context);
+        };
+    }
+
+    private MapValueImpl<BString, Object> readJsonObject(boolean readonly) throws ParserException {
+        MapValueImpl<BString, Object> mapValue = readonly ?
+                new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_READONLY_JSON, true)) :
+                new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+        index++;
+        if (!readFirstFieldStart()) {
+            return mapValue;
+        }
+        do {
+            BString key = readBString();
+            readFieldSeparator();
+            int b = peekNonWhitespace();
+            if (b == '}' || b == ']') {
+                throw error("expected a field value");
+            }
+            mapValue.putForcefully(key, readJsonValue(readonly, FIELD));
+        } while (readObjectSeparator());
+        return mapValue;
+    }
+
+    private ArrayValueImpl readJsonArray(boolean readonly) throws ParserException {
+        ArrayValueImpl arrayValue = readonly ?
+                new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_READONLY_JSON, true)) :
+                new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        index++;
+        if (!readFirstElementStart()) {
+            return arrayValue;
+        }
+        do {
+            arrayValue.addRefValueForcefully(arrayValue.size(), readJsonValue(readonly, ELEMENT));
+        } while (readArraySeparator());
+        return arrayValue;
+    }
+
+    private Object readLazyValue(StructuralIndex structure, int container, int context) throws ParserException {
+        switch (peekNonWhitespace()) {
+            case '{' -> {
+                LazyJsonMapValue mapValue = new LazyJsonMapValue(structure, container, index);
+                index = structure.getEnd(container) + 1;
+                nextContainer = structure.getNext(container);
+                return mapValue;
+            }
+            case '[' -> {
+                ArrayValueImpl arrayValue = readLazyArray(structure, container);
+                nextContainer = structure.getNext(container);
+                return arrayValue;
+            }
+            case '"' -> {
+                index++;
+                nextContainer = container;
+                return readBString();
+            }
+            default -> {
+                nextContainer = container;
+                return readNonStringValue(PredefinedTypes.TYPE_JSON, context);
+            }
+        }
+    }
+
+    private ArrayValueImpl readLazyArray(StructuralIndex structure, int container) throws ParserException {
+        index++;
+        ArrayValueImpl arrayValue = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        if (!readFirstElementStart()) {
+            return arrayValue;
+        }
+        int child = container + 1;
+        do {
+            arrayValue.addRefValueForcefully(arrayValue.size(), readLazyValue(structure, child, ELEMENT));
+            child = nextContainer;
+        } while (readArraySeparator());
+        return arrayValue;
+    }
+
+    private void indexDocument() throws ParserException {
+        containerEnds = new int[16];
+        containerNexts = new int[16];
+        if (peekNonWhitespace() == EOF) {
+            throw error("empty JSON document");
+        }
+        indexValue(DOCUMENT);
+        readDocumentEnd();
+    }
+
+    private void indexValue(int context) throws ParserException {
+        switch (peekNonWhitespace()) {
+            case '{' -> indexObject();
+            case '[' -> indexArray();
+            case '"' -> {
+                index++;
+                skipString();
+            }
+            // validated by reading it, as numbers have to be in the range of their types
+            default -> readNonStringValue(PredefinedTypes.TYPE_JSON, context);
+        }
+    }
+
+    private void indexObject() throws ParserException {
+        int container = addContainer();
+        enterNested();
+        index++;
+        if (readFirstFieldStart()) {
+            do {
+                skipString();
+                readFieldSeparator();
+                int b = peekNonWhitespace();
+                if (b == '}' || b == ']') {
+                    throw error("expected a field value");
+                }
+                indexValue(FIELD);
+            } while (readObjectSeparator());
+        }
+        depth--;
+        endContainer(container);
+    }
+
+    private void indexArray() throws ParserException {
+        int container = addContainer();
+        enterNested();
+        index++;
+        if (readFirstElementStart()) {
+            do {
+                indexValue(ELEMENT);
+            } while (readArraySeparator());
+        }
+        depth--;
+        endContainer(container);
+    }
+
+    private int addContainer() {
+        if (containerCount == containerEnds.length) {
+            containerEnds = Arrays.copyOf(containerEnds, containerCount * 2);
+            containerNexts = Arrays.copyOf(containerNexts, containerCount * 2);
+        }
+        return containerCount++;
+    }
+
+    private void endContainer(int container) {
+        containerEnds[container] = index - 1;
+        containerNexts[container] = containerCount;
+    }
+
+    /**
+     * Reads up to the first field name of an object after its opening brace. Returns false if the object is empty,
+     * after reading its closing brace.
+     */
+    private boolean readFirstFieldStart() throws ParserException {
+        int b = peekNonWhitespace();
+        if (b == '}') {
+            index++;
+            return false;
+        } else if (b != '"') {
+            throw error("expected '\"' or '}'");
+        }
+        index++;
+        return true;
+    }
+
+    /**
+     * Reads up to the first element of an array after its opening bracket. Returns false if the array is empty,
+     * after reading its closing bracket.
+     */
+    private boolean readFirstElementStart() throws ParserException {
+        if (peekNonWhitespace() == ']') {
+            index++;
+            return false;
+        }
+        return true;
+    }
+
+    private void readFieldSeparator() throws ParserException {
+        if (peekNonWhitespace() != ':') {
+            throw error("expected ':'");
+        }
+        index++;
+    }
+
+    /**
+     * Reads the separator after a field value. Returns true if it is followed by another field, after reading the
+     * opening quote of its name.
+     */
+    private boolean readObjectSeparator() throws ParserException {
+        int b = peekNonWhitespace();
+        if (b == '}') {
+            index++;
+            return false;
+        } else if (b != ',') {
+            throw error("expected ',' or '}'");
+        }
+        index++;
+        if (peekNonWhitespace() != '"') {
+            throw error("expected '\"'");
+        }
+        index++;
+        return true;
+    }
+
+    /**
+     * Reads the separator after an array element. Returns true if it is followed by another element.
+     */
+    private boolean readArraySeparator() throws ParserException {
+        int b = peekNonWhitespace();
+        if (b == ']') {
+            index++;
+            return false;
+        } else if (b != ',') {
+            throw error("expected ',' or ']'");
+        }
+        index++;
+        if (peekNonWhitespace() == ']') {
+            throw error("expected an array element");
+        }
+        return true;
+    }
+
+    private void skipString() throws ParserException {
+        for (int n = 0; ; n++) {
+            if (index + n == end && !fill()) {
+                throw error(UNEXPECTED_END_OF_STRING, end);
+            }
+            byte b = buff[index + n];
+            if (b == '"') {
+                index += n + 1;
+                return;
+            } else if (b == '\\') {
+                n = readEscapedChar(null, n + 1);
+            }
+        }
+    }
+
+    /**
+     * Reads a non-string value, which is everything up to the next whitespace, or comma or bracket in an object or
+     * array, the same as {@link JsonParser}.
+     */
+    private Object readNonStringValue(Type impliedType, int context) throws ParserException {
+        int length = scanToken(context);
+        int b = index + length < end ? buff[index + length] : EOF;
+        if (context != DOCUMENT) {
+            if (b == EOF) {
+                if (length == 0) {
+                    // JsonParser does not report a location when the content ends where a value is expected
+                    throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+                }
+                throw error(UNEXPECTED_END_OF_VALUE, end);
+            } else if (length == 0) {
+                return readEmptyValue(impliedType, context);
+            } else if (b == '{' || b == '[') {
+                throw error("unrecognized token '" + (char) b + "'", index + length);
+            }
+        }
+        int start = index;
+        index += length;
+        int tag = impliedType.getTag();
+        if (tag == TypeTags.INT_TAG || tag == TypeTags.JSON_TAG || tag == TypeTags.ANYDATA_TAG) {
+            Object value = readSimpleLong(start, index);
+            if (value != null) {
+                return value;
+            }
+        }
+        String str = new String(buff, start, length, StandardCharsets.UTF_8);
+        return switch (tag) {
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.JsonStateMachine.convert(getNonStringValueAsJson(str), impliedType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> getNonStringValueAsJson(str);
+            case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG, TypeTags.ARRAY_TAG -> {
+                if (context == DOCUMENT) {
+                    throw error("unrecognized token '" + str + "'");
+                }
+                yield JsonParser.JsonStateMachine.convertValues(impliedType, str);
+            }
+            default -> JsonParser.JsonStateMachine.convertValues(impliedType, str);
+        };
+    }
+
+    /**
+     * Reads the value missing before a comma, which {@link JsonParser} converts from an empty string.
+     */
+    private Object readEmptyValue(Type impliedType, int context) throws ParserException {
+        switch (impliedType.getTag()) {
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG ->
+                    throw error(context == FIELD ? "expected a field value" : "expected an array element", index,
+                            true);
+            default -> {
+                try {
+                    return JsonParser.JsonStateMachine.convertValues(impliedType, "");
+                } catch (ParserException e) {
+                    throw error(e.getMessage(), index, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the token starting at the current index. The current index is not moved.
+     */
+    private int scanToken(int context) {
+        for (int n = 0; ; n++) {
+            if (index + n == end && !fill()) {
+                return n;
+            }
+            if (isTokenEnd(buff[index + n], context)) {
+                return n;
+            }
+        }
+    }
+
+    private static boolean isTokenEnd(byte b, int context) {
+        return switch (b) {
+            case ' ', '\t', '\n', '\r' -> true;
+            case ',', ']', '{', '[' -> context != DOCUMENT;
+            case '}' -> context == FIELD;
+            default -> false;
+        };
+    }
+
+    /**
+     * Reads an integer made of an optional minus sign and at most {@value MAX_SIMPLE_LONG_DIGITS} digits without
+     * creating a string. Returns null for anything else, including negative zero which is a float in JSON.
+     */
+    private Long readSimpleLong(int from, int to) {
+        boolean negative = buff[from] == '-';
+        int i = negative ? from + 1 : from;
+        if (i == to || to - i > MAX_SIMPLE_LONG_DIGITS) {
+            return null;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buff[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (negative) {
+            return value == 0 ? null : -value;
+        }
+        return value;
+    }
+
+    // same as the conversion of non-string values to json in JsonParser, for the FROM_JSON_STRING mode
+    private static Object getNonStringValueAsJson(String str) throws ParserException {
+        try {
+            if (str.indexOf('.') >= 0) {
+                return StateMachine.isNegativeZero(str) ? (Object) Double.parseDouble(str) : new DecimalValue(str);
+            }
+            char ch = str.charAt(0);
+            if (ch == 't' && StateMachine.TRUE.equals(str)) {
+                return Boolean.TRUE;
+            } else if (ch == 'f' && StateMachine.FALSE.equals(str)) {
+                return Boolean.FALSE;
+            } else if (ch == 'n' && StateMachine.NULL.equals(str)) {
+                return null;
+            } else if (StateMachine.isNegativeZero(str)) {
+                return Double.parseDouble(str);
+            } else if (StateMachine.isExponential(str)) {
+                return new DecimalValue(str);
+            }
+            return Long.parseLong(str);
+        } catch (NumberFormatException e) {
+            throw new ParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    /**
+     * Returns the length of the string starting at the current index up to its closing quote if the string does not
+     * contain escape sequences, or -1 otherwise. The current index is not moved.
+     */
+    private int scanUnescapedString() throws ParserException {
+        for (int n = 0; ; n++) {
+            if (index + n == end && !fill()) {
+                throw error(UNEXPECTED_END_OF_STRING, end);
+            }
+            byte b = buff[index + n];
+            if (b == '"') {
+                return n;
+            } else if (b == '\\') {
+                return -1;
+            } else if ((b & 0xF8) == 0xF0) {
+                nonBmpInString = true;
+            }
+        }
+    }
+
+    /**
+     * Reads a string to a Ballerina string. The string is scanned for surrogate pairs only if it has a four byte
+     * UTF-8 sequence or an escaped high surrogate.
+     */
+    private BString readBString() throws ParserException {
+        nonBmpInString = false;
+        String str = readString();
+        return nonBmpInString ? StringUtils.fromString(str) : StringUtils.fromBmpString(str);
+    }
+
+    private String readString() throws ParserException {
+        int length = scanUnescapedString();
+        if (length >= 0) {
+            String str = new String(buff, index, length, StandardCharsets.UTF_8);
+            index += length + 1;
+            return str;
+        }
+        StringBuilder sb = stringBuilder;
+        if (sb == null) {
+            sb = new StringBuilder();
+            stringBuilder = sb;
+        }
+        sb.setLength(0);
+        // offsets are relative to the current index, which is kept at the start of the string when the buffer is
+        // filled, so that the string is read in one piece
+        int segmentStart = 0;
+        for (int n = 0; ; n++) {
+            if (index + n == end && !fill()) {
+                throw error(UNEXPECTED_END_OF_STRING, end);
+            }
+            byte b = buff[index + n];
+            if (b == '"') {
+                sb.append(new String(buff, index + segmentStart, n - segmentStart, StandardCharsets.UTF_8));
+                index += n + 1;
+                return sb.toString();
+            } else if ((b & 0xF8) == 0xF0) {
+                nonBmpInString = true;
+            } else if (b == '\\') {
+                sb.append(new String(buff, index + segmentStart, n - segmentStart, StandardCharsets.UTF_8));
+                n = readEscapedChar(sb, n + 1);
+                segmentStart = n + 1;
+            }
+        }
+    }
+
+    /**
+     * Appends the character of the escape sequence starting after the backslash at the given offset from the current
+     * index to the given builder, if any, and returns the offset of the last byte of the sequence.
+     */
+    private int readEscapedChar(StringBuilder sb, int n) throws ParserException {
+        if (!ensureAvailable(n)) {
+            throw error("expected escaped characters", end);
+        }
+        char ch = switch (buff[index + n]) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    n++;
+                    if (!ensureAvailable(n)) {
+                        throw error("expected the hexadecimal value of a unicode character", end);
+                    }
+                    int digit = Character.digit(buff[index + n], 16);
+                    if (digit < 0) {
+                        throw error("expected the hexadecimal value of a unicode character", index + n);
+                    }
+                    code = (code << 4) | digit;
+                }
+                yield (char) code;
+            }
+            default -> throw error("expected escaped characters", index + n);
+        };
+        if (Character.isHighSurrogate(ch)) {
+            nonBmpInString = true;
+        }
+        if (sb != null) {
+            sb.append(ch);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the next byte which is not whitespace, without reading it, or {@link #EOF} at the end of the content.
+     */
+    private int peekNonWhitespace() {
+        while (true) {
+            while (index < end) {
+                byte b = buff[index];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return b & 0xFF;
+                }
+                index++;
+            }
+            if (!fill()) {
+                return EOF;
+            }
+        }
+    }
+
+    private boolean ensureAvailable(int n) {
+        while (index + n >= end) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads more of the stream into the buffer, dropping the content before the current index. Offsets relative to
+     * the current index stay the same. Returns false if there is nothing more to read.
+     */
+    private boolean fill() {
+        if (in == null) {
+            return false;
+        }
+        scanLocation(index);
+        int length = end - index;
+        System.arraycopy(buff, index, buff, 0, length);
+        index = 0;
+        end = length;
+        scannedTo = 0;
+        if (end == buff.length) {
+            // the string or token being read does not fit in the buffer
+            buff = Arrays.copyOf(buff, buff.length * 2);
+        }
+        int count;
+        try {
+            count = in.read(buff, end, buff.length - end);
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+        if (count <= 0) {
+            return false;
+        }
+        end += count;
+        return true;
+    }
+
+    private ParserException error(String message) {
+        return error(message, index, false);
+    }
+
+    private ParserException error(String message, int offset) {
+        return error(message, offset, false);
+    }
+
+    private ParserException error(String message, int offset, boolean atValueStart) {
+        errorOffset = offset;
+        errorAtValueStart = atValueStart;
+        return new ParserException(message);
+    }
+
+    /**
+     * Creates the error for the given exception with the location at which {@link JsonParser} reports it.
+     */
+    private BError createError(ParserException e) {
+        // errors thrown while converting a value are found at the current index
+        int offset = errorOffset >= 0 ? errorOffset : index;
+        scanLocation(offset);
+        int errorLine = line;
+        int errorColumn = column;
+        if (offset < end && buff[offset] == '\n') {
+            errorLine++;
+            errorColumn = 0;
+        } else {
+            errorColumn += errorAtValueStart ? 2 : 1;
+        }
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + errorLine
+                + " column: " + errorColumn));
+    }
+
+    /**
+     * Counts the lines and columns of the content up to the given offset, the same way as {@link JsonParser}, which
+     * counts UTF-16 characters and reads the first character of each non-string value twice. Which characters start
+     * and end a non-string value depends on whether it is in an object or an array, so the containers are tracked.
+     */
+    private void scanLocation(int offset) {
+        for (int i = scannedTo; i < offset; i++) {
+            byte b = buff[i];
+            if (b == '\n') {
+                line++;
+                column = 0;
+            } else if ((b & 0xC0) != 0x80) {
+                column += (b & 0xF8) == 0xF0 ? 2 : 1;
+            }
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            int context = scannedDepth == 0 ? DOCUMENT : scannedContainers[scannedDepth - 1];
+            if (inToken) {
+                if (!isTokenEnd(b, context)) {
+                    continue;
+                }
+                inToken = false;
+            }
+            switch (b) {
+                case ' ', '\t', '\n', '\r' -> {
+                }
+                case '"' -> {
+                    inString = true;
+                    atValue = false;
+                }
+                case '{' -> enterScannedContainer(FIELD, false);
+                case '[' -> enterScannedContainer(ELEMENT, true);
+                default -> {
+                    if (atValue && !(b == ']' && context == ELEMENT) && !((b == ']' || b == '}') && context == FIELD)) {
+                        column++;
+                        atValue = false;
+                        inToken = !isTokenEnd(b, context);
+                        if (inToken) {
+                            break;
+                        }
+                    }
+                    switch (b) {
+                        case ':' -> atValue = true;
+                        case ',' -> atValue = context == ELEMENT;
+                        case '}', ']' -> {
+                            if (scannedDepth > 0) {
+                                scannedDepth--;
+                            }
+                            atValue = false;
+                        }
+                        default -> atValue = false;
+                    }
+                }
+            }
+        }
+        scannedTo = Math.max(scannedTo, offset);
+    }
+
+    private void enterScannedContainer(int context, boolean valueFollows) {
+        if (scannedDepth == scannedContainers.length) {
+            scannedContainers = Arrays.copyOf(scannedContainers, scannedDepth * 2);
+        }
+        scannedContainers[scannedDepth++] = context;
+        atValue = valueFollows;
+    }
+
+    /**
+     * Offsets of the closing brackets of the objects and arrays of a lazily parsed document. Containers are numbered
+     * in the order of their opening brackets, so the containers nested in a container follow it and the next
+     * container after all of them is recorded to skip the nested ones.
+     */
+    static final class StructuralIndex {
+
+        final byte[] buff;
+        private final int[] ends;
+        private final int[] nexts;
+
+        private StructuralIndex(byte[] buff, int[] ends, int[] nexts) {
+            this.buff = buff;
+            this.ends = ends;
+            this.nexts = nexts;
+        }
+
+        int getEnd(int container) {
+            return ends[container];
+        }
+
+        int getNext(int container) {
+            return nexts[container];
+        }
+    }
+}
@@ -35,6 +35,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -55,6 +56,8 @@ public class JsonGenerator implements Closeable {
 
     private boolean fieldActive;
 
+    private boolean passThroughUnreadJson;
+
     private static final boolean[] ESC_CHARS = new boolean[93];
 
     static {
@@ -78,6 +81,17 @@ public class JsonGenerator implements Closeable {
         this.writer = writer;
     }
 
+    /**
+     * Sets whether objects of lazily parsed json which have not been read yet are written out as they were in the
+     * parsed content, instead of being read and serialized. Such output is equivalent json, but it is not formatted
+     * the same way as the output of serializing the values.
+     *
+     * @param passThroughUnreadJson whether to write unread json verbatim
+     */
+    public void setPassThroughUnreadJson(boolean passThroughUnreadJson) {
+        this.passThroughUnreadJson = passThroughUnreadJson;
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -261,6 +275,11 @@ public class JsonGenerator implements Closeable {
         this.writer.write("null");
     }
 
+    void writeRawValue(byte[] utf8Json, int offset, int length) throws IOException {
+        this.processValueInit();
+        this.writer.write(new String(utf8Json, offset, length, StandardCharsets.UTF_8));
+    }
+
     public void writeStartArray() throws IOException {
         this.processStartLevel();
         this.writer.write("[");
@@ -319,6 +338,11 @@ public class JsonGenerator implements Closeable {
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
             case TypeTags.RECORD_TYPE_TAG:
+                if (passThroughUnreadJson && json instanceof LazyJsonMapValue lazyMapValue &&
+                        !lazyMapValue.isMaterialized()) {
+                    lazyMapValue.writeUnread(this);
+                    break;
+                }
                 this.startObject();
                 for (Entry<BString, RefValue> entry : ((MapValueImpl<BString, RefValue>) json).entrySet()) {
                     this.writeFieldName(entry.getKey().getValue());
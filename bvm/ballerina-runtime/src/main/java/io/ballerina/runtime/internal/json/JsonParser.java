@@ -63,19 +63,24 @@ import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
@@ -93,8 +98,11 @@ import static io.ballerina.runtime.internal.utils.ValueUtils.createRecordValueWi
  */
 public final class JsonParser {
 
-    private static final ThreadLocal<JsonStateMachine> tlStateMachine =
-            ThreadLocal.withInitial(JsonStateMachine::new);
+    // Strands run on short-lived virtual threads, so a thread local state machine would never be reused. Idle state
+    // machines are instead kept in a bounded pool shared by all threads.
+    private static final int MAX_IDLE_STATE_MACHINES = 2 * Runtime.getRuntime().availableProcessors();
+    private static final Queue<JsonStateMachine> idleStateMachines =
+            new ArrayBlockingQueue<>(MAX_IDLE_STATE_MACHINES);
 
     private JsonParser() {
     }
@@ -119,6 +127,9 @@ public final class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        if (isUtf8(charsetName) && JsonByteParser.isSupportedType(targetType)) {
+            return JsonByteParser.parse(in, targetType);
+        }
         try {
             return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
         } catch (IOException e) {
@@ -127,6 +138,57 @@ public final class JsonParser {
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the remaining bytes of the given {@link ByteBuffer} and returns a value of
+     * the given target type. The position of the buffer is not changed.
+     *
+     * @param buffer     buffer which contains the content
+     * @param targetType target type of the value
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), targetType);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), bytes);
+        return parse(bytes, 0, bytes.length, targetType);
+    }
+
+    private static Object parse(byte[] bytes, int offset, int length, Type targetType) throws BError {
+        if (JsonByteParser.isSupportedType(targetType)) {
+            return JsonByteParser.parse(bytes, offset, length, targetType);
+        }
+        return parse(new InputStreamReader(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8),
+                targetType);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given byte range to a json value whose objects are read from the bytes
+     * only when they are first accessed. The content is validated before returning, so any parsing error is reported
+     * by this method.
+     * <p>
+     * The returned value refers to the given bytes, which must not be modified afterwards.
+     *
+     * @param bytes  bytes which contain the content
+     * @param offset start of the content
+     * @param length length of the content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parseLazily(byte[] bytes, int offset, int length) throws BError {
+        return JsonByteParser.parseLazily(bytes, offset, length);
+    }
+
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -146,6 +208,10 @@ public final class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(String str, Type targetType) throws BError {
+        // strings with unpaired surrogates cannot be encoded to UTF-8 as they are
+        if (JsonByteParser.isSupportedType(targetType) && JsonByteParser.isSupportedString(str)) {
+            return JsonByteParser.parse(str, targetType);
+        }
         return parse(new StringReader(str), targetType);
     }
 
@@ -159,17 +225,25 @@ public final class JsonParser {
      */
     public static Object parse(Reader reader, Type targetType, JsonUtils.NonStringValueProcessingMode mode)
             throws BError {
-        JsonStateMachine sm = tlStateMachine.get();
+        JsonStateMachine sm = acquireStateMachine();
+        Object value;
         try {
             sm.addTargetType(targetType);
             JsonStateMachine.mode = mode;
-            return sm.execute(reader);
+            value = sm.execute(reader);
         } finally {
             // Need to reset the state machine before leaving. Otherwise, references to the created
             // values will be maintained and the java GC will not happen properly.
             sm.reset();
-            tlStateMachine.remove();
         }
+        // A state machine which stopped part way through a document is not reused, as it may not be fully reset.
+        idleStateMachines.offer(sm);
+        return value;
+    }
+
+    private static JsonStateMachine acquireStateMachine() {
+        JsonStateMachine sm = idleStateMachines.poll();
+        return sm != null ? sm : new JsonStateMachine();
     }
 
     /**
@@ -210,7 +284,7 @@ public final class JsonParser {
     /**
      * Represents the state machine used for input stream parsing.
      */
-    private static class JsonStateMachine extends StateMachine {
+    static class JsonStateMachine extends StateMachine {
 
         private static final String UNSUPPORTED_TYPE = "unsupported type: ";
         private static final String ARRAY_SIZE_MISMATCH = "array size is not enough for the provided values";
@@ -249,7 +323,7 @@ public final class JsonParser {
             return new ParserException("value '" + inputValue + "' cannot be converted to '" + targetType + "'");
         }
 
-        private static Object convertValues(Type targetType, String inputValue) throws ParserException {
+        static Object convertValues(Type targetType, String inputValue) throws ParserException {
             return switch (targetType.getTag()) {
                 case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
                         TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
@@ -1024,7 +1098,7 @@ public final class JsonParser {
             }
         }
 
-        private static Object convert(Object value, Type targetType) {
+        static Object convert(Object value, Type targetType) {
             return convert(value, targetType, new HashSet<>());
         }
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A json object parsed by {@link JsonByteParser#parseLazily}, whose members are read from the source bytes only when
+ * the object is first accessed.
+ * <p>
+ * Every method which reads or updates the members reads them first. Until then, the object can be copied without
+ * reading it, and is written out verbatim by a {@link JsonGenerator} which passes through unread json.
+ *
+ * @since 2201.13.0
+ */
+final class LazyJsonMapValue extends MapValueImpl<BString, Object> {
+
+    private final JsonByteParser.StructuralIndex structure;
+    private final int container;
+    private final int start;
+    private volatile boolean materialized;
+
+    LazyJsonMapValue(JsonByteParser.StructuralIndex structure, int container, int start) {
+        super(new BMapType(PredefinedTypes.TYPE_JSON));
+        this.structure = structure;
+        this.container = container;
+        this.start = start;
+    }
+
+    boolean isMaterialized() {
+        return materialized;
+    }
+
+    void writeUnread(JsonGenerator gen) throws IOException {
+        gen.writeRawValue(structure.buff, start, structure.getEnd(container) + 1 - start);
+    }
+
+    private void materialize() {
+        if (materialized) {
+            return;
+        }
+        synchronized (this) {
+            if (materialized) {
+                return;
+            }
+            Map<BString, Object> members = new LinkedHashMap<>();
+            try {
+                JsonByteParser.readLazyObject(structure, container, start, members);
+            } catch (ParserException e) {
+                // the content has been validated when parsing the document
+                throw JsonInternalUtils.createJsonConversionError(e, "error occurred while building JSON");
+            }
+            // members are added only after the whole object is read, so a failed read leaves the object unread
+            members.forEach(super::putValue);
+            materialized = true;
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        materialize();
+        return super.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        materialize();
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        materialize();
+        return super.containsValue(value);
+    }
+
+    @Override
+    protected Object putValue(BString key, Object value) {
+        materialize();
+        return super.putValue(key, value);
+    }
+
+    @Override
+    public Object putIfAbsent(BString key, Object value) {
+        materialize();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends BString, ?> m) {
+        materialize();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        materialize();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public Object replace(BString key, Object value) {
+        materialize();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(BString key, Object oldValue, Object newValue) {
+        materialize();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super BString, ? super Object, ?> function) {
+        materialize();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object computeIfAbsent(BString key, Function<? super BString, ?> mappingFunction) {
+        materialize();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(BString key, BiFunction<? super BString, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(BString key, BiFunction<? super BString, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(BString key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        materialize();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<BString, Object>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public Set<BString> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        materialize();
+        return super.values();
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super BString, ? super Object> action) {
+        materialize();
+        super.forEach(action);
+    }
+
+    @Override
+    public BString[] getKeys() {
+        materialize();
+        return super.getKeys();
+    }
+
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (materialized) {
+            return super.copy(refs);
+        }
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+        // the source bytes are never modified, so an unread object can share them with its copy
+        LazyJsonMapValue newMap = new LazyJsonMapValue(structure, container, start);
+        refs.put(this, newMap);
+        return newMap;
+    }
+}
@@ -78,9 +78,15 @@ public abstract class StateMachine {
     protected final Deque<Object> nodesStack = new ArrayDeque<>();
     protected final Deque<String> fieldNames = new ArrayDeque<>();
 
+    private static final int BUFFER_SIZE = 1024;
+    // Buffers grown beyond this size are dropped on reset, so that a reused state machine does not pin the memory
+    // of the largest document it has parsed.
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * BUFFER_SIZE;
+
     protected final StringBuilder hexBuilder = new StringBuilder(4);
-    protected char[] charBuff = new char[1024];
+    protected char[] charBuff = new char[BUFFER_SIZE];
     protected int charBuffIndex;
+    private final char[] readBuff = new char[BUFFER_SIZE];
 
     protected int index = 0;
     protected int line = 1;
@@ -105,6 +111,11 @@ public abstract class StateMachine {
         this.column = 0;
         this.nodesStack.clear();
         this.fieldNames.clear();
+        this.charBuffIndex = 0;
+        this.hexBuilder.setLength(0);
+        if (this.charBuff.length > MAX_RETAINED_BUFFER_SIZE) {
+            this.charBuff = new char[BUFFER_SIZE];
+        }
     }
 
     public static boolean isWhitespace(char ch) {
@@ -123,7 +134,7 @@ public abstract class StateMachine {
     public Object execute(Reader reader) throws BError {
         State currentState = DOC_START_STATE;
         try {
-            char[] buff = new char[1024];
+            char[] buff = this.readBuff;
             int count;
             while ((count = reader.read(buff)) > 0) {
                 this.index = 0;
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.lock;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock used for Ballerina global variable locks. Spins for a short while before parking the strand and keeps
+ * track of how many acquisitions had to wait for another strand.
+ *
+ * @since 2201.13.0
+ */
+public class BLock extends ReentrantLock {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_SPIN_COUNT = Runtime.getRuntime().availableProcessors() > 1 ? 64 : 0;
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+
+    @Override
+    public void lock() {
+        acquiredCount.increment();
+        if (tryLock()) {
+            return;
+        }
+        contendedCount.increment();
+        for (int i = 0; i < MAX_SPIN_COUNT; i++) {
+            Thread.onSpinWait();
+            if (!isLocked() && tryLock()) {
+                return;
+            }
+        }
+        super.lock();
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    public long getContendedCount() {
+        return contendedCount.sum();
+    }
+}
@@ -18,14 +18,22 @@
 
 package io.ballerina.runtime.internal.lock;
 
+import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
 
 /**
  * Class used for generating code to manage Ballerina locks.
@@ -35,16 +43,31 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @SuppressWarnings("unused")
 public class BLockStore {
 
+    public static final String GLOBAL_LOCKS_ACQUIRED_METRIC = "ballerina_global_locks_acquired_total";
+    public static final String GLOBAL_LOCKS_CONTENDED_METRIC = "ballerina_global_locks_contended_total";
+
     /**
      * The map of locks inferred.
      */
-    private final Map<String, ReentrantLock> globalLockMap;
-
-    private final ReentrantReadWriteLock storeLock;
+    private final Map<String, BLock> globalLockMap;
+    private final Module module;
 
     public BLockStore() {
-        this.globalLockMap = new HashMap<>();
-        this.storeLock = new ReentrantReadWriteLock();
+        this(null);
+    }
+
+    /**
+     * Creates the lock store of the given module. The lock metrics of the module are registered once the metric
+     * registry is initialized, if metrics are enabled.
+     *
+     * @param module module of the global locks
+     */
+    public BLockStore(Module module) {
+        this.globalLockMap = new ConcurrentHashMap<>();
+        this.module = module;
+        if (module != null && ObserveUtils.isMetricsEnabled()) {
+            DefaultMetricRegistry.addInitializationListener(this::registerMetrics);
+        }
     }
 
     /*
@@ -113,26 +136,55 @@ public class BLockStore {
         }
     }
 
-    private ReentrantLock getLockFromMap(String lockName) {
-        ReentrantLock lock;
-        try {
-            storeLock.readLock().lock();
-            lock = globalLockMap.get(lockName);
-        } finally {
-            storeLock.readLock().unlock();
+    /**
+     * Returns the number of acquisitions of each global lock which had to wait for another strand to release it.
+     *
+     * @return map of lock name to contended acquisition count
+     */
+    public Map<String, Long> getContentionCounts() {
+        Map<String, Long> contentionCounts = new HashMap<>();
+        for (Map.Entry<String, BLock> entry : globalLockMap.entrySet()) {
+            contentionCounts.put(entry.getKey(), entry.getValue().getContendedCount());
         }
-        if (lock != null) {
-            return lock;
+        return Collections.unmodifiableMap(contentionCounts);
+    }
+
+    /**
+     * Registers the acquired and contended acquisition counts of the global locks of this store as metrics.
+     *
+     * @param registry metric registry
+     */
+    public void registerMetrics(MetricRegistry registry) {
+        String moduleName = module == null ? "" : module.toString();
+        PolledGauge.builder(GLOBAL_LOCKS_ACQUIRED_METRIC, globalLockMap, BLockStore::getAcquiredCount)
+                .description("Total number of global lock acquisitions").tag(TAG_KEY_SRC_MODULE, moduleName)
+                .register(registry);
+        PolledGauge.builder(GLOBAL_LOCKS_CONTENDED_METRIC, globalLockMap, BLockStore::getContendedCount)
+                .description("Total number of global lock acquisitions which waited for another strand")
+                .tag(TAG_KEY_SRC_MODULE, moduleName).register(registry);
+    }
+
+    private static double getAcquiredCount(Map<String, BLock> locks) {
+        long count = 0;
+        for (BLock lock : locks.values()) {
+            count += lock.getAcquiredCount();
         }
-        return addLockToMap(lockName);
+        return count;
     }
 
-    private ReentrantLock addLockToMap(String lockName) {
-        try {
-            storeLock.writeLock().lock();
-            return globalLockMap.computeIfAbsent(lockName, k -> new ReentrantLock());
-        } finally {
-            storeLock.writeLock().unlock();
+    private static double getContendedCount(Map<String, BLock> locks) {
+        long count = 0;
+        for (BLock lock : locks.values()) {
+            count += lock.getContendedCount();
+        }
+        return count;
+    }
+
+    private BLock getLockFromMap(String lockName) {
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
         }
+        return globalLockMap.computeIfAbsent(lockName, k -> new BLock());
     }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.clauses;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.errors.ErrorReasons;
+import io.ballerina.runtime.internal.utils.MathUtils;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.INT_LANG_LIB;
+import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
+
+/**
+ * Aggregate functions of the lang library that a `group by` clause applies to the values of a non-grouping variable
+ * as the frames of a group arrive, instead of collecting the values into an array. Each function gives the same result
+ * as the lang library function applied to the values of the group, and fails with the same error.
+ *
+ * @since 2201.13.0
+ */
+enum AggregateFunction {
+
+    INT_SUM("int:sum") {
+        @Override
+        Object first(Object value) {
+            return toInt(value);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return MathUtils.addExact((long) state, toInt(value), INT_OVERFLOW_REASON);
+        }
+    },
+    INT_MAX("int:max") {
+        @Override
+        Object first(Object value) {
+            return toInt(value);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            long current = toInt(value);
+            return current >= (long) state ? current : state;
+        }
+    },
+    INT_MIN("int:min") {
+        @Override
+        Object first(Object value) {
+            return toInt(value);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            long current = toInt(value);
+            return current <= (long) state ? current : state;
+        }
+    },
+    INT_AVG("int:avg") {
+        @Override
+        Object first(Object value) {
+            return BDecimal.valueOf(toInt(value));
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return ((BDecimal) state).add(BDecimal.valueOf(toInt(value)));
+        }
+
+        @Override
+        Object result(Object state, int count) {
+            return ((BDecimal) state).divide(BDecimal.valueOf(count));
+        }
+    },
+    FLOAT_SUM("float:sum") {
+        @Override
+        Object first(Object value) {
+            return 0.0 + (double) value;
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return (double) state + (double) value;
+        }
+    },
+    FLOAT_MAX("float:max") {
+        @Override
+        Object first(Object value) {
+            return Math.max((double) value, Double.NEGATIVE_INFINITY);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return Math.max((double) value, (double) state);
+        }
+    },
+    FLOAT_MIN("float:min") {
+        @Override
+        Object first(Object value) {
+            return Math.min((double) value, Double.POSITIVE_INFINITY);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return Math.min((double) value, (double) state);
+        }
+    },
+    FLOAT_AVG("float:avg") {
+        @Override
+        Object first(Object value) {
+            return Double.sum(0, (double) value);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return Double.sum((double) state, (double) value);
+        }
+
+        @Override
+        Object result(Object state, int count) {
+            return (double) state / count;
+        }
+    },
+    DECIMAL_SUM("decimal:sum") {
+        @Override
+        Object first(Object value) {
+            return ValueCreator.createDecimalValue(BigDecimal.ZERO).add((BDecimal) value);
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return ((BDecimal) state).add((BDecimal) value);
+        }
+    },
+    DECIMAL_MAX("decimal:max") {
+        @Override
+        Object first(Object value) {
+            return value;
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return ((BDecimal) value).value().compareTo(((BDecimal) state).value()) >= 0 ? value : state;
+        }
+    },
+    DECIMAL_MIN("decimal:min") {
+        @Override
+        Object first(Object value) {
+            return value;
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return ((BDecimal) value).value().compareTo(((BDecimal) state).value()) <= 0 ? value : state;
+        }
+    },
+    DECIMAL_AVG("decimal:avg") {
+        @Override
+        Object first(Object value) {
+            return value;
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return ((BDecimal) state).add((BDecimal) value);
+        }
+
+        @Override
+        Object result(Object state, int count) {
+            return ((BDecimal) state).divide(BDecimal.valueOf(count));
+        }
+    },
+    VALUE_COUNT("value:count") {
+        @Override
+        Object first(Object value) {
+            return null;
+        }
+
+        @Override
+        Object next(Object state, Object value) {
+            return null;
+        }
+
+        @Override
+        Object result(Object state, int count) {
+            return (long) count;
+        }
+    };
+
+    private static final BString INT_OVERFLOW_REASON = getModulePrefixedReason(INT_LANG_LIB,
+            ErrorReasons.NUMBER_OVERFLOW_ERROR_IDENTIFIER);
+
+    private final String functionName;
+
+    AggregateFunction(String functionName) {
+        this.functionName = functionName;
+    }
+
+    /**
+     * Returns the aggregate function with the given name.
+     *
+     * @param functionName name of the lang library function, prefixed with the module name, such as {@code int:sum}
+     * @return aggregate function
+     */
+    static AggregateFunction fromName(String functionName) {
+        for (AggregateFunction function : values()) {
+            if (function.functionName.equals(functionName)) {
+                return function;
+            }
+        }
+        throw new IllegalArgumentException("unsupported aggregate function: " + functionName);
+    }
+
+    String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Returns the state after the first value of a group.
+     */
+    abstract Object first(Object value);
+
+    /**
+     * Returns the state after a further value of a group.
+     */
+    abstract Object next(Object state, Object value);
+
+    /**
+     * Returns the result of the function for a group, given the state after its last value.
+     */
+    Object result(Object state, int count) {
+        return state;
+    }
+
+    private static long toInt(Object value) {
+        // Values of `byte` typed variables are kept as integers.
+        return ((Number) value).longValue();
+    }
+}
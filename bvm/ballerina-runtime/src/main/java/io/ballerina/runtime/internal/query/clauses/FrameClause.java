@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for
+ * the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.clauses;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A clause that processes each frame on its own, and passes on at most one frame for each frame it receives.
+ *
+ * @since 2201.13.0
+ */
+public interface FrameClause extends QueryClause {
+
+    /**
+     * Processes a single frame.
+     *
+     * @param frame The frame to process.
+     * @return The frame passed on to the next clause, or null if the frame is filtered out.
+     */
+    BMap<BString, Object> processFrame(BMap<BString, Object> frame);
+
+    @Override
+    default Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
+        return inputStream.map(this::processFrame).filter(Objects::nonNull);
+    }
+}
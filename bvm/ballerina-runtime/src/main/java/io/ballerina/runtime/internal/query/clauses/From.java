@@ -25,14 +25,12 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
-import java.util.stream.Stream;
-
 /**
  * Represents a `from` clause in the query pipeline that processes a stream of frames.
  *
  * @since 2201.13.0
  */
-public class From implements QueryClause {
+public class From implements FrameClause {
 
     private final BFunctionPointer transformer;
     private final Environment env;
@@ -52,19 +50,22 @@ public class From implements QueryClause {
     }
 
     /**
-     * Processes a stream of frames by applying the transformation function to each frame.
+     * Processes a frame by applying the transformation function to it.
      *
-     * @param inputStream The input stream of frames.
-     * @return A transformed stream of frames.
+     * @param frame The frame to process.
+     * @return The transformed frame.
      */
     @Override
-    public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        return inputStream.map(frame -> {
-            Object result = transformer.call(env.getRuntime(), frame);
-            if (result instanceof BMap<?, ?> map) {
-                return (BMap<BString, Object>) map;
-            }
-            throw new QueryException((BError) result);
-        });
+    public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+        Object result = transformer.call(env.getRuntime(), frame);
+        if (result instanceof BMap<?, ?> map) {
+            return (BMap<BString, Object>) map;
+        }
+        throw new QueryException((BError) result);
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return QueryClause.isIsolated(transformer);
     }
 }
@@ -22,23 +22,30 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.query.utils.EqualityKey;
 
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.ballerina.runtime.api.types.PredefinedTypes.TYPE_ANY_ARRAY;
-import static io.ballerina.runtime.internal.query.utils.QueryConstants.GROUP_KEY_CONSTANT;
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
 
 /**
  * Represents a `group by` clause in the query pipeline that processes a stream of frames.
+ * <p>
+ * The clause only retains the first frame of each group. The values of a non-grouping variable that is only passed to
+ * aggregate functions of the lang library, such as {@code int:sum} or {@code count}, are folded into the running state
+ * of each of these functions as the frames arrive. The result of each function is added to the frame of the group
+ * under the field returned by {@link #getAggregateField(String, String)}, which the desugared query reads in place of
+ * calling the function. If the function fails for a group, the error is added instead, so that it is only raised
+ * when the group reaches the clause that calls the function. The values of the other non-grouping variables are
+ * collected into an array for each group.
  *
  * @since 2201.13.0
  */
@@ -46,44 +53,125 @@ public class GroupBy implements QueryClause {
 
     private final BArray groupingKeys;
     private final BArray nonGroupingKeys;
+    private final BString[] aggregateKeys;
+    private final AggregateFunction[] aggregateFunctions;
+    private final BString[] aggregateFields;
     private final Environment env;
 
-    private GroupBy(Environment env, BArray groupingKeys, BArray nonGroupingKeys) {
+    private GroupBy(Environment env, BArray groupingKeys, BArray nonGroupingKeys, BArray aggregateKeys,
+                    BArray aggregateFunctions) {
         this.groupingKeys = groupingKeys;
         this.nonGroupingKeys = nonGroupingKeys;
+        int aggregateCount = aggregateKeys.size();
+        this.aggregateKeys = new BString[aggregateCount];
+        this.aggregateFunctions = new AggregateFunction[aggregateCount];
+        this.aggregateFields = new BString[aggregateCount];
+        for (int i = 0; i < aggregateCount; i++) {
+            String key = ((BString) aggregateKeys.get(i)).getValue();
+            String functionName = ((BString) aggregateFunctions.get(i)).getValue();
+            this.aggregateKeys[i] = StringUtils.fromString(key);
+            this.aggregateFunctions[i] = AggregateFunction.fromName(functionName);
+            this.aggregateFields[i] = StringUtils.fromString(getAggregateField(key, functionName));
+        }
         this.env = env;
     }
 
-    public static GroupBy initGroupByClause(Environment env, BArray groupingKeys, BArray nonGroupingKeys) {
-        return new GroupBy(env, groupingKeys, nonGroupingKeys);
+    /**
+     * Creates a `group by` clause.
+     *
+     * @param env                the environment
+     * @param groupingKeys       names of the grouping variables
+     * @param nonGroupingKeys    names of the non-grouping variables whose values are collected into arrays
+     * @param aggregateKeys      names of the non-grouping variables passed to each aggregate function
+     * @param aggregateFunctions names of the aggregate functions, such as {@code int:sum}
+     * @return the clause
+     */
+    public static GroupBy initGroupByClause(Environment env, BArray groupingKeys, BArray nonGroupingKeys,
+                                            BArray aggregateKeys, BArray aggregateFunctions) {
+        return new GroupBy(env, groupingKeys, nonGroupingKeys, aggregateKeys, aggregateFunctions);
+    }
+
+    /**
+     * Returns the frame field that holds the result of an aggregate function applied to a non-grouping variable.
+     *
+     * @param key          name of the non-grouping variable
+     * @param functionName name of the aggregate function, such as {@code int:sum}
+     * @return name of the frame field
+     */
+    public static String getAggregateField(String key, String functionName) {
+        return "$" + functionName + "$" + key;
     }
 
     @Override
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        Map<GroupKey, List<BMap<BString, Object>>> groupedData = inputStream
-                .collect(Collectors.groupingBy(
-                        frame -> new GroupKey(extractOriginalKey(frame)),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
-
-        return groupedData.values().stream().map(this::aggregateNonGroupingKeys);
+        // Only the first frame of each group is retained. The non-grouping fields of the remaining frames are
+        // aggregated into that frame as the frames arrive, so the frames can be discarded.
+        Map<EqualityKey, Group> groupedData = new LinkedHashMap<>();
+        inputStream.forEach(frame -> {
+            EqualityKey groupKey = EqualityKey.of(extractOriginalKey(frame));
+            Group group = groupedData.get(groupKey);
+            if (group == null) {
+                groupedData.put(groupKey, initGroup(frame));
+            } else {
+                aggregateNonGroupingKeys(group, frame);
+            }
+        });
+
+        return groupedData.values().stream().map(this::completeGroup);
     }
 
-    private BMap<BString, Object> aggregateNonGroupingKeys(List<BMap<BString, Object>> frames) {
-        BMap<BString, Object> groupedRecord = frames.getFirst();
+    private Group initGroup(BMap<BString, Object> frame) {
+        Object[] aggregateStates = new Object[aggregateFunctions.length];
+        for (int i = 0; i < aggregateFunctions.length; i++) {
+            try {
+                aggregateStates[i] = aggregateFunctions[i].first(frame.get(aggregateKeys[i]));
+            } catch (BError e) {
+                aggregateStates[i] = e;
+            }
+        }
+        for (int i = 0; i < nonGroupingKeys.size(); i++) {
+            BString nonGroupingKey = (BString) nonGroupingKeys.get(i);
+            BArray valuesArray = ValueCreator.createArrayValue(TYPE_ANY_ARRAY);
+            valuesArray.append(frame.get(nonGroupingKey));
+            frame.put(nonGroupingKey, valuesArray);
+        }
+        return new Group(frame, aggregateStates);
+    }
 
-        // Aggregate non-grouping fields into arrays
+    private void aggregateNonGroupingKeys(Group group, BMap<BString, Object> frame) {
+        group.count++;
+        Object[] aggregateStates = group.aggregateStates;
+        for (int i = 0; i < aggregateFunctions.length; i++) {
+            Object state = aggregateStates[i];
+            if (state instanceof BError) {
+                continue;
+            }
+            try {
+                aggregateStates[i] = aggregateFunctions[i].next(state, frame.get(aggregateKeys[i]));
+            } catch (BError e) {
+                aggregateStates[i] = e;
+            }
+        }
         for (int i = 0; i < nonGroupingKeys.size(); i++) {
             BString nonGroupingKey = (BString) nonGroupingKeys.get(i);
-            Object[] values = frames.stream()
-                    .map(f -> f.get(nonGroupingKey))
-                    .toArray();
-            BArray valuesArray = ValueCreator.createArrayValue(values, TYPE_ANY_ARRAY);
-            groupedRecord.put(nonGroupingKey, valuesArray);
+            ((BArray) group.frame.get(nonGroupingKey)).append(frame.get(nonGroupingKey));
         }
+    }
 
-        return groupedRecord;
+    private BMap<BString, Object> completeGroup(Group group) {
+        BMap<BString, Object> frame = group.frame;
+        for (int i = 0; i < aggregateFunctions.length; i++) {
+            Object state = group.aggregateStates[i];
+            if (!(state instanceof BError)) {
+                try {
+                    state = aggregateFunctions[i].result(state, group.count);
+                } catch (BError e) {
+                    state = e;
+                }
+            }
+            frame.put(aggregateFields[i], state);
+        }
+        return frame;
     }
 
     private BMap<BString, Object> extractOriginalKey(BMap<BString, Object> frame) {
@@ -104,23 +192,15 @@ public class GroupBy implements QueryClause {
         return keyMap;
     }
 
-    // Custom key wrapper for deep equality grouping
-    private record GroupKey(BMap<BString, Object> keyMap) {
+    private static final class Group {
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (!(o instanceof GroupKey other)) {
-                return false;
-            }
-            return TypeChecker.isEqual(this.keyMap, other.keyMap);
-        }
+        private final BMap<BString, Object> frame;
+        private final Object[] aggregateStates;
+        private int count = 1;
 
-        @Override
-        public int hashCode() {
-            return GROUP_KEY_CONSTANT;
+        private Group(BMap<BString, Object> frame, Object[] aggregateStates) {
+            this.frame = frame;
+            this.aggregateStates = aggregateStates;
         }
     }
 }
@@ -19,13 +19,16 @@
 package io.ballerina.runtime.internal.query.clauses;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.pipeline.StreamPipeline;
+import io.ballerina.runtime.internal.query.utils.EqualityKey;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
+import io.ballerina.runtime.internal.values.TableIndex;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,8 +37,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
-
 /**
  * Represents an Inner Join Clause in the query pipeline.
  *
@@ -45,7 +46,10 @@ public class InnerJoin implements QueryClause {
     private final StreamPipeline pipelineToJoin;
     private final BFunctionPointer lhsKeyFunction;
     private final BFunctionPointer rhsKeyFunction;
-    private final Map<String, List<BMap<BString, Object>>> rhsFramesMap = new HashMap<>();
+    private final BString rhsKeyField;
+    private final Map<EqualityKey, List<BMap<BString, Object>>> rhsFramesMap = new HashMap<>();
+    private boolean rhsFramesInitialized = false;
+    private TableIndex rhsIndex = null;
     private BError failureAtJoin = null;
     private final Environment env;
 
@@ -56,14 +60,15 @@ public class InnerJoin implements QueryClause {
      * @param pipelineToJoin The pipeline representing the right-hand side of the join.
      * @param lhsKeyFunction The function to extract the join key from the left-hand side.
      * @param rhsKeyFunction The function to extract the join key from the right-hand side.
+     * @param rhsKeyField The field of the right-hand side rows used as the join key, or null if there is none.
      */
     private InnerJoin(Environment env, StreamPipeline pipelineToJoin,
-                      BFunctionPointer lhsKeyFunction, BFunctionPointer rhsKeyFunction) {
+                      BFunctionPointer lhsKeyFunction, BFunctionPointer rhsKeyFunction, BString rhsKeyField) {
         this.pipelineToJoin = pipelineToJoin;
         this.lhsKeyFunction = lhsKeyFunction;
         this.rhsKeyFunction = rhsKeyFunction;
+        this.rhsKeyField = rhsKeyField;
         this.env = env;
-        initializeRhsFrames();
     }
 
     /**
@@ -79,13 +84,50 @@ public class InnerJoin implements QueryClause {
                                                 StreamPipeline pipelineToJoin,
                                                 BFunctionPointer lhsKeyFunction,
                                                 BFunctionPointer rhsKeyFunction) {
-        return new InnerJoin(env, pipelineToJoin, lhsKeyFunction, rhsKeyFunction);
+        return new InnerJoin(env, pipelineToJoin, lhsKeyFunction, rhsKeyFunction, null);
+    }
+
+    /**
+     * Initializes an inner join clause whose right-hand side key is a field of the rows being joined, such as
+     * `y.id`. When the right-hand side is a table with an index over the field, the rows matching each left-hand
+     * side key are looked up in the index instead of being collected into a map.
+     *
+     * @param env The runtime environment.
+     * @param pipelineToJoin The pipeline representing the right-hand side of the join.
+     * @param lhsKeyFunction The function to extract the join key from the left-hand side.
+     * @param rhsKeyFunction The function to extract the join key from the right-hand side.
+     * @param rhsKeyField The field of the right-hand side rows used as the join key.
+     * @return The initialized InnerJoin.
+     */
+    public static InnerJoin initInnerJoinClause(Environment env,
+                                                StreamPipeline pipelineToJoin,
+                                                BFunctionPointer lhsKeyFunction,
+                                                BFunctionPointer rhsKeyFunction,
+                                                BString rhsKeyField) {
+        return new InnerJoin(env, pipelineToJoin, lhsKeyFunction, rhsKeyFunction, rhsKeyField);
     }
 
     /**
-     * Initializes the right-hand side (RHS) frames by processing the pipeline.
+     * Looks up the index of the right-hand side table over the key field. The index is kept for the rest of the
+     * query, so that the rows joined are the rows the table had when the first left-hand side frame arrived, as
+     * when the right-hand side frames are collected into a map.
+     */
+    private void initializeRhsIndex() {
+        if (rhsKeyField != null && pipelineToJoin.getCollection() instanceof TableValueImpl<?, ?> table) {
+            rhsIndex = table.getIndex(rhsKeyField);
+        }
+        if (rhsIndex == null) {
+            initializeRhsFrames();
+        }
+    }
+
+    /**
+     * Initializes the right-hand side (RHS) frames by processing the pipeline. This is deferred until the first
+     * left-hand side frame arrives, so the RHS is not materialised for a query that is never consumed or that has
+     * no LHS frames.
      */
     private void initializeRhsFrames() {
+        rhsFramesInitialized = true;
         try {
             Stream<BMap<BString, Object>> strm = ((StreamPipeline) StreamPipeline
                             .getStreamFromPipeline(pipelineToJoin)).getStream();
@@ -95,7 +137,7 @@ public class InnerJoin implements QueryClause {
                     failureAtJoin = error;
                     return;
                 }
-                rhsFramesMap.computeIfAbsent(key.toString(), k -> new ArrayList<>()).add(frame);
+                rhsFramesMap.computeIfAbsent(EqualityKey.of(key), k -> new ArrayList<>()).add(frame);
             });
         } catch (QueryException e) {
             failureAtJoin = e.getError();
@@ -112,6 +154,9 @@ public class InnerJoin implements QueryClause {
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
         return inputStream.flatMap(lhsFrame -> {
             try {
+                if (!rhsFramesInitialized && rhsIndex == null) {
+                    initializeRhsIndex();
+                }
                 if (failureAtJoin != null) {
                     throw new QueryException(failureAtJoin);
                 }
@@ -119,8 +164,22 @@ public class InnerJoin implements QueryClause {
                 if (lhsKey instanceof BError error) {
                     throw new QueryException(error);
                 }
+                if (rhsIndex != null) {
+                    List<Object> rhsRows = rhsIndex.lookUp(TableIndex.EQUAL, lhsKey);
+                    if (rhsRows != null) {
+                        return rhsRows.stream()
+                                .flatMap(rhsRow -> pipelineToJoin.processMember(rhsRow).stream())
+                                .map(rhsFrame -> mergeFrames(lhsFrame, rhsFrame));
+                    }
+                    // The index cannot look up keys of this type, so fall back to the map of the frames.
+                    rhsIndex = null;
+                    initializeRhsFrames();
+                    if (failureAtJoin != null) {
+                        throw new QueryException(failureAtJoin);
+                    }
+                }
                 List<BMap<BString, Object>> rhsCandidates = rhsFramesMap
-                        .getOrDefault(lhsKey.toString(), Collections.emptyList());
+                        .getOrDefault(EqualityKey.of(lhsKey), Collections.emptyList());
                 return rhsCandidates.stream()
                         .map(rhsFrame -> mergeFrames(lhsFrame, rhsFrame));
 
@@ -138,7 +197,7 @@ public class InnerJoin implements QueryClause {
      * @return A merged frame.
      */
     private BMap<BString, Object> mergeFrames(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
-        BMap<BString, Object> result = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
+        BMap<BString, Object> result = FrameUtils.createFrame();
         lhs.entrySet().forEach(entry ->
                 result.put(entry.getKey(), entry.getValue())
         );
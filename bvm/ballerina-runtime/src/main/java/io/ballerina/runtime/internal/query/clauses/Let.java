@@ -25,14 +25,12 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
-import java.util.stream.Stream;
-
 /**
  * Represents a `let` clause in the query pipeline that modifies frames.
  *
  * @since 2201.13.0
  */
-public class Let implements QueryClause {
+public class Let implements FrameClause {
     private final BFunctionPointer frameModifier;
     private final Environment env;
 
@@ -59,19 +57,22 @@ public class Let implements QueryClause {
     }
 
     /**
-     * Processes a stream of frames by applying the modifier function to each frame.
+     * Processes a frame by applying the modifier function to it.
      *
-     * @param inputStream The input stream of frames.
-     * @return A stream of modified frames.
+     * @param frame The frame to process.
+     * @return The modified frame.
      */
     @Override
-    public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        return inputStream.map(frame -> {
-            Object result = frameModifier.call(env.getRuntime(), frame);
-            if (result instanceof BMap<?, ?> map) {
-                return (BMap<BString, Object>) map;
-            }
-            throw new QueryException((BError) result);
-        });
+    public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+        Object result = frameModifier.call(env.getRuntime(), frame);
+        if (result instanceof BMap<?, ?> map) {
+            return (BMap<BString, Object>) map;
+        }
+        throw new QueryException((BError) result);
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return QueryClause.isIsolated(frameModifier);
     }
 }
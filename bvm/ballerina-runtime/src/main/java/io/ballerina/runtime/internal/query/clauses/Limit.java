@@ -19,17 +19,16 @@
 package io.ballerina.runtime.internal.query.clauses;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.stream.Stream;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.LIMIT_NEGATIVE_ERROR;
 
 /**
@@ -40,6 +39,7 @@ import static io.ballerina.runtime.internal.query.utils.QueryConstants.LIMIT_NEG
 public class Limit implements QueryClause {
     private final BFunctionPointer limitFunction;
     private final Environment env;
+    private Object limitResult;
 
     /**
      * Constructor for the Limit.
@@ -71,17 +71,30 @@ public class Limit implements QueryClause {
      */
     @Override
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        BMap<BString, Object> record = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
-        Object limitResult = limitFunction.call(env.getRuntime(), record);
+        Object limitResult = evaluateLimit();
         if (limitResult instanceof BError error) {
             return Stream.generate(() -> {
                 throw new QueryException(error);
             });
         }
-        Long limit = (Long) limitResult;
-        if (limit < 1) {
+        return inputStream.limit((Long) limitResult);
+    }
+
+    /**
+     * Evaluates the limit function. The function is only called once per clause.
+     *
+     * @return The limit, or the error returned by the limit function.
+     */
+    public Object evaluateLimit() {
+        if (limitResult != null) {
+            return limitResult;
+        }
+        BMap<BString, Object> record = FrameUtils.createFrame();
+        Object result = limitFunction.call(env.getRuntime(), record);
+        if (!(result instanceof BError) && (Long) result < 1) {
             throw new ErrorValue(LIMIT_NEGATIVE_ERROR);
         }
-        return inputStream.limit(limit);
+        limitResult = result;
+        return result;
     }
 }
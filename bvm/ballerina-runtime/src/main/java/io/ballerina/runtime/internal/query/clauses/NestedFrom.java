@@ -19,11 +19,11 @@
 package io.ballerina.runtime.internal.query.clauses;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.IteratorUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
@@ -32,7 +32,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
 
 /**
@@ -83,7 +82,7 @@ public class NestedFrom implements QueryClause {
             try {
                 while (itr.hasNext()) {
                     Object item = itr.next();
-                    BMap<BString, Object> newRecord = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
+                    BMap<BString, Object> newRecord = FrameUtils.createFrame();
                     frame.entrySet().forEach(entry -> {
                         BString key = entry.getKey();
                         Object value = entry.getValue();
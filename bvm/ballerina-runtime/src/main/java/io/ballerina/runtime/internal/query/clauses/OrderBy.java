@@ -27,7 +27,9 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.ORDER_DIRECTION;
@@ -39,6 +41,8 @@ import static io.ballerina.runtime.internal.query.utils.QueryConstants.ORDER_KEY
  * @since 2201.13.0
  */
 public class OrderBy implements QueryClause {
+    private static final int INITIAL_HEAP_CAPACITY = 1024;
+
     private final BFunctionPointer orderKeyFunction;
     private final Environment env;
 
@@ -53,12 +57,54 @@ public class OrderBy implements QueryClause {
 
     @Override
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        return inputStream.peek(frame -> {
-            Object result = orderKeyFunction.call(env.getRuntime(), frame);
-            if (result instanceof BError error) {
-                throw new QueryException(error);
+        return inputStream.peek(this::computeOrderKey).sorted(getComparator());
+    }
+
+    /**
+     * Sorts a stream of frames and keeps only the first `limit` frames. Used when the `order by` clause is directly
+     * followed by a `limit` clause, so that only `limit` frames are held in memory instead of the whole input.
+     *
+     * @param inputStream The input stream of frames.
+     * @param limit       The maximum number of frames to keep.
+     * @return A sorted stream of at most `limit` frames.
+     */
+    public Stream<BMap<BString, Object>> processWithLimit(Stream<BMap<BString, Object>> inputStream, long limit) {
+        if (limit >= Integer.MAX_VALUE) {
+            return process(inputStream).limit(limit);
+        }
+        // Defer the sorting until the stream is consumed, as `sorted` does.
+        return Stream.of(inputStream).flatMap(frames -> selectFirstFrames(frames, (int) limit));
+    }
+
+    private Stream<BMap<BString, Object>> selectFirstFrames(Stream<BMap<BString, Object>> inputStream, int limit) {
+        // The sequence number keeps the sort stable. The heap head is the frame that would be ordered last, so it is
+        // the one to evict when a frame that is ordered before it arrives.
+        Comparator<SequencedFrame> comparator = Comparator.<SequencedFrame, BMap<BString, Object>>comparing(
+                SequencedFrame::frame, getComparator()).thenComparingLong(SequencedFrame::sequence);
+        PriorityQueue<SequencedFrame> heap = new PriorityQueue<>(Math.min(limit, INITIAL_HEAP_CAPACITY),
+                comparator.reversed());
+        long[] sequence = {0};
+        inputStream.forEach(frame -> {
+            computeOrderKey(frame);
+            SequencedFrame sequencedFrame = new SequencedFrame(sequence[0]++, frame);
+            if (heap.size() < limit) {
+                heap.add(sequencedFrame);
+            } else if (comparator.compare(sequencedFrame, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(sequencedFrame);
             }
-        }).sorted(getComparator());
+        });
+
+        SequencedFrame[] frames = heap.toArray(new SequencedFrame[0]);
+        Arrays.sort(frames, comparator);
+        return Arrays.stream(frames).map(SequencedFrame::frame);
+    }
+
+    private void computeOrderKey(BMap<BString, Object> frame) {
+        Object result = orderKeyFunction.call(env.getRuntime(), frame);
+        if (result instanceof BError error) {
+            throw new QueryException(error);
+        }
     }
 
     private Comparator<BMap<BString, Object>> getComparator() {
@@ -83,4 +129,7 @@ public class OrderBy implements QueryClause {
             return 0;
         };
     }
+
+    private record SequencedFrame(long sequence, BMap<BString, Object> frame) {
+    }
 }
@@ -25,6 +25,8 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.pipeline.StreamPipeline;
+import io.ballerina.runtime.internal.query.utils.EqualityKey;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
 import java.util.ArrayList;
@@ -34,8 +36,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
-
 /**
  * Represents an Outer Join Clause in the query pipeline.
  *
@@ -45,7 +45,8 @@ public class OuterJoin implements QueryClause {
     private final StreamPipeline pipelineToJoin;
     private final BFunctionPointer lhsKeyFunction;
     private final BFunctionPointer rhsKeyFunction;
-    private final Map<String, List<BMap<BString, Object>>> rhsFramesMap = new HashMap<>();
+    private final Map<EqualityKey, List<BMap<BString, Object>>> rhsFramesMap = new HashMap<>();
+    private boolean rhsFramesInitialized = false;
     private final BMap<BString, Object> nilFrame;
     private BError failureAtJoin = null;
     private final Environment env;
@@ -63,9 +64,8 @@ public class OuterJoin implements QueryClause {
         this.pipelineToJoin = pipelineToJoin;
         this.lhsKeyFunction = lhsKeyFunction;
         this.rhsKeyFunction = rhsKeyFunction;
-        this.nilFrame = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
+        this.nilFrame = FrameUtils.createFrame();
         this.env = env;
-        initializeRhsFrames();
     }
 
     /**
@@ -85,9 +85,12 @@ public class OuterJoin implements QueryClause {
     }
 
     /**
-     * Initializes the right-hand side (RHS) frames by processing the pipeline.
+     * Initializes the right-hand side (RHS) frames by processing the pipeline. This is deferred until the first
+     * left-hand side frame arrives, so the RHS is not materialised for a query that is never consumed or that has
+     * no LHS frames.
      */
     private void initializeRhsFrames() {
+        rhsFramesInitialized = true;
         try {
             Stream<BMap<BString, Object>> strm = ((StreamPipeline) StreamPipeline
                     .getStreamFromPipeline(pipelineToJoin)).getStream();
@@ -97,7 +100,7 @@ public class OuterJoin implements QueryClause {
                     failureAtJoin = error;
                     return;
                 }
-                rhsFramesMap.computeIfAbsent(key.toString(), k -> new ArrayList<>()).add(frame);
+                rhsFramesMap.computeIfAbsent(EqualityKey.of(key), k -> new ArrayList<>()).add(frame);
             });
         } catch (QueryException e) {
             failureAtJoin = e.getError();
@@ -114,6 +117,9 @@ public class OuterJoin implements QueryClause {
     public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
         return inputStream.flatMap(lhsFrame -> {
             try {
+                if (!rhsFramesInitialized) {
+                    initializeRhsFrames();
+                }
                 if (failureAtJoin != null) {
                     throw new QueryException(failureAtJoin);
                 }
@@ -122,7 +128,7 @@ public class OuterJoin implements QueryClause {
                     throw new QueryException(error);
                 }
                 List<BMap<BString, Object>> rhsCandidates = rhsFramesMap
-                        .getOrDefault(lhsKey.toString(), Collections.emptyList());
+                        .getOrDefault(EqualityKey.of(lhsKey), Collections.emptyList());
                 if (rhsCandidates.isEmpty()) {
                     // No matching RHS frames, join with nilFrame
                     BMap<BString, Object> joinedFrame = ValueCreator.createMapValue();
@@ -151,7 +157,7 @@ public class OuterJoin implements QueryClause {
      * @return A merged frame.
      */
     private BMap<BString, Object> mergeFrames(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
-        BMap<BString, Object> result = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
+        BMap<BString, Object> result = FrameUtils.createFrame();
         lhs.entrySet().forEach(entry ->
                 result.put(entry.getKey(), entry.getValue())
         );
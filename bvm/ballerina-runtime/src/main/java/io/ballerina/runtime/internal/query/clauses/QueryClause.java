@@ -18,8 +18,10 @@
 
 package io.ballerina.runtime.internal.query.clauses;
 
+import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.FPValue;
 
 import java.util.stream.Stream;
 
@@ -38,4 +40,18 @@ public interface QueryClause {
      * @return The transformed stream of frames.
      */
     Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream);
+
+    /**
+     * Checks whether different frames of the same query can be processed by this clause concurrently. This holds
+     * for clauses that process each frame independently of the others by calling only isolated functions.
+     *
+     * @return True if the frames can be processed concurrently.
+     */
+    default boolean isParallelizable() {
+        return false;
+    }
+
+    static boolean isIsolated(BFunctionPointer function) {
+        return function instanceof FPValue fpValue && fpValue.metadata.isConcurrentSafe();
+    }
 }
@@ -25,14 +25,12 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 
-import java.util.stream.Stream;
-
 /**
  * Represents a `select` clause in the query pipeline that processes a stream of frames.
  *
  * @since 2201.13.0
  */
-public class Select implements QueryClause {
+public class Select implements FrameClause {
     private final BFunctionPointer selector;
     private final Environment env;
 
@@ -59,21 +57,24 @@ public class Select implements QueryClause {
     }
 
     /**
-     * Processes a stream of frames by applying the selector function to each frame.
+     * Processes a frame by applying the selector function to it.
      *
-     * @param inputStream The input stream of frames.
-     * @return A transformed stream of frames.
+     * @param frame The frame to process.
+     * @return The transformed frame.
      */
     @Override
-    public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) throws BError {
-        return inputStream.map(frame -> {
-            Object result = selector.call(env.getRuntime(), frame);
-            if (result instanceof BMap<?, ?> map) {
-                return (BMap<BString, Object>) map;
-            } else if (result instanceof BError error) {
-                throw new QueryException(error);
-            }
-            return frame;
-        });
+    public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+        Object result = selector.call(env.getRuntime(), frame);
+        if (result instanceof BMap<?, ?> map) {
+            return (BMap<BString, Object>) map;
+        } else if (result instanceof BError error) {
+            throw new QueryException(error);
+        }
+        return frame;
+    }
+
+    @Override
+    public boolean isParallelizable() {
+        return QueryClause.isIsolated(selector);
     }
 }
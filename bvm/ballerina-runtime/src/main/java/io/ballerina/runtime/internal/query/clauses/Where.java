@@ -23,28 +23,41 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
+import io.ballerina.runtime.internal.values.TableIndex;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 /**
  * Represents a `where` clause in the query pipeline that filters a stream of frames.
  *
  * @since 2201.13.0
  */
-public class Where implements QueryClause {
+public class Where implements FrameClause {
     private final BFunctionPointer filterFunc;
     private final Environment env;
+    private final BString indexedField;
+    private final String operator;
+    private final BFunctionPointer operandFunc;
 
     /**
      * Constructor for the Where.
      *
-     * @param env        The runtime environment.
-     * @param filterFunc The function to filter frames.
+     * @param env          The runtime environment.
+     * @param filterFunc   The function to filter frames.
+     * @param indexedField The field of the source rows compared by the filter, or null if there is none.
+     * @param operator     The operator the field is compared with.
+     * @param operandFunc  The function that returns the value the field is compared with.
      */
-    private Where(Environment env, BFunctionPointer filterFunc) {
+    private Where(Environment env, BFunctionPointer filterFunc, BString indexedField, String operator,
+                  BFunctionPointer operandFunc) {
         this.filterFunc = filterFunc;
         this.env = env;
+        this.indexedField = indexedField;
+        this.operator = operator;
+        this.operandFunc = operandFunc;
     }
 
     /**
@@ -55,23 +68,65 @@ public class Where implements QueryClause {
      * @return A new instance of Where.
      */
     public static Where initWhereClause(Environment env, BFunctionPointer filterFunc) {
-        return new Where(env, filterFunc);
+        return new Where(env, filterFunc, null, null, null);
+    }
+
+    /**
+     * Static initializer for a Where whose filter compares a field of the source rows with a value that does not
+     * depend on the frame, such as `x.id == id`.
+     *
+     * @param env          The runtime environment.
+     * @param filterFunc   The filter function.
+     * @param indexedField The field of the source rows compared by the filter.
+     * @param operator     The operator the field is compared with, one of `==`, `<`, `<=`, `>` and `>=`.
+     * @param operandFunc  The function that returns the value the field is compared with.
+     * @return A new instance of Where.
+     */
+    public static Where initWhereClause(Environment env, BFunctionPointer filterFunc, BString indexedField,
+                                        BString operator, BFunctionPointer operandFunc) {
+        return new Where(env, filterFunc, indexedField, operator.getValue(), operandFunc);
     }
 
     /**
-     * Filters a stream of frames by applying the filter function to each frame.
+     * Looks up the rows of a table that can satisfy the filter, using an index over the compared field. The filter
+     * is still applied to the frames of these rows.
      *
-     * @param inputStream The input stream of frames.
-     * @return A filtered stream of frames.
+     * @param table The table the query iterates over.
+     * @return The rows in table order, or null if the rows cannot be looked up.
      */
+    public List<Object> getIndexedRows(TableValueImpl<?, ?> table) {
+        if (indexedField == null) {
+            return null;
+        }
+        TableIndex index = table.getIndex(indexedField);
+        if (index == null) {
+            return null;
+        }
+        Object operand = operandFunc.call(env.getRuntime(), FrameUtils.createFrame());
+        if (operand instanceof BError) {
+            // Leave it to the filter to report the error.
+            return null;
+        }
+        return index.lookUp(operator, operand);
+    }
+
+    /**
+     * Filters a frame by applying the filter function to it.
+     *
+     * @param frame The frame to filter.
+     * @return The frame if it satisfies the filter function, or null otherwise.
+     */
+    @Override
+    public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+        Object result = filterFunc.call(env.getRuntime(), frame);
+        if (result instanceof Boolean booleanValue) {
+            return booleanValue ? frame : null;
+        }
+        throw new QueryException((BError) result);
+    }
+
     @Override
-    public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
-        return inputStream.filter(frame -> {
-            Object result = filterFunc.call(env.getRuntime(), frame);
-            if (result instanceof Boolean booleanValue) {
-                return booleanValue;
-            }
-            throw new QueryException((BError) result);
-        });
+    public boolean isParallelizable() {
+        return QueryClause.isIsolated(filterFunc);
     }
 }
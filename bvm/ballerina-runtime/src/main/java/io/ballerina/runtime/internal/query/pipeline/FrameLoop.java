@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.pipeline;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.query.clauses.FrameClause;
+import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
+
+/**
+ * Runs the clauses of a query with a single input clause in one loop over the source.
+ * <p>
+ * The compiler marks a query for this when it has a single `from` clause followed only by `let`, `where` and
+ * `select` clauses, none of which contain functions or queries that can outlive the clause. The variables of such a
+ * query are read from the frame by each clause before it returns, and the collected value of a frame is read before
+ * the next member of the source is processed. So a single frame is reused for all the members, instead of creating a
+ * frame and a stream stage per member and clause.
+ *
+ * @since 2201.13.0
+ */
+final class FrameLoop {
+
+    private FrameLoop() {
+    }
+
+    static boolean canExecute(List<QueryClause> clauses) {
+        for (QueryClause clause : clauses) {
+            if (!(clause instanceof FrameClause)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Stream<BMap<BString, Object>> execute(Iterator<?> source, List<QueryClause> clauses) {
+        FrameClause[] stages = clauses.toArray(new FrameClause[0]);
+        BMap<BString, Object> frame = FrameUtils.createFrame();
+        Spliterator<BMap<BString, Object>> frames = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super BMap<BString, Object>> action) {
+                while (source.hasNext()) {
+                    frame.put(VALUE_FIELD, source.next());
+                    BMap<BString, Object> result = processFrame(stages, frame);
+                    if (result != null) {
+                        action.accept(result);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(frames, false);
+    }
+
+    private static BMap<BString, Object> processFrame(FrameClause[] stages, BMap<BString, Object> frame) {
+        BMap<BString, Object> result = frame;
+        for (FrameClause stage : stages) {
+            result = stage.processFrame(result);
+            if (result == null) {
+                return null;
+            }
+        }
+        return result;
+    }
+}
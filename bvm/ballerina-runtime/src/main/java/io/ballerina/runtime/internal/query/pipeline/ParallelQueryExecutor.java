@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.pipeline;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.query.utils.IteratorUtils;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_RUNTIME_PKG_ID;
+
+/**
+ * Runs the clauses of a query over an array source on several strands at once.
+ * <p>
+ * The mode is opt-in, and is enabled by setting the {@code queryParallelThreshold} configurable variable of the
+ * {@code ballerina/lang.runtime} module to the minimum source size for which it is used. A query qualifies when all
+ * of its clauses process each frame independently by calling only isolated functions, and when the array elements
+ * cannot be mutated. The source is split into contiguous chunks, each chunk is processed on its own strand, and the
+ * results are concatenated in source order, so the result is the same as that of the sequential pipeline.
+ * <p>
+ * Isolated functions can still have side effects, such as logging or updating isolated objects. These side effects
+ * are not ordered as in the sequential pipeline: frames of later chunks can be processed before frames of earlier
+ * chunks. When a chunk fails, the chunks after it stop processing frames, while the chunks before it run to
+ * completion, so that the error reported is the one the sequential pipeline would have run into first.
+ *
+ * @since 2201.13.0
+ */
+public final class ParallelQueryExecutor {
+
+    private static final VariableKey PARALLEL_THRESHOLD_KEY = new VariableKey(BALLERINA_RUNTIME_PKG_ID,
+            "queryParallelThreshold", PredefinedTypes.TYPE_INT, false);
+    // Read when the first query is run, since the configurable values are read before that.
+    private static final int PARALLEL_THRESHOLD = getParallelThreshold();
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final String QUERY_STRAND_NAME = "query";
+
+    private ParallelQueryExecutor() {
+    }
+
+    /**
+     * Reads the minimum source size for parallel execution from the configurable variables of the
+     * {@code ballerina/lang.runtime} module.
+     *
+     * @return configured threshold, or 0 if parallel execution is disabled
+     */
+    static int getParallelThreshold() {
+        if (!ConfigMap.containsKey(PARALLEL_THRESHOLD_KEY)) {
+            return 0;
+        }
+        return Math.clamp((Long) ConfigMap.get(PARALLEL_THRESHOLD_KEY), 0, Integer.MAX_VALUE);
+    }
+
+    static boolean canExecute(Object collection, List<QueryClause> clauses) {
+        return canExecute(collection, clauses, PARALLEL_THRESHOLD, PARALLELISM);
+    }
+
+    static boolean canExecute(Object collection, List<QueryClause> clauses, int threshold, int parallelism) {
+        if (threshold <= 0 || parallelism < 2 || !(collection instanceof BArray source) ||
+                source.size() < threshold || !hasImmutableMembers(source)) {
+            return false;
+        }
+        for (QueryClause clause : clauses) {
+            if (!clause.isParallelizable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Stream<BMap<BString, Object>> execute(Environment env, BArray source, List<QueryClause> clauses) {
+        return execute(((BalRuntime) env.getRuntime()).scheduler, source, clauses, PARALLELISM);
+    }
+
+    static Stream<BMap<BString, Object>> execute(Scheduler scheduler, BArray source, List<QueryClause> clauses,
+                                                 int parallelism) {
+        // Defer the execution until the stream is consumed, as the sequential pipeline does.
+        return Stream.of(source).flatMap(array -> processInParallel(scheduler, array, clauses, parallelism).stream());
+    }
+
+    private static boolean hasImmutableMembers(BArray source) {
+        if (source.isFrozen()) {
+            return true;
+        }
+        Type sourceType = TypeUtils.getImpliedType(source.getType());
+        return sourceType.getTag() == TypeTags.ARRAY_TAG && ((ArrayType) sourceType).getElementType().isReadOnly();
+    }
+
+    private static List<BMap<BString, Object>> processInParallel(Scheduler scheduler, BArray source,
+                                                                 List<QueryClause> clauses, int parallelism) {
+        Strand parentStrand = Scheduler.getStrand();
+        int size = source.size();
+        int chunkSize = (size + parallelism - 1) / parallelism;
+        AtomicInteger firstFailedChunk = new AtomicInteger(Integer.MAX_VALUE);
+        List<CompletableFuture<List<BMap<BString, Object>>>> chunkResults = new ArrayList<>(parallelism);
+        for (int start = 0; start < size; start += chunkSize) {
+            int chunk = chunkResults.size();
+            int chunkStart = start;
+            int chunkEnd = Math.min(start + chunkSize, size);
+            chunkResults.add(scheduler.startIsolatedTask(parentStrand, QUERY_STRAND_NAME,
+                    () -> processChunk(source, chunk, chunkStart, chunkEnd, clauses, firstFailedChunk)));
+        }
+
+        if (parentStrand == null) {
+            return collectResults(chunkResults);
+        }
+        // The non-isolated lock and the strand slot are released while waiting, since the chunks do not need them.
+        return (List<BMap<BString, Object>>) AsyncUtils.handleBlockingStrand(parentStrand,
+                () -> collectResults(chunkResults));
+    }
+
+    private static List<BMap<BString, Object>> processChunk(BArray source, int chunk, int start, int end,
+                                                            List<QueryClause> clauses,
+                                                            AtomicInteger firstFailedChunk) {
+        // The results of a chunk after a failed chunk are discarded, so it stops processing further frames.
+        Stream<Object> members = IntStream.range(start, end)
+                .takeWhile(i -> firstFailedChunk.get() > chunk)
+                .mapToObj(source::get);
+        Stream<BMap<BString, Object>> stream = IteratorUtils.toStream(members.iterator());
+        for (QueryClause clause : clauses) {
+            stream = clause.process(stream);
+        }
+        try {
+            return stream.toList();
+        } catch (RuntimeException e) {
+            firstFailedChunk.accumulateAndGet(chunk, Math::min);
+            throw e;
+        }
+    }
+
+    private static List<BMap<BString, Object>> collectResults(
+            List<CompletableFuture<List<BMap<BString, Object>>>> chunkResults) {
+        List<BMap<BString, Object>> results = new ArrayList<>();
+        RuntimeException failure = null;
+        // All the chunks are waited for, and the failure of the earliest chunk is reported, which is the failure the
+        // sequential pipeline would have run into first.
+        for (CompletableFuture<List<BMap<BString, Object>>> chunkResult : chunkResults) {
+            try {
+                List<BMap<BString, Object>> frames = chunkResult.join();
+                if (failure == null) {
+                    results.addAll(frames);
+                }
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+}
@@ -19,19 +19,27 @@
 package io.ballerina.runtime.internal.query.pipeline;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.query.clauses.Limit;
+import io.ballerina.runtime.internal.query.clauses.OrderBy;
 import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.query.clauses.Where;
+import io.ballerina.runtime.internal.query.utils.FrameUtils;
 import io.ballerina.runtime.internal.query.utils.IteratorUtils;
 import io.ballerina.runtime.internal.query.utils.QueryException;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
+
 /**
  * A class that represents a stream pipeline for processing data.
  *
@@ -44,8 +52,10 @@ public class StreamPipeline {
     private final BTypedesc constraintType;
     private final BTypedesc completionType;
     private final boolean isLazyLoading;
+    private final boolean reusesFrames;
     private final Environment env;
     private final Iterator<?> itr;
+    private final Object collection;
 
     /**
      * Constructor for creating a StreamPipeline.
@@ -54,17 +64,21 @@ public class StreamPipeline {
      * @param constraintType  The type descriptor for the constraint type.
      * @param completionType  The type descriptor for the completion type.
      * @param isLazyLoading   Flag to indicate if lazy loading is enabled.
+     * @param reusesFrames    Flag to indicate if a single frame can be reused for all the members of the collection.
      */
     private StreamPipeline(Environment env,
                           Object collection,
                           BTypedesc constraintType,
                           BTypedesc completionType,
-                          boolean isLazyLoading) {
+                          boolean isLazyLoading,
+                          boolean reusesFrames) {
         this.env = env;
         this.clauseList = new ArrayList<>();
         this.constraintType = constraintType;
         this.completionType = completionType;
         this.isLazyLoading = isLazyLoading;
+        this.reusesFrames = reusesFrames;
+        this.collection = collection;
         this.itr = IteratorUtils.getIterator(env, collection);
         this.stream = initializeFrameStream(itr);
     }
@@ -77,15 +91,18 @@ public class StreamPipeline {
      * @param constraintType The type descriptor for the constraint type.
      * @param completionType The type descriptor for the completion type.
      * @param isLazyLoading Flag to indicate if lazy loading is enabled.
+     * @param reusesFrames Flag to indicate if a single frame can be reused for all the members of the collection.
      * @return The stream pipeline.
      */
     public static Object initStreamPipeline(Environment env,
                                                 Object collection,
                                                 BTypedesc constraintType,
                                                 BTypedesc completionType,
-                                                boolean isLazyLoading) {
+                                                boolean isLazyLoading,
+                                                boolean reusesFrames) {
         try {
-            return new StreamPipeline(env, collection, constraintType, completionType, isLazyLoading);
+            return new StreamPipeline(env, collection, constraintType, completionType, isLazyLoading,
+                    reusesFrames);
         } catch (ErrorValue e) {
             return e;
         }
@@ -129,11 +146,68 @@ public class StreamPipeline {
      * Processes the stream through all the pipeline stages.
      */
     public void execute() {
-        for (QueryClause clause : clauseList) {
+        if (!isLazyLoading && ParallelQueryExecutor.canExecute(collection, clauseList)) {
+            stream = ParallelQueryExecutor.execute(env, (BArray) collection, clauseList);
+            return;
+        }
+        Iterator<?> source = itr;
+        List<Object> indexedRows = getIndexedRows();
+        if (indexedRows != null) {
+            source = indexedRows.iterator();
+            stream = initializeFrameStream(source);
+        }
+        if (reusesFrames && FrameLoop.canExecute(clauseList)) {
+            stream = FrameLoop.execute(source, clauseList);
+            return;
+        }
+        for (int i = 0; i < clauseList.size(); i++) {
+            QueryClause clause = clauseList.get(i);
+            // An `order by` directly followed by a `limit` only needs to keep the first `limit` frames.
+            if (clause instanceof OrderBy orderBy && i + 1 < clauseList.size() &&
+                    clauseList.get(i + 1) instanceof Limit limit && limit.evaluateLimit() instanceof Long limitValue) {
+                stream = orderBy.processWithLimit(stream, limitValue);
+                i++;
+                continue;
+            }
             stream = clause.process(stream);
         }
     }
 
+    /**
+     * Runs the stages of this pipeline on a single member of its collection, without iterating over the collection.
+     *
+     * @param member The member to process.
+     * @return The frames the stages produce for the member.
+     */
+    public List<BMap<BString, Object>> processMember(Object member) {
+        BMap<BString, Object> frame = FrameUtils.createFrame();
+        frame.put(VALUE_FIELD, member);
+        Stream<BMap<BString, Object>> frames = Stream.of(frame);
+        for (QueryClause clause : clauseList) {
+            frames = clause.process(frames);
+        }
+        return frames.toList();
+    }
+
+    public Object getCollection() {
+        return collection;
+    }
+
+    /**
+     * Looks up the rows that can satisfy a `where` clause right after the `from` clause, when the query iterates over
+     * a table with an index over the field the clause compares. Queries that return a stream iterate over the table
+     * as it is consumed, so they do not use an index.
+     *
+     * @return The rows in table order, or null if the rows cannot be looked up.
+     */
+    private List<Object> getIndexedRows() {
+        if (isLazyLoading || !(collection instanceof TableValueImpl<?, ?> table) || clauseList.size() < 2 ||
+                !(clauseList.get(1) instanceof Where where)) {
+            return null;
+        }
+        return where.getIndexedRows(table);
+    }
+
     /**
      * Initializes a stream of records from the provided Ballerina collection.
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.query.utils.QueryConstants.GROUP_KEY_CONSTANT;
+
+/**
+ * Wraps a Ballerina value so that it can be used as a key of a Java hash map with the semantics of `==`. Used for
+ * the keys of the `group by` and `join` clauses.
+ *
+ * @param value the wrapped value
+ * @param hash  hash of the wrapped value, which agrees with `==`
+ * @since 2201.13.0
+ */
+public record EqualityKey(Object value, int hash) {
+
+    // Structured values nested deeper than this share a constant hash and are told apart by deep equality. This also
+    // keeps the hash of cyclic values finite.
+    private static final int MAX_HASH_DEPTH = 3;
+
+    public static EqualityKey of(Object value) {
+        return new EqualityKey(value, hashValue(value, 0));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EqualityKey other)) {
+            return false;
+        }
+        return hash == other.hash && TypeChecker.isEqual(this.value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int hashValue(Object value, int depth) {
+        return switch (value) {
+            case null -> 0;
+            case Double floatValue -> floatValue == 0.0 ? 0 : floatValue.hashCode();
+            case DecimalValue decimalValue -> decimalValue.decimalValue().signum() == 0 ? 0 :
+                    decimalValue.decimalValue().stripTrailingZeros().hashCode();
+            case Long intValue -> intValue.hashCode();
+            case Integer byteValue -> Long.hashCode(byteValue);
+            case BString stringValue -> stringValue.hashCode();
+            case Boolean booleanValue -> booleanValue.hashCode();
+            case BArray listValue when depth < MAX_HASH_DEPTH -> hashList(listValue, depth + 1);
+            case BMap<?, ?> mappingValue when depth < MAX_HASH_DEPTH -> hashMapping(mappingValue, depth + 1);
+            default -> GROUP_KEY_CONSTANT;
+        };
+    }
+
+    private static int hashList(BArray listValue, int depth) {
+        int result = 1;
+        for (int i = 0; i < listValue.size(); i++) {
+            result = 31 * result + hashValue(listValue.get(i), depth);
+        }
+        return result;
+    }
+
+    private static int hashMapping(BMap<?, ?> mappingValue, int depth) {
+        // Mappings are equal regardless of the order of their fields.
+        int result = 0;
+        for (Map.Entry<?, ?> entry : mappingValue.entrySet()) {
+            result += entry.getKey().hashCode() ^ hashValue(entry.getValue(), depth);
+        }
+        return result;
+    }
+}
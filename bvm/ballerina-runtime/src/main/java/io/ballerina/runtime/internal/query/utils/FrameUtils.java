@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.utils;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
+
+/**
+ * Creates the `_Frame` records that carry the variables of a query between the clauses of the pipeline.
+ *
+ * @since 2201.13.0
+ */
+public final class FrameUtils {
+
+    private static final String FRAME_TYPE_NAME = "_Frame";
+    private static final String QUERY_MODULE_LOOKUP_KEY = ValueCreator.getLookupKey(BALLERINA_QUERY_PKG_ID, false);
+
+    private FrameUtils() {
+    }
+
+    /**
+     * Creates an empty frame. A frame is created for every element of the query source, so this resolves the value
+     * creator of the query module directly instead of going through the generic record creation path, which
+     * rebuilds the module lookup key and checks for default field values on every call.
+     *
+     * @return an empty frame
+     */
+    public static BMap<BString, Object> createFrame() {
+        return ValueCreator.getValueCreator(QUERY_MODULE_LOOKUP_KEY).createRecordValue(FRAME_TYPE_NAME);
+    }
+}
@@ -19,7 +19,6 @@
 package io.ballerina.runtime.internal.query.utils;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -32,7 +31,6 @@ import java.util.Iterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
 import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
 
 /**
@@ -52,7 +50,7 @@ public class IteratorUtils {
     public static <T> Stream<BMap<BString, Object>> toStream(Iterator<T> javaIterator) throws ErrorValue {
         return StreamSupport.stream(((Iterable<T>) () -> javaIterator).spliterator(), false)
                 .map(element -> {
-                    BMap<BString, Object> record = ValueCreator.createRecordValue(BALLERINA_QUERY_PKG_ID, "_Frame");
+                    BMap<BString, Object> record = FrameUtils.createFrame();
                     record.put(VALUE_FIELD, element);
                     return record;
                 });
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled forms of a regular expression. The java pattern is always available, while the NFA is only present for
+ * the regular expressions that {@link RegExpNfa} supports and which could backtrack excessively.
+ *
+ * @param pattern compiled java pattern
+ * @param nfa     NFA used for linear time matching, or null
+ * @since 2201.13.0
+ */
+public record CompiledRegExp(Pattern pattern, RegExpNfa nfa) {
+
+    public RegExpMatcher matcher(String input) {
+        if (nfa != null) {
+            return new GuardedRegExpMatcher(pattern, nfa, input);
+        }
+        return new JavaRegExpMatcher(pattern.matcher(input));
+    }
+}
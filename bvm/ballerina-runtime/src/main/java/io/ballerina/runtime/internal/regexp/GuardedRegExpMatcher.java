@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RegExpMatcher} that matches with {@link java.util.regex.Matcher} as long as it does not backtrack more than
+ * the {@link RegExpNfa} of the regular expression would need in the worst case, and with the NFA afterwards. This
+ * keeps the speed of {@link java.util.regex.Matcher} for the common case while bounding the matching time by the
+ * length of the input.
+ *
+ * @since 2201.13.0
+ */
+final class GuardedRegExpMatcher implements RegExpMatcher {
+
+    // Characters java.util.regex may read per input character and NFA instruction before the NFA takes over.
+    private static final int READ_BUDGET_FACTOR = 4;
+
+    private final RegExpNfa nfa;
+    private final String input;
+    private final Matcher javaMatcher;
+    private RegExpNfaMatcher nfaMatcher;
+    private long readBudget;
+    // State of the java matcher, needed to continue with the NFA.
+    private int from;
+    private int to;
+    private int first = -1;
+    private int last = 0;
+
+    GuardedRegExpMatcher(Pattern pattern, RegExpNfa nfa, String input) {
+        this.nfa = nfa;
+        this.input = input;
+        this.readBudget = (long) READ_BUDGET_FACTOR * (input.length() + 1) * nfa.size();
+        this.javaMatcher = pattern.matcher(new BudgetedInput());
+        this.to = input.length();
+    }
+
+    @Override
+    public boolean find() {
+        if (nfaMatcher != null) {
+            return nfaMatcher.find();
+        }
+        try {
+            return updateState(javaMatcher.find());
+        } catch (ReadBudgetExceededException e) {
+            return switchToNfa().find();
+        }
+    }
+
+    @Override
+    public boolean find(int start) {
+        if (nfaMatcher != null) {
+            return nfaMatcher.find(start);
+        }
+        try {
+            boolean found = javaMatcher.find(start);
+            from = 0;
+            to = input.length();
+            last = 0;
+            return updateState(found);
+        } catch (ReadBudgetExceededException e) {
+            return switchToNfa().find(start);
+        }
+    }
+
+    @Override
+    public boolean matches() {
+        if (nfaMatcher != null) {
+            return nfaMatcher.matches();
+        }
+        try {
+            return updateState(javaMatcher.matches());
+        } catch (ReadBudgetExceededException e) {
+            return switchToNfa().matches();
+        }
+    }
+
+    @Override
+    public RegExpMatcher region(int start, int end) {
+        if (nfaMatcher != null) {
+            nfaMatcher.region(start, end);
+            return this;
+        }
+        javaMatcher.region(start, end);
+        from = start;
+        to = end;
+        first = -1;
+        last = 0;
+        return this;
+    }
+
+    @Override
+    public int start() {
+        return nfaMatcher != null ? nfaMatcher.start() : javaMatcher.start();
+    }
+
+    @Override
+    public int start(int group) {
+        return nfaMatcher != null ? nfaMatcher.start(group) : javaMatcher.start(group);
+    }
+
+    @Override
+    public int end() {
+        return nfaMatcher != null ? nfaMatcher.end() : javaMatcher.end();
+    }
+
+    @Override
+    public int end(int group) {
+        return nfaMatcher != null ? nfaMatcher.end(group) : javaMatcher.end(group);
+    }
+
+    @Override
+    public String group() {
+        return nfaMatcher != null ? nfaMatcher.group() : javaMatcher.group();
+    }
+
+    @Override
+    public String group(int group) {
+        return nfaMatcher != null ? nfaMatcher.group(group) : javaMatcher.group(group);
+    }
+
+    @Override
+    public int groupCount() {
+        return nfa.groupCount;
+    }
+
+    private boolean updateState(boolean found) {
+        if (found) {
+            first = javaMatcher.start();
+            last = javaMatcher.end();
+        } else {
+            first = -1;
+        }
+        return found;
+    }
+
+    private RegExpNfaMatcher switchToNfa() {
+        nfaMatcher = new RegExpNfaMatcher(nfa, input);
+        nfaMatcher.restore(from, to, first, last);
+        return nfaMatcher;
+    }
+
+    /**
+     * Input given to {@link java.util.regex.Matcher}, which fails once the matcher has read too many characters.
+     */
+    private final class BudgetedInput implements CharSequence {
+
+        @Override
+        public int length() {
+            return input.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--readBudget < 0) {
+                throw new ReadBudgetExceededException();
+            }
+            return input.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return input.substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return input;
+        }
+    }
+
+    private static final class ReadBudgetExceededException extends RuntimeException {
+
+        ReadBudgetExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -38,6 +38,10 @@ import io.ballerina.runtime.internal.values.RegExpSequence;
 import io.ballerina.runtime.internal.values.RegExpTerm;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Common utility methods used for regular expression manipulation.
  *
@@ -45,6 +49,18 @@ import io.ballerina.runtime.internal.values.RegExpValue;
  */
 public final class RegExpFactory {
 
+    private static final int PATTERN_CACHE_SIZE = 256;
+
+    // Regular expressions created at runtime (e.g. via `fromString`) are new values every time, so compiled
+    // patterns are also shared through a bounded cache keyed by the source of the regular expression.
+    private static final Map<String, CompiledRegExp> PATTERN_CACHE =
+            new LinkedHashMap<>(PATTERN_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledRegExp> eldest) {
+            return size() > PATTERN_CACHE_SIZE;
+        }
+    };
+
     private RegExpFactory() {
     }
 
@@ -145,6 +161,73 @@ public final class RegExpFactory {
         return new RegExpValue(disjunction);
     }
 
+    /**
+     * Returns the java pattern of the given regular expression. The pattern is compiled only once per regular
+     * expression value and is shared across values with the same source.
+     *
+     * @param regExpValue regular expression
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     * @since 2201.13.0
+     */
+    public static Pattern getPattern(RegExpValue regExpValue) {
+        return getCompiledRegExp(regExpValue).pattern();
+    }
+
+    /**
+     * Returns the java pattern used to split strings by the given regular expression. Unlike {@link #getPattern},
+     * the pattern is compiled without {@link Pattern#UNICODE_CHARACTER_CLASS}, as {@code split} has always been.
+     *
+     * @param regExpValue regular expression
+     * @return compiled split pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     * @since 2201.13.0
+     */
+    public static Pattern getSplitPattern(RegExpValue regExpValue) {
+        Pattern splitPattern = regExpValue.getSplitPattern();
+        if (splitPattern == null) {
+            splitPattern = Pattern.compile(getPattern(regExpValue).pattern());
+            regExpValue.setSplitPattern(splitPattern);
+        }
+        return splitPattern;
+    }
+
+    /**
+     * Returns a matcher of the given regular expression for the input. Regular expressions supported by
+     * {@link RegExpNfa} are matched in linear time, the rest are matched by {@link java.util.regex.Matcher}.
+     *
+     * @param regExpValue regular expression
+     * @param input       input string
+     * @return matcher
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     * @since 2201.13.0
+     */
+    public static RegExpMatcher getMatcher(RegExpValue regExpValue, String input) {
+        return getCompiledRegExp(regExpValue).matcher(input);
+    }
+
+    private static CompiledRegExp getCompiledRegExp(RegExpValue regExpValue) {
+        CompiledRegExp compiledRegExp = regExpValue.getCompiledRegExp();
+        if (compiledRegExp != null) {
+            return compiledRegExp;
+        }
+        String source = regExpValue.stringValue(null);
+        synchronized (PATTERN_CACHE) {
+            compiledRegExp = PATTERN_CACHE.get(source);
+        }
+        if (compiledRegExp == null) {
+            RegExpValue translatedRegExpVal = translateRegExpConstructs(regExpValue);
+            Pattern pattern = Pattern.compile(translatedRegExpVal.stringValue(null), Pattern.UNICODE_CHARACTER_CLASS);
+            compiledRegExp = new CompiledRegExp(pattern,
+                    RegExpNfa.compile(translatedRegExpVal.getRegExpDisjunction()));
+            synchronized (PATTERN_CACHE) {
+                PATTERN_CACHE.put(source, compiledRegExp);
+            }
+        }
+        regExpValue.setCompiledRegExp(compiledRegExp);
+        return compiledRegExp;
+    }
+
     private static RegExpDisjunction getNonCapturingGroupDisjunction() {
         // Create a disjunction for non-capturing group regex: (?:)
         RegExpFlagOnOff flagsOnOff = new RegExpFlagOnOff("");
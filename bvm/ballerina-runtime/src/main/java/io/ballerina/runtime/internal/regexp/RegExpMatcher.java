@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.regex.MatchResult;
+
+/**
+ * Matches a regular expression against a string. Follows the semantics of the corresponding methods of
+ * {@link java.util.regex.Matcher}.
+ *
+ * @since 2201.13.0
+ */
+public interface RegExpMatcher extends MatchResult {
+
+    /**
+     * Finds the next match, starting after the previous match or at the start of the region.
+     *
+     * @return true if a match is found
+     */
+    boolean find();
+
+    /**
+     * Resets the matcher and finds the first match starting at the given index.
+     *
+     * @param start index to start the search from
+     * @return true if a match is found
+     */
+    boolean find(int start);
+
+    /**
+     * Matches the whole region against the regular expression.
+     *
+     * @return true if the region matches
+     */
+    boolean matches();
+
+    /**
+     * Resets the matcher and limits the subsequent matches to the given region of the input.
+     *
+     * @param start start index of the region, inclusive
+     * @param end   end index of the region, exclusive
+     * @return this matcher
+     */
+    RegExpMatcher region(int start, int end);
+}
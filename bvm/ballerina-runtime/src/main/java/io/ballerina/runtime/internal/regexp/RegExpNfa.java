@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.RegExpAssertion;
+import io.ballerina.runtime.internal.values.RegExpAtomQuantifier;
+import io.ballerina.runtime.internal.values.RegExpCapturingGroup;
+import io.ballerina.runtime.internal.values.RegExpCharSet;
+import io.ballerina.runtime.internal.values.RegExpCharSetRange;
+import io.ballerina.runtime.internal.values.RegExpCharacterClass;
+import io.ballerina.runtime.internal.values.RegExpDisjunction;
+import io.ballerina.runtime.internal.values.RegExpLiteralCharOrEscape;
+import io.ballerina.runtime.internal.values.RegExpQuantifier;
+import io.ballerina.runtime.internal.values.RegExpSequence;
+import io.ballerina.runtime.internal.values.RegExpTerm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Thompson NFA of a translated regular expression. Matching a string against it with {@link RegExpNfaMatcher} takes
+ * time linear to the length of the string regardless of the shape of the regular expression, hence it is used when
+ * {@link java.util.regex.Matcher} backtracks excessively.
+ * <p>
+ * Only the constructs whose meaning in {@link java.util.regex.Pattern} is known exactly are supported, so that both
+ * engines give the same results. Regular expressions with flags, unicode property escapes, insertions or
+ * supplementary characters in the pattern are left to {@link java.util.regex.Pattern}.
+ *
+ * @since 2201.13.0
+ */
+public final class RegExpNfa {
+
+    // Instructions of the program, with the meaning of their arguments.
+    static final int CHAR = 0; // consume the code point in args
+    static final int CLASS = 1; // consume a code point accepted by the predicate
+    static final int SPLIT = 2; // continue at args, and at alternateArgs with a lower priority
+    static final int JMP = 3; // continue at args
+    static final int SAVE = 4; // record the position in the group slot in args
+    static final int BOL = 5; // `^`
+    static final int EOL = 6; // `$`
+    static final int MATCH = 7;
+
+    private static final int MAX_PROGRAM_SIZE = 10_000;
+
+    private static final IntPredicate DOT = c -> c != '\n' && c != '\r' && c != 0x85 && (c | 1) != 0x2029;
+    private static final IntPredicate DIGIT = Character::isDigit;
+    private static final IntPredicate WORD = RegExpNfa::isWordChar;
+    private static final IntPredicate WHITE_SPACE = RegExpNfa::isWhiteSpace;
+
+    final int[] ops;
+    final int[] args;
+    final int[] alternateArgs;
+    final IntPredicate[] predicates;
+    final int groupCount;
+
+    private RegExpNfa(Compiler compiler) {
+        int size = compiler.ops.size();
+        this.ops = new int[size];
+        this.args = new int[size];
+        this.alternateArgs = new int[size];
+        this.predicates = new IntPredicate[size];
+        for (int i = 0; i < size; i++) {
+            this.ops[i] = compiler.ops.get(i);
+            this.args[i] = compiler.args.get(i);
+            this.alternateArgs[i] = compiler.alternateArgs.get(i);
+            this.predicates[i] = compiler.predicates.get(i);
+        }
+        this.groupCount = compiler.groups.size();
+    }
+
+    /**
+     * Compiles a translated regular expression into an NFA. Regular expressions that cannot backtrack excessively,
+     * i.e. those without a repeating quantifier, are not compiled since {@link java.util.regex.Pattern} already
+     * matches them in linear time.
+     *
+     * @param disjunction translated regular expression
+     * @return compiled NFA or null if the regular expression is not supported or does not need one
+     */
+    public static RegExpNfa compile(RegExpDisjunction disjunction) {
+        Compiler compiler = new Compiler();
+        try {
+            compiler.registerGroups(disjunction);
+            compiler.emitDisjunction(disjunction);
+            compiler.emit(SAVE, 1, 0, null);
+            compiler.emit(MATCH, 0, 0, null);
+        } catch (UnsupportedRegExpException e) {
+            return null;
+        }
+        return compiler.hasRepetition ? new RegExpNfa(compiler) : null;
+    }
+
+    /**
+     * Returns a matcher which matches the given input with this NFA only.
+     *
+     * @param input input string
+     * @return NFA matcher
+     */
+    public RegExpMatcher matcher(String input) {
+        return new RegExpNfaMatcher(this, input);
+    }
+
+    int size() {
+        return ops.length;
+    }
+
+    private static boolean isWordChar(int c) {
+        if (Character.isAlphabetic(c) || c == 0x200C || c == 0x200D) {
+            return true;
+        }
+        return switch (Character.getType(c)) {
+            case Character.NON_SPACING_MARK, Character.ENCLOSING_MARK, Character.COMBINING_SPACING_MARK,
+                 Character.DECIMAL_DIGIT_NUMBER, Character.CONNECTOR_PUNCTUATION -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isWhiteSpace(int c) {
+        if ((c >= 0x9 && c <= 0xD) || c == 0x85) {
+            return true;
+        }
+        return switch (Character.getType(c)) {
+            case Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Builds the program of the NFA from the regular expression tree. The tree is the translated form that is given
+     * to {@link java.util.regex.Pattern}, hence leaf values are interpreted the way that class would.
+     */
+    private static final class Compiler {
+
+        private final List<Integer> ops = new ArrayList<>();
+        private final List<Integer> args = new ArrayList<>();
+        private final List<Integer> alternateArgs = new ArrayList<>();
+        private final List<IntPredicate> predicates = new ArrayList<>();
+        // Groups are numbered up front in the order of their opening parenthesis, since counted quantifiers may
+        // emit a group many times or not at all.
+        private final Map<RegExpCapturingGroup, Integer> groups = new IdentityHashMap<>();
+        private boolean hasRepetition = false;
+
+        private int emit(int op, int arg, int alternateArg, IntPredicate predicate) {
+            if (ops.size() == MAX_PROGRAM_SIZE) {
+                throw new UnsupportedRegExpException();
+            }
+            ops.add(op);
+            args.add(arg);
+            alternateArgs.add(alternateArg);
+            predicates.add(predicate);
+            return ops.size() - 1;
+        }
+
+        private int pc() {
+            return ops.size();
+        }
+
+        private void patch(int pc, int arg, int alternateArg) {
+            args.set(pc, arg);
+            alternateArgs.set(pc, alternateArg);
+        }
+
+        private void registerGroups(RegExpDisjunction disjunction) {
+            for (Object item : disjunction.getRegExpSeqList()) {
+                if (!(item instanceof RegExpSequence sequence)) {
+                    continue;
+                }
+                for (RegExpTerm term : sequence.getRegExpTermsList()) {
+                    if (term instanceof RegExpAtomQuantifier atomQuantifier
+                            && atomQuantifier.getReAtom() instanceof RegExpCapturingGroup group) {
+                        if (group.getFlagExpr().stringValue(null).isEmpty()) {
+                            groups.put(group, groups.size() + 1);
+                        }
+                        registerGroups(group.getReDisjunction());
+                    }
+                }
+            }
+        }
+
+        private void emitDisjunction(RegExpDisjunction disjunction) {
+            List<RegExpSequence> alternatives = getAlternatives(disjunction);
+            List<Integer> exitJumps = new ArrayList<>();
+            int last = alternatives.size() - 1;
+            for (int i = 0; i < last; i++) {
+                int split = emit(SPLIT, 0, 0, null);
+                emitSequence(alternatives.get(i));
+                exitJumps.add(emit(JMP, 0, 0, null));
+                patch(split, split + 1, pc());
+            }
+            emitSequence(alternatives.get(last));
+            for (int jump : exitJumps) {
+                patch(jump, pc(), 0);
+            }
+        }
+
+        /**
+         * Returns the alternatives of the disjunction, with null for each empty alternative.
+         */
+        private static List<RegExpSequence> getAlternatives(RegExpDisjunction disjunction) {
+            List<RegExpSequence> alternatives = new ArrayList<>();
+            RegExpSequence current = null;
+            for (Object item : disjunction.getRegExpSeqList()) {
+                if (item == null) {
+                    break;
+                }
+                if (item instanceof RegExpSequence sequence) {
+                    if (current != null) {
+                        throw new UnsupportedRegExpException();
+                    }
+                    current = sequence;
+                } else if (isPipe(item)) {
+                    // A missing sequence between pipes is an empty alternative.
+                    alternatives.add(current);
+                    current = null;
+                } else {
+                    throw new UnsupportedRegExpException();
+                }
+            }
+            alternatives.add(current);
+            return alternatives;
+        }
+
+        private static boolean isPipe(Object item) {
+            if (item instanceof BString bString) {
+                return "|".equals(bString.getValue());
+            }
+            return "|".equals(item);
+        }
+
+        private void emitSequence(RegExpSequence sequence) {
+            if (sequence == null) {
+                return;
+            }
+            for (RegExpTerm term : sequence.getRegExpTermsList()) {
+                if (term instanceof RegExpAssertion assertion) {
+                    switch (assertion.getAssertion()) {
+                        case "^" -> emit(BOL, 0, 0, null);
+                        case "$" -> emit(EOL, 0, 0, null);
+                        default -> throw new UnsupportedRegExpException();
+                    }
+                } else if (term instanceof RegExpAtomQuantifier atomQuantifier) {
+                    emitAtomQuantifier(atomQuantifier.getReAtom(), atomQuantifier.getReQuantifier());
+                } else {
+                    throw new UnsupportedRegExpException();
+                }
+            }
+        }
+
+        private void emitAtomQuantifier(Object atom, RegExpQuantifier quantifier) {
+            String value = quantifier.getQuantifier();
+            boolean greedy = switch (quantifier.getNonGreedyChar()) {
+                case "" -> true;
+                case "?" -> false;
+                default -> throw new UnsupportedRegExpException();
+            };
+            if (!value.isEmpty() && !"?".equals(value) && isNullable(atom)) {
+                // java.util.regex stops repeating an atom after an iteration that matched the empty string, which
+                // the NFA cannot track per thread. Leave such expressions to it.
+                throw new UnsupportedRegExpException();
+            }
+            switch (value) {
+                case "" -> emitAtom(atom);
+                case "?" -> emitOptional(atom, greedy);
+                case "*" -> emitStar(atom, greedy);
+                case "+" -> {
+                    emitAtom(atom);
+                    emitStar(atom, greedy);
+                }
+                default -> emitCounted(atom, value, greedy);
+            }
+        }
+
+        private static boolean isNullable(Object atom) {
+            if (atom instanceof RegExpLiteralCharOrEscape || atom instanceof RegExpCharacterClass) {
+                return false;
+            }
+            if (!(atom instanceof RegExpCapturingGroup group)) {
+                return true;
+            }
+            for (RegExpSequence alternative : getAlternatives(group.getReDisjunction())) {
+                if (alternative == null || isNullable(alternative)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isNullable(RegExpSequence sequence) {
+            for (RegExpTerm term : sequence.getRegExpTermsList()) {
+                if (!(term instanceof RegExpAtomQuantifier atomQuantifier)) {
+                    continue;
+                }
+                String quantifier = atomQuantifier.getReQuantifier().getQuantifier();
+                boolean optional = "?".equals(quantifier) || "*".equals(quantifier)
+                        || quantifier.startsWith("{0,") || "{0}".equals(quantifier);
+                if (!optional && !isNullable(atomQuantifier.getReAtom())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void emitCounted(Object atom, String quantifier, boolean greedy) {
+            if (quantifier.length() < 3 || quantifier.charAt(0) != '{'
+                    || quantifier.charAt(quantifier.length() - 1) != '}') {
+                throw new UnsupportedRegExpException();
+            }
+            String bounds = quantifier.substring(1, quantifier.length() - 1);
+            int comma = bounds.indexOf(',');
+            int min = parseBound(comma < 0 ? bounds : bounds.substring(0, comma));
+            int max;
+            if (comma < 0) {
+                max = min;
+            } else if (comma == bounds.length() - 1) {
+                max = -1;
+            } else {
+                max = parseBound(bounds.substring(comma + 1));
+                if (max < min) {
+                    throw new UnsupportedRegExpException();
+                }
+            }
+            for (int i = 0; i < min; i++) {
+                emitAtom(atom);
+            }
+            if (max < 0) {
+                emitStar(atom, greedy);
+                return;
+            }
+            if (max - min > 1) {
+                hasRepetition = true;
+            }
+            List<Integer> splits = new ArrayList<>();
+            for (int i = min; i < max; i++) {
+                splits.add(emit(SPLIT, 0, 0, null));
+                emitAtom(atom);
+            }
+            int exit = pc();
+            for (int split : splits) {
+                patchSplit(split, split + 1, exit, greedy);
+            }
+        }
+
+        private static int parseBound(String digits) {
+            if (digits.isEmpty() || digits.length() > 5) {
+                throw new UnsupportedRegExpException();
+            }
+            for (int i = 0; i < digits.length(); i++) {
+                if (digits.charAt(i) < '0' || digits.charAt(i) > '9') {
+                    throw new UnsupportedRegExpException();
+                }
+            }
+            return Integer.parseInt(digits);
+        }
+
+        private void emitOptional(Object atom, boolean greedy) {
+            int split = emit(SPLIT, 0, 0, null);
+            emitAtom(atom);
+            patchSplit(split, split + 1, pc(), greedy);
+        }
+
+        private void emitStar(Object atom, boolean greedy) {
+            hasRepetition = true;
+            int split = emit(SPLIT, 0, 0, null);
+            emitAtom(atom);
+            emit(JMP, split, 0, null);
+            patchSplit(split, split + 1, pc(), greedy);
+        }
+
+        private void patchSplit(int split, int body, int exit, boolean greedy) {
+            if (greedy) {
+                patch(split, body, exit);
+            } else {
+                patch(split, exit, body);
+            }
+        }
+
+        private void emitAtom(Object atom) {
+            if (atom instanceof RegExpLiteralCharOrEscape literal) {
+                emitChar(parseAtom(literal.getCharOrEscape(), false));
+            } else if (atom instanceof RegExpCharacterClass characterClass) {
+                emit(CLASS, 0, 0, toPredicate(characterClass));
+            } else if (atom instanceof RegExpCapturingGroup group) {
+                emitGroup(group);
+            } else {
+                // Insertions are regular expression fragments that are only parsed by java.util.regex.
+                throw new UnsupportedRegExpException();
+            }
+        }
+
+        private void emitChar(Object matcher) {
+            if (matcher instanceof Integer codePoint) {
+                emit(CHAR, codePoint, 0, null);
+            } else {
+                emit(CLASS, 0, 0, (IntPredicate) matcher);
+            }
+        }
+
+        private void emitGroup(RegExpCapturingGroup group) {
+            String flagExpr = group.getFlagExpr().stringValue(null);
+            if (flagExpr.isEmpty()) {
+                int groupNumber = groups.get(group);
+                emit(SAVE, groupNumber * 2, 0, null);
+                emitDisjunction(group.getReDisjunction());
+                emit(SAVE, groupNumber * 2 + 1, 0, null);
+            } else if ("?:".equals(flagExpr)) {
+                emitDisjunction(group.getReDisjunction());
+            } else {
+                throw new UnsupportedRegExpException();
+            }
+        }
+
+        private static IntPredicate toPredicate(RegExpCharacterClass characterClass) {
+            RegExpCharSet charSet = characterClass.getReCharSet();
+            Object[] atoms = charSet.getCharSetAtoms();
+            boolean negated = switch (characterClass.getNegation()) {
+                case "" -> false;
+                case "^" -> true;
+                default -> throw new UnsupportedRegExpException();
+            };
+            List<IntPredicate> members = new ArrayList<>();
+            List<int[]> ranges = new ArrayList<>();
+            List<Integer> chars = new ArrayList<>();
+            for (int i = 0; i < atoms.length; i++) {
+                Object atom = atoms[i];
+                if (atom instanceof RegExpCharSetRange range) {
+                    int lhs = toCodePoint(parseAtom(range.getLhsCharSetAtom(), true));
+                    int rhs = toCodePoint(parseAtom(range.getRhsCharSetAtom(), true));
+                    if (lhs > rhs) {
+                        throw new UnsupportedRegExpException();
+                    }
+                    ranges.add(new int[]{lhs, rhs});
+                    continue;
+                }
+                String value;
+                if (atom instanceof String s) {
+                    value = s;
+                } else if (atom instanceof RegExpLiteralCharOrEscape literal) {
+                    value = literal.getCharOrEscape();
+                } else if (atom instanceof RegExpCharacterClass nested && !negated) {
+                    // A nested class is a union in java.util.regex.
+                    members.add(toPredicate(nested));
+                    continue;
+                } else {
+                    throw new UnsupportedRegExpException();
+                }
+                if ("-".equals(value) && i != 0 && i != atoms.length - 1) {
+                    throw new UnsupportedRegExpException();
+                }
+                if ("^".equals(value) && i == 0 && !negated) {
+                    throw new UnsupportedRegExpException();
+                }
+                Object matcher = "-".equals(value) || "^".equals(value) ? (Object) (int) value.charAt(0)
+                        : parseAtom(value, true);
+                if (matcher instanceof Integer codePoint) {
+                    chars.add(codePoint);
+                } else {
+                    members.add((IntPredicate) matcher);
+                }
+            }
+            int[] charArray = chars.stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[][] rangeArray = ranges.toArray(new int[0][]);
+            IntPredicate[] memberArray = members.toArray(new IntPredicate[0]);
+            return c -> {
+                boolean matched = Arrays.binarySearch(charArray, c) >= 0;
+                for (int j = 0; !matched && j < rangeArray.length; j++) {
+                    matched = c >= rangeArray[j][0] && c <= rangeArray[j][1];
+                }
+                for (int j = 0; !matched && j < memberArray.length; j++) {
+                    matched = memberArray[j].test(c);
+                }
+                return matched != negated;
+            };
+        }
+
+        private static int toCodePoint(Object matcher) {
+            if (matcher instanceof Integer codePoint) {
+                return codePoint;
+            }
+            throw new UnsupportedRegExpException();
+        }
+
+        /**
+         * Parses a single character or escape, returning either the code point it matches or a predicate.
+         */
+        private static Object parseAtom(String value, boolean inCharacterClass) {
+            if (value.isEmpty()) {
+                throw new UnsupportedRegExpException();
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (Character.isSurrogate(value.charAt(i))) {
+                    throw new UnsupportedRegExpException();
+                }
+            }
+            if (value.length() == 1) {
+                char c = value.charAt(0);
+                if (!inCharacterClass && c == '.') {
+                    return DOT;
+                }
+                if (isSyntaxChar(c, inCharacterClass)) {
+                    throw new UnsupportedRegExpException();
+                }
+                return (int) c;
+            }
+            if (value.length() != 2 || value.charAt(0) != '\\') {
+                throw new UnsupportedRegExpException();
+            }
+            char escaped = value.charAt(1);
+            return switch (escaped) {
+                case 't' -> (int) '\t';
+                case 'n' -> (int) '\n';
+                case 'r' -> (int) '\r';
+                case 'd' -> DIGIT;
+                case 'D' -> DIGIT.negate();
+                case 'w' -> WORD;
+                case 'W' -> WORD.negate();
+                case 's' -> WHITE_SPACE;
+                case 'S' -> WHITE_SPACE.negate();
+                default -> {
+                    // A backslash before a non-alphanumeric character quotes it.
+                    if (escaped < 0x80 && !Character.isLetterOrDigit(escaped)) {
+                        yield (int) escaped;
+                    }
+                    throw new UnsupportedRegExpException();
+                }
+            };
+        }
+
+        private static boolean isSyntaxChar(char c, boolean inCharacterClass) {
+            String syntaxChars = inCharacterClass ? "\\[]^-&" : "\\^$.|?*+()[]{}";
+            return syntaxChars.indexOf(c) >= 0;
+        }
+    }
+
+    /**
+     * Thrown while compiling a regular expression that is not supported by the NFA.
+     */
+    private static final class UnsupportedRegExpException extends RuntimeException {
+
+        UnsupportedRegExpException() {
+            super(null, null, false, false);
+        }
+    }
+}
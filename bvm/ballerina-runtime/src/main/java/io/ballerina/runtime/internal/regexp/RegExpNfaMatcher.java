@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import java.util.Arrays;
+
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.BOL;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.CHAR;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.CLASS;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.EOL;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.JMP;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.MATCH;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.SAVE;
+import static io.ballerina.runtime.internal.regexp.RegExpNfa.SPLIT;
+
+/**
+ * {@link RegExpMatcher} that simulates a {@link RegExpNfa} over the input, advancing all the threads of the NFA in
+ * lock step. Threads are kept in priority order and a thread is dropped when a higher priority thread has already
+ * reached the same instruction at the same position, so the result is the same match a backtracking matcher would
+ * find, while each input character is looked at only once per instruction.
+ *
+ * @since 2201.13.0
+ */
+final class RegExpNfaMatcher implements RegExpMatcher {
+
+    private final RegExpNfa nfa;
+    private final String input;
+    private final int slotCount;
+    private ThreadList currentThreads;
+    private ThreadList nextThreads;
+    private final int[] stackPcs;
+    private final int[][] stackSlots;
+    private int from;
+    private int to;
+    private int[] groups;
+    private int first;
+    private int last;
+
+    RegExpNfaMatcher(RegExpNfa nfa, String input) {
+        this.nfa = nfa;
+        this.input = input;
+        this.slotCount = (nfa.groupCount + 1) * 2;
+        int size = nfa.size();
+        this.currentThreads = new ThreadList(size);
+        this.nextThreads = new ThreadList(size);
+        this.stackPcs = new int[size * 2 + 1];
+        this.stackSlots = new int[size * 2 + 1][];
+        reset();
+    }
+
+    private void reset() {
+        this.from = 0;
+        this.to = input.length();
+        this.groups = null;
+        this.first = -1;
+        this.last = 0;
+    }
+
+    /**
+     * Continues from the state of another matcher of the same input.
+     */
+    void restore(int from, int to, int first, int last) {
+        this.from = from;
+        this.to = to;
+        this.first = first;
+        this.last = last;
+        this.groups = null;
+    }
+
+    @Override
+    public boolean find() {
+        int next = last;
+        if (next == first) {
+            next++;
+        }
+        if (next < from) {
+            next = from;
+        }
+        if (next > to) {
+            groups = null;
+            return false;
+        }
+        return search(next, false);
+    }
+
+    @Override
+    public boolean find(int start) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("Illegal start index");
+        }
+        reset();
+        return search(start, false);
+    }
+
+    @Override
+    public boolean matches() {
+        return search(from, true);
+    }
+
+    @Override
+    public RegExpMatcher region(int start, int end) {
+        if (start < 0 || start > input.length()) {
+            throw new IndexOutOfBoundsException("start");
+        }
+        if (end < 0 || end > input.length()) {
+            throw new IndexOutOfBoundsException("end");
+        }
+        if (start > end) {
+            throw new IndexOutOfBoundsException("start > end");
+        }
+        reset();
+        this.from = start;
+        this.to = end;
+        return this;
+    }
+
+    @Override
+    public int start() {
+        return start(0);
+    }
+
+    @Override
+    public int start(int group) {
+        checkGroup(group);
+        return groups[group * 2];
+    }
+
+    @Override
+    public int end() {
+        return end(0);
+    }
+
+    @Override
+    public int end(int group) {
+        checkGroup(group);
+        return groups[group * 2 + 1];
+    }
+
+    @Override
+    public String group() {
+        return group(0);
+    }
+
+    @Override
+    public String group(int group) {
+        checkGroup(group);
+        int start = groups[group * 2];
+        int end = groups[group * 2 + 1];
+        if (start == -1 || end == -1) {
+            return null;
+        }
+        return input.substring(start, end);
+    }
+
+    @Override
+    public int groupCount() {
+        return nfa.groupCount;
+    }
+
+    private void checkGroup(int group) {
+        if (groups == null) {
+            throw new IllegalStateException("No match found");
+        }
+        if (group < 0 || group > nfa.groupCount) {
+            throw new IndexOutOfBoundsException("No group " + group);
+        }
+    }
+
+    private boolean search(int start, boolean fullMatch) {
+        groups = run(start, fullMatch);
+        if (groups == null) {
+            first = -1;
+            return false;
+        }
+        first = groups[0];
+        last = groups[1];
+        return true;
+    }
+
+    private int[] run(int start, boolean fullMatch) {
+        int[] ops = nfa.ops;
+        int[] args = nfa.args;
+        currentThreads.clear();
+        nextThreads.clear();
+        int[] matched = null;
+        int pos = start;
+        while (true) {
+            if (matched == null && (!fullMatch || pos == start)) {
+                int[] slots = new int[slotCount];
+                Arrays.fill(slots, -1);
+                slots[0] = pos;
+                addThread(currentThreads, 0, slots, pos);
+            }
+            if (currentThreads.size == 0 && (matched != null || fullMatch)) {
+                break;
+            }
+
+            int codePoint = -1;
+            int next = pos + 1;
+            if (pos < to) {
+                codePoint = input.codePointAt(pos);
+                next = pos + Character.charCount(codePoint);
+                if (next > to) {
+                    codePoint = -1;
+                    next = pos + 1;
+                }
+            }
+            ThreadList threads = currentThreads;
+            for (int i = 0; i < threads.size; i++) {
+                int pc = threads.pcs[i];
+                int[] slots = threads.slots[i];
+                switch (ops[pc]) {
+                    case MATCH -> {
+                        if (!fullMatch || pos == to) {
+                            matched = slots;
+                            // Lower priority threads can no longer produce the match.
+                            i = threads.size;
+                        }
+                    }
+                    case CHAR -> {
+                        if (codePoint == args[pc]) {
+                            addThread(nextThreads, pc + 1, slots, next);
+                        }
+                    }
+                    case CLASS -> {
+                        if (codePoint >= 0 && nfa.predicates[pc].test(codePoint)) {
+                            addThread(nextThreads, pc + 1, slots, next);
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            if (pos >= to) {
+                break;
+            }
+            currentThreads = nextThreads;
+            nextThreads = threads;
+            nextThreads.clear();
+            pos = next;
+        }
+        return matched;
+    }
+
+    /**
+     * Adds the thread at the given instruction to the list, following the instructions that do not consume input.
+     * Instructions are followed depth first in priority order, so that each instruction is reached first by the
+     * highest priority thread.
+     */
+    private void addThread(ThreadList threads, int startPc, int[] startSlots, int pos) {
+        int sp = 0;
+        stackPcs[sp] = startPc;
+        stackSlots[sp++] = startSlots;
+        while (sp > 0) {
+            sp--;
+            int pc = stackPcs[sp];
+            int[] slots = stackSlots[sp];
+            stackSlots[sp] = null;
+            if (!threads.visit(pc)) {
+                continue;
+            }
+            switch (nfa.ops[pc]) {
+                case JMP -> {
+                    stackPcs[sp] = nfa.args[pc];
+                    stackSlots[sp++] = slots;
+                }
+                case SPLIT -> {
+                    stackPcs[sp] = nfa.alternateArgs[pc];
+                    stackSlots[sp++] = slots;
+                    stackPcs[sp] = nfa.args[pc];
+                    stackSlots[sp++] = slots;
+                }
+                case SAVE -> {
+                    int[] newSlots = slots.clone();
+                    newSlots[nfa.args[pc]] = pos;
+                    stackPcs[sp] = pc + 1;
+                    stackSlots[sp++] = newSlots;
+                }
+                case BOL -> {
+                    if (pos == from) {
+                        stackPcs[sp] = pc + 1;
+                        stackSlots[sp++] = slots;
+                    }
+                }
+                case EOL -> {
+                    if (isEndOfLine(pos)) {
+                        stackPcs[sp] = pc + 1;
+                        stackSlots[sp++] = slots;
+                    }
+                }
+                default -> threads.add(pc, slots);
+            }
+        }
+    }
+
+    /**
+     * Checks `$` the way {@link java.util.regex.Pattern} does without the multiline flag, i.e. at the end of the
+     * region or before a line terminator at the end of the region.
+     */
+    private boolean isEndOfLine(int pos) {
+        if (pos < to - 2) {
+            return false;
+        }
+        if (pos == to - 2) {
+            return input.charAt(pos) == '\r' && input.charAt(pos + 1) == '\n';
+        }
+        if (pos == to) {
+            return true;
+        }
+        char c = input.charAt(pos);
+        if (c == '\n') {
+            return pos == 0 || input.charAt(pos - 1) != '\r';
+        }
+        return c == '\r' || c == 0x85 || (c | 1) == 0x2029;
+    }
+
+    /**
+     * Threads of the NFA at a single input position, in priority order.
+     */
+    private static final class ThreadList {
+
+        private final int[] pcs;
+        private final int[][] slots;
+        private final int[] visited;
+        private int generation = 1;
+        private int size;
+
+        ThreadList(int programSize) {
+            this.pcs = new int[programSize];
+            this.slots = new int[programSize][];
+            this.visited = new int[programSize];
+        }
+
+        boolean visit(int pc) {
+            if (visited[pc] == generation) {
+                return false;
+            }
+            visited[pc] = generation;
+            return true;
+        }
+
+        void add(int pc, int[] threadSlots) {
+            pcs[size] = pc;
+            slots[size++] = threadSlots;
+        }
+
+        void clear() {
+            size = 0;
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(visited, 0);
+                generation = 0;
+            }
+            generation++;
+        }
+    }
+}
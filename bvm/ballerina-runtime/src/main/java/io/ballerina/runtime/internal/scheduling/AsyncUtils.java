@@ -52,6 +52,31 @@ public final class AsyncUtils {
         return result;
     }
 
+    /**
+     * Runs a supplier which blocks the strand until other strands make progress, e.g. by completing a future or
+     * sending to a worker channel. The strand gives up the non-isolated lock and its {@link StrandExecutor} slot while
+     * it is blocked, so that the strands it waits for can run.
+     *
+     * @param strand         strand which blocks
+     * @param resultSupplier supplier which blocks
+     * @return result of the supplier
+     */
+    public static Object handleBlockingStrand(Strand strand, Supplier<?> resultSupplier) {
+        StrandExecutor strandExecutor = strand.scheduler.getStrandExecutor();
+        Supplier<?> blockingSupplier = () -> {
+            strandExecutor.blockingStarted(strand);
+            try {
+                return resultSupplier.get();
+            } finally {
+                strandExecutor.blockingEnded(strand);
+            }
+        };
+        if (strand.isIsolated) {
+            return blockingSupplier.get();
+        }
+        return handleNonIsolatedStrand(strand, blockingSupplier);
+    }
+
     @SuppressWarnings("unused")
     /*
      * Used for codegen wait for future.
@@ -65,10 +90,7 @@ public final class AsyncUtils {
     }
 
     public static Object handleWait(Strand strand, CompletableFuture<Object> completableFuture) {
-        if (strand.isIsolated) {
-            return getFutureResult(completableFuture);
-        }
-        return handleNonIsolatedStrand(strand, () -> getFutureResult(completableFuture));
+        return handleBlockingStrand(strand, () -> getFutureResult(completableFuture));
     }
 
     @SuppressWarnings("unused")
@@ -106,11 +128,7 @@ public final class AsyncUtils {
                 alreadyWaitedKeys.add(entry.getKey());
             }
         }
-        if (strand.isIsolated) {
-            waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
-            getAllFutureResult(futureMap, alreadyWaitedKeys, target);
-        }
-        handleNonIsolatedStrand(strand, () -> {
+        handleBlockingStrand(strand, () -> {
             waitForAllFutureResult(cFutures.toArray(new CompletableFuture[0]));
             getAllFutureResult(futureMap, alreadyWaitedKeys, target);
             return null;
@@ -118,12 +136,7 @@ public final class AsyncUtils {
     }
 
     public static Object handleWaitAny(Strand strand, CompletableFuture<?>[] cFutures) {
-        Object result;
-        if (strand.isIsolated) {
-            result = getAnyFutureResult(cFutures);
-        } else {
-            result = handleNonIsolatedStrand(strand, () -> getAnyFutureResult(cFutures));
-        }
+        Object result = handleBlockingStrand(strand, () -> getAnyFutureResult(cFutures));
         if (cFutures.length > 1 && result instanceof BError) {
             List<CompletableFuture<?>> nonErrorFutures = new ArrayList<>();
             for (CompletableFuture<?> completableFuture : cFutures) {
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.errors.ErrorReasons;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link StrandExecutor} which bounds the number of running strands. Strands started beyond the limit wait in a
+ * bounded queue and are started in order as running strands complete. When the queue is full, the configured
+ * {@link StrandExecutorConfig.RejectionPolicy} is applied to the starting strand.
+ * <p>
+ * A strand blocked until other strands make progress, e.g. in a {@code wait} action, a worker receive or while
+ * waiting for space in the queue, does not hold a slot, so that the strands it waits for can be started. When it
+ * stops blocking, it takes a slot back before any queued strand is started. Strands blocked on locks or external
+ * calls keep their slots.
+ *
+ * @since 2201.13.0
+ */
+public class BoundedStrandExecutor implements StrandExecutor {
+
+    private final StrandExecutorConfig config;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queueNotFull = lock.newCondition();
+    private final Condition slotFreed = lock.newCondition();
+    private final ArrayDeque<QueuedStrand> queue = new ArrayDeque<>();
+    private final Map<String, Integer> liveStrandsPerModule = new HashMap<>();
+    private final ThreadLocal<QueuedStrand> runningStrand = new ThreadLocal<>();
+    private int liveStrands;
+    private int resumingStrands;
+
+    private final LongAdder spawnedStrands = new LongAdder();
+    private final LongAdder rejectedStrands = new LongAdder();
+    private final LongAdder queueWaitTime = new LongAdder();
+
+    public BoundedStrandExecutor(StrandExecutorConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void execute(Strand parentStrand, Strand strand, Module module, Runnable task) {
+        QueuedStrand queuedStrand = new QueuedStrand(strand, getQuotaKey(module), task);
+        lock.lock();
+        try {
+            if (startOrQueue(queuedStrand)) {
+                return;
+            }
+            if (config.rejectionPolicy() == StrandExecutorConfig.RejectionPolicy.FAIL) {
+                rejectedStrands.increment();
+                throw ErrorCreator.createError(ErrorReasons.STRAND_LIMIT_EXCEEDED, StringUtils.fromString(
+                        "cannot start strand '" + strand.name + "': strand limit of " + config.maxLiveStrands() +
+                                " running and " + config.maxQueuedStrands() + " queued strands reached"));
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (parentStrand == null) {
+            awaitAndQueue(queuedStrand);
+            return;
+        }
+        // The parent gives up its slot and the non-isolated lock while waiting, so that running strands can complete.
+        AsyncUtils.handleBlockingStrand(parentStrand, () -> {
+            awaitAndQueue(queuedStrand);
+            return null;
+        });
+    }
+
+    @Override
+    public void blockingStarted(Strand strand) {
+        QueuedStrand queuedStrand = runningStrand.get();
+        if (queuedStrand == null || queuedStrand.strand != strand || queuedStrand.blockedDepth++ > 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            release(queuedStrand);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void blockingEnded(Strand strand) {
+        QueuedStrand queuedStrand = runningStrand.get();
+        if (queuedStrand == null || queuedStrand.strand != strand || --queuedStrand.blockedDepth > 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            resumingStrands++;
+            try {
+                while (!hasCapacity(queuedStrand.quotaKey)) {
+                    slotFreed.awaitUninterruptibly();
+                }
+            } finally {
+                resumingStrands--;
+            }
+            acquire(queuedStrand);
+            if (resumingStrands == 0) {
+                startQueuedStrands();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerMetrics(MetricRegistry registry) {
+        PolledGauge.builder(STRANDS_LIVE_METRIC, this, BoundedStrandExecutor::getLiveStrandCount)
+                .description("Number of strands currently running").register(registry);
+        PolledGauge.builder(STRANDS_QUEUED_METRIC, this, BoundedStrandExecutor::getQueuedStrandCount)
+                .description("Number of strands waiting to be started").register(registry);
+        PolledGauge.builder(STRANDS_SPAWNED_METRIC, spawnedStrands, LongAdder::sum)
+                .description("Total number of strands started").register(registry);
+        PolledGauge.builder(STRANDS_REJECTED_METRIC, rejectedStrands, LongAdder::sum)
+                .description("Total number of strands rejected due to the strand limit").register(registry);
+        PolledGauge.builder(STRAND_QUEUE_WAIT_TIME_METRIC, queueWaitTime, LongAdder::sum)
+                .description("Total time strands spent waiting in the queue in nanoseconds").register(registry);
+    }
+
+    public int getLiveStrandCount() {
+        lock.lock();
+        try {
+            return liveStrands;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueuedStrandCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean startOrQueue(QueuedStrand queuedStrand) {
+        if (queue.isEmpty() && resumingStrands == 0 && hasCapacity(queuedStrand.quotaKey)) {
+            spawn(queuedStrand);
+            return true;
+        }
+        if (queue.size() >= config.maxQueuedStrands()) {
+            return false;
+        }
+        queuedStrand.queuedTime = System.nanoTime();
+        queue.add(queuedStrand);
+        if (resumingStrands == 0) {
+            // A strand of a module with free quota can start ahead of queued strands of modules at their quota.
+            startQueuedStrands();
+        }
+        return true;
+    }
+
+    private void awaitAndQueue(QueuedStrand queuedStrand) {
+        lock.lock();
+        try {
+            while (!startOrQueue(queuedStrand)) {
+                queueNotFull.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasCapacity(String quotaKey) {
+        if (liveStrands >= config.maxLiveStrands()) {
+            return false;
+        }
+        if (quotaKey == null) {
+            return true;
+        }
+        Integer quota = config.moduleQuotas().get(quotaKey);
+        return quota == null || liveStrandsPerModule.getOrDefault(quotaKey, 0) < quota;
+    }
+
+    private void startQueuedStrands() {
+        Iterator<QueuedStrand> iterator = queue.iterator();
+        while (iterator.hasNext() && liveStrands < config.maxLiveStrands()) {
+            QueuedStrand queuedStrand = iterator.next();
+            if (hasCapacity(queuedStrand.quotaKey)) {
+                iterator.remove();
+                queueWaitTime.add(System.nanoTime() - queuedStrand.queuedTime);
+                spawn(queuedStrand);
+            }
+        }
+        queueNotFull.signalAll();
+    }
+
+    private void spawn(QueuedStrand queuedStrand) {
+        acquire(queuedStrand);
+        spawnedStrands.increment();
+        Thread.startVirtualThread(() -> {
+            runningStrand.set(queuedStrand);
+            try {
+                queuedStrand.task.run();
+            } finally {
+                complete(queuedStrand);
+            }
+        }).setName(queuedStrand.strand.name);
+    }
+
+    private void complete(QueuedStrand queuedStrand) {
+        lock.lock();
+        try {
+            release(queuedStrand);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(QueuedStrand queuedStrand) {
+        liveStrands++;
+        if (queuedStrand.quotaKey != null) {
+            liveStrandsPerModule.merge(queuedStrand.quotaKey, 1, Integer::sum);
+        }
+    }
+
+    private void release(QueuedStrand queuedStrand) {
+        liveStrands--;
+        if (queuedStrand.quotaKey != null) {
+            liveStrandsPerModule.computeIfPresent(queuedStrand.quotaKey,
+                    (key, count) -> count == 1 ? null : count - 1);
+        }
+        // Strands which stopped blocking take the free slots before the queued strands.
+        if (resumingStrands > 0) {
+            slotFreed.signalAll();
+        } else {
+            startQueuedStrands();
+        }
+    }
+
+    private String getQuotaKey(Module module) {
+        if (module == null || config.moduleQuotas().isEmpty()) {
+            return null;
+        }
+        return module.getOrg() + "/" + module.getName();
+    }
+
+    private static class QueuedStrand {
+
+        private final Strand strand;
+        private final String quotaKey;
+        private final Runnable task;
+        private long queuedTime;
+        private int blockedDepth;
+
+        private QueuedStrand(Strand strand, String quotaKey, Runnable task) {
+            this.strand = strand;
+            this.quotaKey = quotaKey;
+            this.task = task;
+        }
+    }
+}
@@ -34,17 +34,23 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BServiceType;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Strand scheduler for JBallerina.
@@ -53,19 +59,46 @@ import java.util.function.Function;
  */
 public class Scheduler {
 
+    // Held by every running non-isolated strand. It is not split by the module variables a function uses, since the
+    // mutable values of a variable can be passed to other modules and strands, and the lock has to cover them too.
+    // Functions that only use state safely are inferred to be isolated by the compiler, and run without it.
     public final ReentrantLock globalNonIsolatedLock = new ReentrantLock();
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     public  final BalRuntime runtime;
 
+    // Resolved when the first strand is started, since the configurable values are not read before that.
+    private volatile StrandExecutor strandExecutor;
+
     public Scheduler(BalRuntime runtime) {
         this.runtime = runtime;
     }
 
+    public StrandExecutor getStrandExecutor() {
+        StrandExecutor executor = strandExecutor;
+        if (executor != null) {
+            return executor;
+        }
+        synchronized (this) {
+            if (strandExecutor == null) {
+                StrandExecutorConfig config = StrandExecutorConfig.fromConfiguration();
+                strandExecutor = config == null ? new VirtualThreadStrandExecutor() : new BoundedStrandExecutor(config);
+                registerStrandMetrics(strandExecutor);
+            }
+            return strandExecutor;
+        }
+    }
+
+    public void setStrandExecutor(StrandExecutor strandExecutor) {
+        this.strandExecutor = Objects.requireNonNull(strandExecutor);
+        registerStrandMetrics(strandExecutor);
+    }
+
     public static Strand getStrand() {
         return strandHolder.get().strand;
     }
+
     public Object callFunction(Module module, String functionName, StrandMetadata metadata, Object... args) {
         Strand strand = getStrand(functionName, metadata);
         if (strand.isRunnable()) {
@@ -114,7 +147,7 @@ public class Scheduler {
         FutureValue future = createFuture(parentStrand, strandName, true, returnType,
                 null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        executeStrand(parentStrand, future.strand, fp.getType().getPackage(), () -> {
             try {
                 strandHolder.get().strand = future.strand;
                 Object result = fp.function.apply(args);
@@ -122,10 +155,34 @@ public class Scheduler {
             } catch (Throwable t) {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
+    /**
+     * Runs a runtime task on a new isolated strand. Used to spread isolated work of the runtime itself, such as the
+     * clauses of a parallel query, over several strands.
+     *
+     * @param parentStrand parent strand of the new strand
+     * @param strandName   name of the new strand
+     * @param task         task to run
+     * @param <T>          type of the task result
+     * @return future that completes with the result of the task
+     */
+    public <T> CompletableFuture<T> startIsolatedTask(Strand parentStrand, String strandName, Supplier<T> task) {
+        Strand strand = createStrand(parentStrand, strandName, true, null, null);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executeStrand(parentStrand, strand, null, () -> {
+            try {
+                strandHolder.get().strand = strand;
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
     @SuppressWarnings("unused")
     /*
      * Used for codegen non isolated function pointer start call
@@ -134,7 +191,7 @@ public class Scheduler {
                                               WorkerChannelMap workerChannelMap, Object[] args) {
         FutureValue future = createFuture(parentStrand, strandName, false, returnType, null, workerChannelMap);
         args[0] = future.strand;
-        Thread.startVirtualThread(() -> {
+        executeStrand(parentStrand, future.strand, fp.getType().getPackage(), () -> {
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -145,7 +202,7 @@ public class Scheduler {
             } finally {
                 future.strand.done();
             }
-        }).setName(future.strand.name);
+        });
         return future;
     }
 
@@ -201,7 +258,7 @@ public class Scheduler {
                                               String strandName, StrandMetadata metadata, Object[] args) {
         FutureValue future = createFutureWithMetadata(parentStrand, strandName, false, returnType, metadata, null);
         Object[] argsWithStrand = getArgsWithStrand(future.strand, args);
-        Thread.startVirtualThread(() -> {
+        executeStrand(parentStrand, future.strand, null, () -> {
             try {
                 future.strand.resume();
                 strandHolder.get().strand = future.strand;
@@ -212,10 +269,27 @@ public class Scheduler {
             } finally {
                 future.strand.done();
             }
-        }).setName(strandName);
+        });
         return future;
     }
 
+    private void executeStrand(Strand parentStrand, Strand strand, Module module, Runnable task) {
+        getStrandExecutor().execute(parentStrand, strand, module, () -> {
+            try {
+                task.run();
+            } finally {
+                // The thread of the strand is not reused, so hand its type checking context over to the next strand.
+                TypeChecker.releaseContext();
+            }
+        });
+    }
+
+    private static void registerStrandMetrics(StrandExecutor executor) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            DefaultMetricRegistry.addInitializationListener(executor::registerMetrics);
+        }
+    }
+
     private ValueCreatorAndFunctionType getGetValueCreatorAndFunctionType(Module module, String functionName) {
 
         ValueCreator valueCreator;
@@ -39,6 +39,7 @@ public class Strand {
     private final int id;
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
     private Map<String, Object> globalProps;
+    private boolean globalPropsShared;
 
     public final String name;
     public final boolean isIsolated;
@@ -54,14 +55,14 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
-        this.trxContexts = new Stack<>();
         this.isIsolated = isIsolated;
         if (properties != null) {
             this.globalProps = properties;
         } else if (parent != null && parent.globalProps != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
+            // Properties are shared with the parent until either of the strands modifies them.
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
         }
         this.workerChannelMap = workerChannelMap;
     }
@@ -71,7 +72,7 @@ public class Strand {
                   TransactionLocalContext currentTrxContext) {
         this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
@@ -126,11 +127,14 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getMutableGlobalProps().put(key, value);
     }
 
     public boolean isInTransaction() {
@@ -138,21 +142,48 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            this.globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getMutableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        this.globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        if (this.globalProps != null && this.globalProps.containsKey(CURRENT_TRANSACTION_CONTEXT_PROPERTY)) {
+            getMutableGlobalProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        }
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        this.globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        if (getProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY) == null) {
+            getMutableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        }
+    }
+
+    /**
+     * Returns the transaction context stack of the strand, creating it on first use. The stack is shared with the
+     * strands started within a transaction.
+     *
+     * @return transaction context stack
+     */
+    public Stack<TransactionLocalContext> getTrxContexts() {
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
+    }
+
+    private Map<String, Object> getMutableGlobalProps() {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        } else if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
+        return this.globalProps;
     }
 
     public int getId() {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+
+/**
+ * Executes the strands started by the {@link Scheduler}.
+ *
+ * @since 2201.13.0
+ */
+public interface StrandExecutor {
+
+    String STRANDS_LIVE_METRIC = "ballerina_scheduler_strands_live";
+    String STRANDS_QUEUED_METRIC = "ballerina_scheduler_strands_queued";
+    String STRANDS_SPAWNED_METRIC = "ballerina_scheduler_strands_spawned_total";
+    String STRANDS_REJECTED_METRIC = "ballerina_scheduler_strands_rejected_total";
+    String STRAND_QUEUE_WAIT_TIME_METRIC = "ballerina_scheduler_strand_queue_wait_time_nanos_total";
+
+    /**
+     * Runs the given task for a newly created strand.
+     *
+     * @param parentStrand strand which started the new strand, or null if started outside a strand
+     * @param strand       the new strand
+     * @param module       module of the function run by the strand, or null if not known
+     * @param task         task to run
+     */
+    void execute(Strand parentStrand, Strand strand, Module module, Runnable task);
+
+    /**
+     * Called before a strand blocks until other strands make progress, e.g. in a {@code wait} action or a worker
+     * receive. Executors which bound the number of running strands free the slot of the strand, so that the strands
+     * it waits for can be started.
+     *
+     * @param strand strand which is about to block
+     */
+    default void blockingStarted(Strand strand) {
+    }
+
+    /**
+     * Called when a strand passed to {@link #blockingStarted(Strand)} stops blocking, before it continues to run.
+     *
+     * @param strand strand which stopped blocking
+     */
+    default void blockingEnded(Strand strand) {
+    }
+
+    /**
+     * Registers the strand metrics of this executor in the given registry.
+     *
+     * @param registry metric registry
+     */
+    void registerMetrics(MetricRegistry registry);
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_RUNTIME_PKG_ID;
+
+/**
+ * Limits applied by the {@link BoundedStrandExecutor}. The limits are configured through the configurable variables
+ * of the {@code ballerina/lang.runtime} module.
+ *
+ * @param maxLiveStrands   maximum number of strands running at a given time
+ * @param maxQueuedStrands maximum number of strands waiting for a free slot before the rejection policy is applied
+ * @param moduleQuotas     maximum number of strands running at a given time for a module, keyed by
+ *                         {@code <org>/<module>}
+ * @param rejectionPolicy  action taken when both the running and the queued strand limits are reached
+ * @since 2201.13.0
+ */
+public record StrandExecutorConfig(int maxLiveStrands, int maxQueuedStrands, Map<String, Integer> moduleQuotas,
+                                   RejectionPolicy rejectionPolicy) {
+
+    private static final VariableKey MAX_LIVE_STRANDS_KEY = new VariableKey(BALLERINA_RUNTIME_PKG_ID,
+            "maxLiveStrands", PredefinedTypes.TYPE_INT, false);
+    private static final VariableKey MAX_QUEUED_STRANDS_KEY = new VariableKey(BALLERINA_RUNTIME_PKG_ID,
+            "maxQueuedStrands", PredefinedTypes.TYPE_INT, false);
+    private static final VariableKey STRAND_QUOTAS_KEY = new VariableKey(BALLERINA_RUNTIME_PKG_ID,
+            "strandQuotas", PredefinedTypes.TYPE_MAP, false);
+    private static final VariableKey STRAND_REJECTION_POLICY_KEY = new VariableKey(BALLERINA_RUNTIME_PKG_ID,
+            "strandRejectionPolicy", PredefinedTypes.TYPE_STRING, false);
+
+    public StrandExecutorConfig {
+        if (maxLiveStrands <= 0) {
+            throw new IllegalArgumentException("maximum live strand count should be positive: " + maxLiveStrands);
+        }
+        if (maxQueuedStrands < 0) {
+            throw new IllegalArgumentException("maximum queued strand count should not be negative: " +
+                    maxQueuedStrands);
+        }
+        moduleQuotas = moduleQuotas == null ? Map.of() : Map.copyOf(moduleQuotas);
+        for (Map.Entry<String, Integer> quota : moduleQuotas.entrySet()) {
+            if (quota.getValue() <= 0) {
+                throw new IllegalArgumentException("strand quota of module '" + quota.getKey() +
+                        "' should be positive: " + quota.getValue());
+            }
+        }
+        rejectionPolicy = rejectionPolicy == null ? RejectionPolicy.BLOCK : rejectionPolicy;
+    }
+
+    /**
+     * Reads the strand limits from the configurable variables of the {@code ballerina/lang.runtime} module.
+     *
+     * @return configured limits, or null if the number of live strands is not limited
+     */
+    public static StrandExecutorConfig fromConfiguration() {
+        long maxLiveStrands = getIntConfig(MAX_LIVE_STRANDS_KEY);
+        if (maxLiveStrands <= 0) {
+            return null;
+        }
+        Map<String, Integer> moduleQuotas = new HashMap<>();
+        if (ConfigMap.containsKey(STRAND_QUOTAS_KEY)) {
+            BMap<?, ?> quotas = (BMap<?, ?>) ConfigMap.get(STRAND_QUOTAS_KEY);
+            for (Map.Entry<?, ?> quota : quotas.entrySet()) {
+                moduleQuotas.put(quota.getKey().toString(), toInt((Long) quota.getValue()));
+            }
+        }
+        RejectionPolicy rejectionPolicy = null;
+        if (ConfigMap.containsKey(STRAND_REJECTION_POLICY_KEY)) {
+            String policy = ((BString) ConfigMap.get(STRAND_REJECTION_POLICY_KEY)).getValue();
+            try {
+                rejectionPolicy = RejectionPolicy.valueOf(policy);
+            } catch (IllegalArgumentException e) {
+                throw ErrorCreator.createError(StringUtils.fromString("invalid strand rejection policy '" + policy +
+                        "': expected 'BLOCK' or 'FAIL'"));
+            }
+        }
+        try {
+            return new StrandExecutorConfig(toInt(maxLiveStrands), toInt(getIntConfig(MAX_QUEUED_STRANDS_KEY)),
+                    moduleQuotas, rejectionPolicy);
+        } catch (IllegalArgumentException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("invalid strand limits: " + e.getMessage()));
+        }
+    }
+
+    private static long getIntConfig(VariableKey key) {
+        return ConfigMap.containsKey(key) ? (Long) ConfigMap.get(key) : 0;
+    }
+
+    private static int toInt(long value) {
+        return Math.clamp(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Action taken when a strand can neither be started nor queued.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Block the starting strand until there is space in the queue.
+         */
+        BLOCK,
+        /**
+         * Fail the start with a Ballerina error.
+         */
+        FAIL
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link StrandExecutor} which runs every strand in a new virtual thread without any bound.
+ *
+ * @since 2201.13.0
+ */
+public class VirtualThreadStrandExecutor implements StrandExecutor {
+
+    private final AtomicInteger liveStrands = new AtomicInteger();
+    private final LongAdder spawnedStrands = new LongAdder();
+
+    @Override
+    public void execute(Strand parentStrand, Strand strand, Module module, Runnable task) {
+        spawnedStrands.increment();
+        liveStrands.incrementAndGet();
+        Thread.startVirtualThread(() -> {
+            try {
+                task.run();
+            } finally {
+                liveStrands.decrementAndGet();
+            }
+        }).setName(strand.name);
+    }
+
+    @Override
+    public void registerMetrics(MetricRegistry registry) {
+        PolledGauge.builder(STRANDS_LIVE_METRIC, liveStrands, AtomicInteger::get)
+                .description("Number of strands currently running").register(registry);
+        PolledGauge.builder(STRANDS_SPAWNED_METRIC, spawnedStrands, LongAdder::sum)
+                .description("Total number of strands started").register(registry);
+    }
+}
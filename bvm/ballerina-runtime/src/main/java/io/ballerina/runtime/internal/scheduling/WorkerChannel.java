@@ -21,7 +21,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This represents a worker channel that is created for each worker to worker interaction.
@@ -32,16 +31,17 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class WorkerChannel {
 
     private final String name;
-    private final AtomicInteger doneCount;
+    // Only updated while the channel entry is locked in the owning WorkerChannelMap.
+    private int doneCount;
     private final CompletableFuture<Object> resultFuture;
     private final CompletableFuture<Object> receiveFuture;
-    private boolean cancel;
+    private volatile boolean cancel;
 
     public WorkerChannel(String name) {
         this.name = name;
         this.resultFuture = new CompletableFuture<>();
         this.receiveFuture = new CompletableFuture<>();
-        this.doneCount = new AtomicInteger(2);
+        this.doneCount = 2;
         this.cancel = false;
     }
 
@@ -112,7 +112,7 @@ public class WorkerChannel {
     }
 
     public boolean done() {
-        return doneCount.incrementAndGet() == 0;
+        return ++doneCount == 0;
     }
 
     public void cancel() {
@@ -80,6 +80,7 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
     private final DefinitionContainer<MappingDefinition> defn = new DefinitionContainer<>();
     private final DefinitionContainer<MappingDefinition> acceptedTypeDefn = new DefinitionContainer<>();
     private byte couldInhereTypeBeDifferentCache = 0;
+    private volatile RecordFieldTable fieldTable;
 
     private final Map<String, BFunctionPointer> defaultValues = new LinkedHashMap<>();
 
@@ -250,6 +251,26 @@ public class BRecordType extends BStructureType implements RecordType, TypeWithS
         return defaultValues;
     }
 
+    @Override
+    public void setFields(Map<String, Field> fields) {
+        super.setFields(fields);
+        this.fieldTable = null;
+    }
+
+    /**
+     * Returns the field lookup table of this record type, creating it on first use.
+     *
+     * @return field lookup table
+     */
+    public RecordFieldTable getFieldTable() {
+        RecordFieldTable table = this.fieldTable;
+        if (table == null) {
+            table = new RecordFieldTable(this.fields);
+            this.fieldTable = table;
+        }
+        return table;
+    }
+
     @Override
     public SemType createSemType(Context cx) {
         Env env = cx.env;
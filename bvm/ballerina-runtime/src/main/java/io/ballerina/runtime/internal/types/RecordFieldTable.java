@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Precomputed lookup table of the fields of a record type. Fields are numbered in the iteration order of
+ * {@link BRecordType#getFields()} and can be looked up by their UTF-8 encoded name, so that readers working on raw
+ * bytes do not have to decode a field name to find the field it refers to.
+ *
+ * @since 2201.13.0
+ */
+public final class RecordFieldTable {
+
+    private final Field[] fields;
+    private final BString[] names;
+    private final byte[][] utf8Names;
+    // open addressed hash table of field index + 1, 0 marks an empty slot
+    private final int[] slots;
+
+    RecordFieldTable(Map<String, Field> fieldMap) {
+        int size = fieldMap.size();
+        this.fields = fieldMap.values().toArray(new Field[size]);
+        this.names = new BString[size];
+        this.utf8Names = new byte[size][];
+        this.slots = new int[Integer.highestOneBit(Math.max(size, 1) * 2) << 1];
+        for (int i = 0; i < size; i++) {
+            String name = this.fields[i].getFieldName();
+            this.names[i] = StringUtils.fromString(name);
+            this.utf8Names[i] = name.getBytes(StandardCharsets.UTF_8);
+            int slot = hash(this.utf8Names[i], 0, this.utf8Names[i].length) & (this.slots.length - 1);
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & (this.slots.length - 1);
+            }
+            this.slots[slot] = i + 1;
+        }
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    public Field getField(int index) {
+        return fields[index];
+    }
+
+    public BString getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the index of the field whose UTF-8 encoded name is given by the byte range, or -1 if there is no
+     * such field.
+     *
+     * @param bytes bytes containing the encoded name
+     * @param from  start of the name, inclusive
+     * @param to    end of the name, exclusive
+     * @return index of the field or -1
+     */
+    public int indexOf(byte[] bytes, int from, int to) {
+        int mask = slots.length - 1;
+        int slot = hash(bytes, from, to) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            byte[] name = utf8Names[entry - 1];
+            if (Arrays.equals(name, 0, name.length, bytes, from, to)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the field with the given name, or -1 if there is no such field.
+     *
+     * @param name name of the field
+     * @return index of the field or -1
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getFieldName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = to - from;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Cache of the shape hashes of immutable values, kept apart from the values so that values which are never hashed
+ * do not carry a field for it.
+ * <p>
+ * The cache is a fixed size table indexed by the identity hash code of the value. An entry is replaced when another
+ * value maps to the same slot, so a lookup can miss even after the hash was added, in which case the hash is
+ * computed again. Values are referred to weakly, so the cache does not keep them alive.
+ *
+ * @since 2201.13.0
+ */
+final class ShapeHashCache {
+
+    private static final int SIZE = 4096;
+    private static final Entry[] ENTRIES = new Entry[SIZE];
+
+    private ShapeHashCache() {
+    }
+
+    /**
+     * Returns the cached shape hash of the given value, or null if it is not cached.
+     *
+     * @param value immutable value
+     * @return shape hash, or null
+     */
+    static Long get(Object value) {
+        // Entries are immutable, so a racing write can only make this miss.
+        Entry entry = ENTRIES[System.identityHashCode(value) & (SIZE - 1)];
+        return entry != null && entry.refersTo(value) ? entry.hash : null;
+    }
+
+    /**
+     * Caches the shape hash of the given value. The value must not be mutable.
+     *
+     * @param value     immutable value
+     * @param shapeHash shape hash of the value
+     */
+    static void put(Object value, Long shapeHash) {
+        ENTRIES[System.identityHashCode(value) & (SIZE - 1)] = new Entry(value, shapeHash);
+    }
+
+    private static final class Entry extends WeakReference<Object> {
+
+        private final Long hash;
+
+        Entry(Object value, Long hash) {
+            super(value);
+            this.hash = hash;
+        }
+    }
+}
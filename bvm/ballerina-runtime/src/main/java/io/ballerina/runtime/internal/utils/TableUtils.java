@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
@@ -30,7 +31,12 @@ import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
 import io.ballerina.runtime.internal.values.TableValue;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlPi;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import io.ballerina.runtime.internal.values.XmlValue;
 
+import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.internal.errors.ErrorReasons.TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR;
@@ -55,54 +61,21 @@ public final class TableUtils {
      * @return The hash value
      */
     public static Long hash(Object obj, Node parent) {
-        long result = 0;
-
         if (obj == null) {
             return 0L;
         }
 
         if (obj instanceof BRefValue refValue) {
-
-            Node node = new Node(obj, parent);
-
-            if (node.hasCyclesSoFar()) {
-                throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, ErrorHelper
-                        .getErrorDetails(ErrorCodes.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
-            }
-
-            Type refType = TypeUtils.getImpliedType(refValue.getType());
-            if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                MapValue<?, ?> mapValue = (MapValue<?, ?>) refValue;
-                for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(entry.getKey(), node) +
-                            (entry.getValue() == null ? 0 : hash(entry.getValue(),
-                                    node));
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
-                ArrayValue arrayValue = (ArrayValue) refValue;
-                IteratorValue<?> arrayIterator = arrayValue.getIterator();
-                while (arrayIterator.hasNext()) {
-                    result = 31 * result + hash(arrayIterator.next(), node);
+            // The shape of an immutable value cannot change, so its hash is computed only once.
+            if ((refValue instanceof MapValue || refValue instanceof ArrayValue) && refValue.isFrozen()) {
+                Long cachedHash = ShapeHashCache.get(refValue);
+                if (cachedHash == null) {
+                    cachedHash = hashRefValue(refValue, parent);
+                    ShapeHashCache.put(refValue, cachedHash);
                 }
-                return result;
-            } else if (refType.getTag() == TypeTags.XML_TAG || refType.getTag() == TypeTags.XML_ELEMENT_TAG ||
-                    refType.getTag() == TypeTags.XML_TEXT_TAG || refType.getTag() == TypeTags.XML_ATTRIBUTES_TAG ||
-                    refType.getTag() == TypeTags.XML_COMMENT_TAG || refType.getTag() == TypeTags.XML_PI_TAG ||
-                    refType.getTag() == TypeTags.XMLNS_TAG) {
-                return (long) refValue.toString().hashCode();
-            } else if (refType.getTag() == TypeTags.TABLE_TAG) {
-                TableValue<?, ?> tableValue = (TableValue<?, ?>) refValue;
-                IteratorValue<?> tableIterator = tableValue.getIterator();
-                while (tableIterator.hasNext()) {
-                    result = 31 * result + hash(tableIterator.next(), node);
-                }
-                return result;
-            } else if (refValue instanceof RegExpValue) {
-                return (long) refValue.toString().hashCode();
-            } else {
-                return (long) obj.hashCode();
+                return cachedHash;
             }
+            return hashRefValue(refValue, parent);
         } else if (obj instanceof Long l) {
             return l;
         } else {
@@ -110,6 +83,85 @@ public final class TableUtils {
         }
     }
 
+    private static Long hashRefValue(BRefValue refValue, Node parent) {
+        long result = 0;
+        Type refType = TypeUtils.getImpliedType(refValue.getType());
+        if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Node node = createNode(refValue, parent);
+            MapValue<?, ?> mapValue = (MapValue<?, ?>) refValue;
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result = 31 * result + hash(entry.getKey(), node) +
+                        (entry.getValue() == null ? 0 : hash(entry.getValue(),
+                                node));
+            }
+            return result;
+        } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
+            Node node = createNode(refValue, parent);
+            ArrayValue arrayValue = (ArrayValue) refValue;
+            IteratorValue<?> arrayIterator = arrayValue.getIterator();
+            while (arrayIterator.hasNext()) {
+                result = 31 * result + hash(arrayIterator.next(), node);
+            }
+            return result;
+        } else if (refValue instanceof XmlValue xmlValue) {
+            // XML values are trees, so there is no need to check for cycles.
+            return (long) hashXml(xmlValue);
+        } else if (refType.getTag() == TypeTags.TABLE_TAG) {
+            Node node = createNode(refValue, parent);
+            TableValue<?, ?> tableValue = (TableValue<?, ?>) refValue;
+            IteratorValue<?> tableIterator = tableValue.getIterator();
+            while (tableIterator.hasNext()) {
+                result = 31 * result + hash(tableIterator.next(), node);
+            }
+            return result;
+        } else if (refValue instanceof RegExpValue) {
+            return (long) refValue.toString().hashCode();
+        } else {
+            return (long) refValue.hashCode();
+        }
+    }
+
+    private static Node createNode(Object obj, Node parent) {
+        Node node = new Node(obj, parent);
+        if (node.hasCyclesSoFar()) {
+            throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, ErrorHelper
+                    .getErrorDetails(ErrorCodes.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        }
+        return node;
+    }
+
+    /**
+     * Generates a hash for an XML value which is consistent with XML equality. A singleton sequence hashes to the
+     * same value as its only item, and an empty sequence hashes to the same value as empty text.
+     *
+     * @param xmlValue XML value which the hash is generated from
+     * @return The hash value
+     */
+    private static int hashXml(XmlValue xmlValue) {
+        switch (xmlValue.getNodeType()) {
+            case SEQUENCE:
+                List<BXml> children = ((XmlSequence) xmlValue).getChildrenList();
+                if (children.size() == 1) {
+                    return hashXml((XmlValue) children.get(0));
+                }
+                int result = 0;
+                for (BXml child : children) {
+                    result = 31 * result + hashXml((XmlValue) child);
+                }
+                return result;
+            case ELEMENT:
+                XmlItem xmlItem = (XmlItem) xmlValue;
+                int elementHash = xmlItem.getQName().hashCode();
+                elementHash = 31 * elementHash + xmlItem.getAttributesMap().entrySet().hashCode();
+                return 31 * elementHash + hashXml((XmlValue) xmlItem.getChildrenSeq());
+            case PI:
+                XmlPi xmlPi = (XmlPi) xmlValue;
+                return 31 * xmlPi.getTarget().hashCode() + xmlPi.getData().hashCode();
+            default:
+                return xmlValue.getTextValue().hashCode();
+        }
+    }
+
     /**
      * Handles table insertion/store functionality.
      *
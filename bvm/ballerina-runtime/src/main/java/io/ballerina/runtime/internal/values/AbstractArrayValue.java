@@ -44,6 +44,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.TypeChecker.isEqual;
@@ -65,7 +66,13 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getListType();
     static final int SYSTEM_ARRAY_MAX = Integer.MAX_VALUE - 8;
-    private final ThreadLocal<ListDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
+    // The readonly shape definition is rarely used, hence allocated on first use.
+    private volatile ThreadLocal<ListDefinition> readonlyAttachedDefinition;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractArrayValue, ThreadLocal> READONLY_DEFINITION_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractArrayValue.class, ThreadLocal.class,
+                    "readonlyAttachedDefinition");
 
     /**
      * The maximum size of arrays to allocate.
@@ -320,17 +327,25 @@ public abstract class AbstractArrayValue implements ArrayValue, RecursiveValue<L
 
     @Override
     public ListDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        ThreadLocal<ListDefinition> definition = readonlyAttachedDefinition;
+        return definition == null ? null : definition.get();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void setReadonlyShapeDefinition(ListDefinition definition) {
+        if (readonlyAttachedDefinition == null) {
+            READONLY_DEFINITION_UPDATER.compareAndSet(this, null, new ThreadLocal<ListDefinition>());
+        }
         readonlyAttachedDefinition.set(definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ThreadLocal<ListDefinition> definition = readonlyAttachedDefinition;
+        if (definition != null) {
+            definition.remove();
+        }
     }
 
     @Override
@@ -46,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.DOT;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.OBJECT_LANG_LIB;
@@ -68,7 +69,13 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
     private final BObjectType objectType;
     private final Type type;
     private SemType shape;
-    private final ThreadLocal<ObjectDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
+    // The readonly shape definition is rarely used, hence allocated on first use.
+    private volatile ThreadLocal<ObjectDefinition> readonlyAttachedDefinition;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractObjectValue, ThreadLocal> READONLY_DEFINITION_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractObjectValue.class, ThreadLocal.class,
+                    "readonlyAttachedDefinition");
 
     private final HashMap<String, Object> nativeData = new HashMap<>();
 
@@ -258,16 +265,24 @@ public abstract class AbstractObjectValue implements ObjectValue, RecursiveValue
 
     @Override
     public ObjectDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        ThreadLocal<ObjectDefinition> definition = readonlyAttachedDefinition;
+        return definition == null ? null : definition.get();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void setReadonlyShapeDefinition(ObjectDefinition definition) {
+        if (readonlyAttachedDefinition == null) {
+            READONLY_DEFINITION_UPDATER.compareAndSet(this, null, new ThreadLocal<ObjectDefinition>());
+        }
         readonlyAttachedDefinition.set(definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ThreadLocal<ObjectDefinition> definition = readonlyAttachedDefinition;
+        if (definition != null) {
+            definition.remove();
+        }
     }
 }
@@ -43,17 +43,23 @@ public class BmpStringValue extends StringValue {
 
     @Override
     public BString concat(BString str) {
+        String strValue = str.getValue();
+        if (ConcatStringValue.isAppendLoop(this, strValue)) {
+            return ConcatStringValue.concat(this, value, str, strValue);
+        }
         StringValue stringValue = (StringValue) str;
+        StringValue result;
         if (stringValue.isNonBmp) {
-            int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
-            int[] newSurrogates = new int[otherSurrogates.length];
+            int[] otherSurrogates = ConcatStringValue.getSurrogates(str);
             int length = length();
             for (int i = 0; i < otherSurrogates.length; i++) {
-                newSurrogates[i] = otherSurrogates[i] + length;
+                otherSurrogates[i] += length;
             }
-            return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+            result = new NonBmpStringValue(this.value + strValue, otherSurrogates);
+        } else {
+            result = new BmpStringValue(this.value + strValue);
         }
-        return new BmpStringValue(this.value + str.getValue());
+        return ConcatStringValue.appendedTo(this, result);
     }
 
     @Override
@@ -0,0 +1,692 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Insertion ordered map which keeps its keys and values in a single array, in the order they are added.
+ * <p>
+ * Maps with up to {@value #LINEAR_SEARCH_LIMIT} entries are searched linearly, so a small map is two objects: the map
+ * and its array. Larger maps also keep an open addressing hash index into the array, which uses linear probing. No
+ * object is allocated per entry, unlike in {@link java.util.LinkedHashMap}.
+ * <p>
+ * A removed entry leaves a gap in the array, which is reclaimed when the array is full. The entries returned by
+ * {@link #entrySet()} read and write the current value of their key, and keep the last value they read once their key
+ * is removed.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @since 2201.13.0
+ */
+public class CompactOrderedMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Object[] EMPTY_TABLE = {};
+    private static final Object NULL_KEY = new Object();
+    private static final Object REMOVED = new Object();
+
+    // Key of the i-th entry at 2i and its value at 2i + 1.
+    private Object[] table = EMPTY_TABLE;
+    // Position of an entry plus one, at the slot of its key's hash, or null while the map is searched linearly.
+    private int[] index;
+    private int size;
+    // Number of positions in use, including the positions of removed entries.
+    private int used;
+    private int modCount;
+    private Set<K> keyView;
+    private Collection<V> valueView;
+    private Set<Map.Entry<K, V>> entryView;
+
+    public CompactOrderedMap() {
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(maskNull(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Object[] tab = table;
+        for (int i = 0; i < used; i++) {
+            if (tab[i << 1] != REMOVED && Objects.equals(value, tab[(i << 1) + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        int i = find(maskNull(key));
+        return i < 0 ? null : valueAt(i);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int i = find(maskNull(key));
+        return i < 0 ? defaultValue : valueAt(i);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return putEntry(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putEntry(key, value, true);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            putEntry(entry.getKey(), entry.getValue(), false);
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        int i = find(maskNull(key));
+        return i < 0 ? null : removeAt(i);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int i = find(maskNull(key));
+        if (i < 0 || !Objects.equals(valueAt(i), value)) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        int i = find(maskNull(key));
+        return i < 0 ? null : setValueAt(i, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        int i = find(maskNull(key));
+        if (i < 0 || !Objects.equals(valueAt(i), oldValue)) {
+            return false;
+        }
+        setValueAt(i, newValue);
+        return true;
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Objects.requireNonNull(function);
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            if (table[i << 1] != REMOVED) {
+                V value = function.apply(keyAt(i), valueAt(i));
+                checkModCount(expectedModCount);
+                setValueAt(i, value);
+            }
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Object maskedKey = maskNull(key);
+        int i = find(maskedKey);
+        if (i >= 0 && valueAt(i) != null) {
+            return valueAt(i);
+        }
+        int expectedModCount = modCount;
+        V value = mappingFunction.apply(key);
+        checkModCount(expectedModCount);
+        if (value == null) {
+            return null;
+        }
+        if (i >= 0) {
+            setValueAt(i, value);
+        } else {
+            append(maskedKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        int i = find(maskNull(key));
+        if (i < 0 || valueAt(i) == null) {
+            return null;
+        }
+        int expectedModCount = modCount;
+        V value = remappingFunction.apply(key, valueAt(i));
+        checkModCount(expectedModCount);
+        if (value == null) {
+            removeAt(i);
+        } else {
+            setValueAt(i, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(remappingFunction);
+        Object maskedKey = maskNull(key);
+        int i = find(maskedKey);
+        int expectedModCount = modCount;
+        V value = remappingFunction.apply(key, i < 0 ? null : valueAt(i));
+        checkModCount(expectedModCount);
+        if (value == null) {
+            if (i >= 0) {
+                removeAt(i);
+            }
+        } else if (i >= 0) {
+            setValueAt(i, value);
+        } else {
+            append(maskedKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(remappingFunction);
+        Object maskedKey = maskNull(key);
+        int i = find(maskedKey);
+        if (i < 0) {
+            append(maskedKey, value);
+            return value;
+        }
+        V oldValue = valueAt(i);
+        if (oldValue == null) {
+            setValueAt(i, value);
+            return value;
+        }
+        int expectedModCount = modCount;
+        V newValue = remappingFunction.apply(oldValue, value);
+        checkModCount(expectedModCount);
+        if (newValue == null) {
+            removeAt(i);
+        } else {
+            setValueAt(i, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            if (table[i << 1] != REMOVED) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+            checkModCount(expectedModCount);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (used > 0) {
+            modCount++;
+        }
+        table = EMPTY_TABLE;
+        index = null;
+        size = 0;
+        used = 0;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keys = keyView;
+        if (keys == null) {
+            keys = new KeySet();
+            keyView = keys;
+        }
+        return keys;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> values = valueView;
+        if (values == null) {
+            values = new Values();
+            valueView = values;
+        }
+        return values;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entryView;
+        if (entries == null) {
+            entries = new EntrySet();
+            entryView = entries;
+        }
+        return entries;
+    }
+
+    private V putEntry(K key, V value, boolean onlyIfAbsent) {
+        Object maskedKey = maskNull(key);
+        int i = find(maskedKey);
+        if (i < 0) {
+            append(maskedKey, value);
+            return null;
+        }
+        V oldValue = valueAt(i);
+        if (!onlyIfAbsent || oldValue == null) {
+            table[(i << 1) + 1] = value;
+        }
+        return oldValue;
+    }
+
+    private int find(Object maskedKey) {
+        Object[] tab = table;
+        int[] idx = index;
+        if (idx == null) {
+            for (int i = 0; i < used; i++) {
+                Object key = tab[i << 1];
+                if (key == maskedKey || (key != REMOVED && maskedKey.equals(key))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = idx.length - 1;
+        for (int slot = hash(maskedKey) & mask; ; slot = (slot + 1) & mask) {
+            int position = idx[slot];
+            if (position == 0) {
+                return -1;
+            }
+            Object key = tab[(position - 1) << 1];
+            if (key == maskedKey || maskedKey.equals(key)) {
+                return position - 1;
+            }
+        }
+    }
+
+    private void append(Object maskedKey, Object value) {
+        if (used << 1 == table.length) {
+            makeRoom();
+        }
+        int i = used++;
+        table[i << 1] = maskedKey;
+        table[(i << 1) + 1] = value;
+        size++;
+        modCount++;
+        if (index != null) {
+            addToIndex(index, maskedKey, i);
+        } else if (size > LINEAR_SEARCH_LIMIT) {
+            buildIndex();
+        }
+    }
+
+    private void makeRoom() {
+        int capacity = table.length >> 1;
+        int removed = used - size;
+        // Reuse the gaps of removed entries when there are enough of them, rather than growing.
+        int newCapacity = capacity == 0 ? INITIAL_CAPACITY : removed >= capacity >> 2 ? capacity : capacity << 1;
+        Object[] newTable = new Object[newCapacity << 1];
+        if (removed == 0) {
+            System.arraycopy(table, 0, newTable, 0, used << 1);
+        } else {
+            for (int i = 0, j = 0; i < used; i++) {
+                if (table[i << 1] != REMOVED) {
+                    newTable[j << 1] = table[i << 1];
+                    newTable[(j << 1) + 1] = table[(i << 1) + 1];
+                    j++;
+                }
+            }
+        }
+        table = newTable;
+        used = size;
+        if (index != null) {
+            buildIndex();
+        }
+    }
+
+    private void buildIndex() {
+        // The index has twice as many slots as the table has positions, so that it is at most half full.
+        int[] idx = new int[table.length];
+        for (int i = 0; i < used; i++) {
+            Object key = table[i << 1];
+            if (key != REMOVED) {
+                addToIndex(idx, key, i);
+            }
+        }
+        index = idx;
+    }
+
+    private static void addToIndex(int[] idx, Object maskedKey, int position) {
+        int mask = idx.length - 1;
+        int slot = hash(maskedKey) & mask;
+        while (idx[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        idx[slot] = position + 1;
+    }
+
+    private V removeAt(int i) {
+        Object maskedKey = table[i << 1];
+        V oldValue = valueAt(i);
+        if (index != null) {
+            removeFromIndex(maskedKey, i);
+        }
+        table[i << 1] = REMOVED;
+        table[(i << 1) + 1] = null;
+        size--;
+        modCount++;
+        while (used > 0 && table[(used - 1) << 1] == REMOVED) {
+            used--;
+        }
+        return oldValue;
+    }
+
+    private void removeFromIndex(Object maskedKey, int position) {
+        int[] idx = index;
+        int mask = idx.length - 1;
+        int hole = hash(maskedKey) & mask;
+        while (idx[hole] != position + 1) {
+            hole = (hole + 1) & mask;
+        }
+        // Move back the entries after the hole which would not be found past it, so that no search stops early.
+        for (int slot = (hole + 1) & mask; idx[slot] != 0; slot = (slot + 1) & mask) {
+            int home = hash(table[(idx[slot] - 1) << 1]) & mask;
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                idx[hole] = idx[slot];
+                hole = slot;
+            }
+        }
+        idx[hole] = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int i) {
+        Object key = table[i << 1];
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        return (V) table[(i << 1) + 1];
+    }
+
+    private V setValueAt(int i, V value) {
+        V oldValue = valueAt(i);
+        table[(i << 1) + 1] = value;
+        return oldValue;
+    }
+
+    private void checkModCount(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static int hash(Object maskedKey) {
+        int h = maskedKey.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private abstract class EntryIterator<T> implements Iterator<T> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && table[next << 1] == REMOVED) {
+                next++;
+            }
+            return next < used;
+        }
+
+        @Override
+        public T next() {
+            checkModCount(expectedModCount);
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkModCount(expectedModCount);
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        abstract T get(int position);
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                K get(int position) {
+                    return keyAt(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return find(maskNull(o)) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int i = find(maskNull(o));
+            if (i < 0) {
+                return false;
+            }
+            removeAt(i);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                V get(int position) {
+                    return valueAt(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>() {
+                @Override
+                Map.Entry<K, V> get(int position) {
+                    return new Entry(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+            int i = find(maskNull(entry.getKey()));
+            return i >= 0 && Objects.equals(valueAt(i), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+            int i = find(maskNull(entry.getKey()));
+            if (i < 0 || !Objects.equals(valueAt(i), entry.getValue())) {
+                return false;
+            }
+            removeAt(i);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactOrderedMap.this.clear();
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, V> {
+
+        private final Object maskedKey;
+        private int position;
+        private V value;
+
+        Entry(int position) {
+            this.maskedKey = table[position << 1];
+            this.position = position;
+            this.value = valueAt(position);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return maskedKey == NULL_KEY ? null : (K) maskedKey;
+        }
+
+        @Override
+        public V getValue() {
+            if (locate()) {
+                value = valueAt(position);
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            if (locate()) {
+                setValueAt(position, value);
+            }
+            this.value = value;
+            return oldValue;
+        }
+
+        // Finds the current position of the key, which changes when the gaps of removed entries are reclaimed.
+        private boolean locate() {
+            if (position < used && table[position << 1] == maskedKey) {
+                return true;
+            }
+            int i = find(maskedKey);
+            if (i < 0) {
+                return false;
+            }
+            position = i;
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> entry && Objects.equals(getKey(), entry.getKey()) &&
+                    Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
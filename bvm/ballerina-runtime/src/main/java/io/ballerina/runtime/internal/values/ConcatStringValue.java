@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * Represent ballerina strings built by repeatedly concatenating to a string which is not short.
+ * <p>
+ * A concatenation produces a {@link BmpStringValue} or a {@link NonBmpStringValue}, unless the string concatenated
+ * to was itself produced by appending to the result of a concatenation, as when a string is built in a loop. The
+ * characters of the string are then kept in a buffer which is shared with the string that was concatenated to.
+ * Concatenating to the string which ends at the end of the buffer appends to the buffer in place, so that building
+ * a string by repeatedly concatenating to it copies each of the appended characters only once. The string is
+ * flattened into a {@link BmpStringValue} or a {@link NonBmpStringValue} when its characters are read for the first
+ * time.
+ *
+ * @since 2201.13.0
+ */
+public final class ConcatStringValue extends StringValue {
+
+    // Concatenations shorter than this are copied into a new string as there is nothing to gain from buffering them.
+    static final int MIN_BUFFERED_LENGTH = 64;
+    // Number of successive concatenations which produced a string, from which concatenating to it is buffered.
+    static final byte MIN_BUFFERED_DEPTH = 2;
+
+    private static final int[] NO_SURROGATES = new int[0];
+
+    private final int charLength;
+    private final int surrogateCount;
+    private volatile Buffer buffer;
+    private volatile StringValue flattened;
+
+    private ConcatStringValue(Buffer buffer, int charLength, int surrogateCount) {
+        super(null, surrogateCount > 0);
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.surrogateCount = surrogateCount;
+    }
+
+    static boolean isAppendLoop(StringValue lhs, String rhsValue) {
+        return lhs.concatDepth >= MIN_BUFFERED_DEPTH &&
+                lhs.value.length() + rhsValue.length() >= MIN_BUFFERED_LENGTH;
+    }
+
+    static StringValue appendedTo(StringValue lhs, StringValue result) {
+        result.concatDepth = (byte) Math.min(lhs.concatDepth + 1, MIN_BUFFERED_DEPTH);
+        return result;
+    }
+
+    static ConcatStringValue concat(BString lhs, String lhsValue, BString rhs, String rhsValue) {
+        Buffer buffer = new Buffer(lhsValue.length() + rhsValue.length());
+        buffer.append(lhsValue, getSurrogates(lhs));
+        return buffer.append(rhsValue, getSurrogates(rhs));
+    }
+
+    @Override
+    public BString concat(BString str) {
+        // Read the other string before locking the buffer, as it may have to lock its own buffer to be flattened.
+        String strValue = str.getValue();
+        int[] strSurrogates = getSurrogates(str);
+        Buffer buffer = this.buffer;
+        if (buffer != null) {
+            synchronized (buffer) {
+                if (buffer.chars.length() == charLength) {
+                    return buffer.append(strValue, strSurrogates);
+                }
+            }
+        }
+        return flatten().concat(str);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charLength - surrogateCount;
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue<String> getIterator() {
+        return flatten().getIterator();
+    }
+
+    public int[] getSurrogates() {
+        return flatten() instanceof NonBmpStringValue nonBmpStringValue ? nonBmpStringValue.getSurrogates() :
+                NO_SURROGATES;
+    }
+
+    private StringValue flatten() {
+        StringValue flattened = this.flattened;
+        if (flattened != null) {
+            return flattened;
+        }
+        Buffer buffer = this.buffer;
+        if (buffer == null) {
+            // the buffer is released only after the flattened string is set
+            return this.flattened;
+        }
+        synchronized (buffer) {
+            flattened = this.flattened;
+            if (flattened == null) {
+                String value = buffer.chars.substring(0, charLength);
+                flattened = surrogateCount == 0 ? new BmpStringValue(value) :
+                        new NonBmpStringValue(value, Arrays.copyOf(buffer.surrogates, surrogateCount));
+                // Concatenating to a string which does not end at the end of the buffer produces a new string, and
+                // concatenating to that string is buffered again.
+                flattened.concatDepth = MIN_BUFFERED_DEPTH - 1;
+                this.flattened = flattened;
+                if (buffer.chars.length() != charLength) {
+                    // Strings can only be concatenated in place to the end of the buffer, so there is no need to
+                    // keep the rest of the buffer alive.
+                    this.buffer = null;
+                }
+            }
+            return flattened;
+        }
+    }
+
+    static int[] getSurrogates(BString str) {
+        if (str instanceof NonBmpStringValue nonBmpStringValue) {
+            return nonBmpStringValue.getSurrogates();
+        }
+        if (str instanceof ConcatStringValue concatStringValue) {
+            return concatStringValue.getSurrogates();
+        }
+        return NO_SURROGATES;
+    }
+
+    /**
+     * Characters of a string and the code point indices of its surrogate pairs, which can be appended to.
+     */
+    private static final class Buffer {
+
+        private final StringBuilder chars;
+        private int[] surrogates = NO_SURROGATES;
+        private int surrogateCount;
+
+        Buffer(int capacity) {
+            chars = new StringBuilder(capacity);
+        }
+
+        ConcatStringValue append(String value, int[] valueSurrogates) {
+            if (valueSurrogates.length > 0) {
+                int codePointLength = chars.length() - surrogateCount;
+                int newSurrogateCount = surrogateCount + valueSurrogates.length;
+                if (newSurrogateCount > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates, Math.max(newSurrogateCount, surrogates.length * 2));
+                }
+                for (int surrogate : valueSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointLength;
+                }
+            }
+            chars.append(value);
+            return new ConcatStringValue(this, chars.length(), surrogateCount);
+        }
+    }
+}
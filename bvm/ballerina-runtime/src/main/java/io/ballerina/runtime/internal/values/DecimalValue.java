@@ -65,23 +65,59 @@ public class DecimalValue implements SimpleValue, BDecimal {
             new BigDecimal("-9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
     private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
             new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
+    // Unscaled value marking a decimal which is only held as a BigDecimal.
+    private static final long NON_COMPACT = Long.MIN_VALUE;
+    // Any unscaled long with a scale within this bound is in the decimal range and needs no rounding.
+    private static final int MAX_COMPACT_SCALE = 6000;
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final long[] LONG_TEN_POWERS = new long[MAX_COMPACT_PRECISION + 1];
+    private static final double[] DOUBLE_TEN_POWERS = new double[23];
+    private static final long MAX_DOUBLE_EXACT = 1L << 52;
+
+    static {
+        long longPower = 1;
+        for (int i = 0; i < LONG_TEN_POWERS.length; i++) {
+            LONG_TEN_POWERS[i] = longPower;
+            longPower *= 10;
+        }
+        double doublePower = 1;
+        for (int i = 0; i < DOUBLE_TEN_POWERS.length; i++) {
+            DOUBLE_TEN_POWERS[i] = doublePower;
+            doublePower *= 10;
+        }
+    }
 
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
-    private final BigDecimal value;
+    // Values that fit are also kept as unscaledValue * 10^-scale, so that arithmetic on them does not need a
+    // BigDecimal. The BigDecimal of such a value is only created when it is asked for.
+    private BigDecimal value;
+    private final long unscaledValue;
+    private final int scale;
     private BDecimalType type;
     private final boolean shapeCalculated = false;
 
     public DecimalValue(BigDecimal value) {
         this.type = DECIMAL_TYPE;
         this.value = getValidDecimalValue(value);
+        this.unscaledValue = getCompactValue(this.value);
+        this.scale = this.value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.type = DECIMAL_TYPE;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value) {
         // Check whether the number provided is a hexadecimal value.
         BigDecimal bd;
@@ -97,6 +133,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
             throw exception;
         }
         this.value = getValidDecimalValue(bd);
+        this.unscaledValue = getCompactValue(this.value);
+        this.scale = this.value.scale();
         this.type = DECIMAL_TYPE;
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
@@ -112,20 +150,89 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (bd.compareTo(DECIMAL_MAX) > 0 || bd.compareTo(DECIMAL_MIN) < 0) {
             throw ErrorCreator.createError(ErrorReasons.NUMBER_OVERFLOW,
                     ErrorHelper.getErrorDetails(ErrorCodes.DECIMAL_VALUE_OUT_OF_RANGE));
-        } else if (bd.abs(MathContext.DECIMAL128).compareTo(MIN_DECIMAL_MAGNITUDE) < 0 &&
-                bd.abs(MathContext.DECIMAL128).compareTo(BigDecimal.ZERO) > 0) {
+        }
+        BigDecimal magnitude = bd.abs(MathContext.DECIMAL128);
+        if (magnitude.compareTo(MIN_DECIMAL_MAGNITUDE) < 0 && magnitude.signum() > 0) {
             return BigDecimal.ZERO;
         }
         return bd;
     }
 
+    private static long getCompactValue(BigDecimal bd) {
+        if (bd.precision() > MAX_COMPACT_PRECISION || Math.abs(bd.scale()) > MAX_COMPACT_SCALE) {
+            return NON_COMPACT;
+        }
+        return bd.unscaledValue().longValue();
+    }
+
+    private boolean isCompact() {
+        return this.unscaledValue != NON_COMPACT;
+    }
+
+    private static DecimalValue compactValueOf(long unscaledValue, int scale) {
+        if (unscaledValue == NON_COMPACT || Math.abs(scale) > MAX_COMPACT_SCALE) {
+            return null;
+        }
+        return new DecimalValue(unscaledValue, scale);
+    }
+
+    /**
+     * Returns {@code value * 10^power}, or {@code NON_COMPACT} if it does not fit in a long.
+     */
+    private static long scaleUp(long value, int power) {
+        if (power >= LONG_TEN_POWERS.length) {
+            return NON_COMPACT;
+        }
+        return multiplyCompact(value, LONG_TEN_POWERS[power]);
+    }
+
+    private static long multiplyCompact(long lhs, long rhs) {
+        long high = Math.multiplyHigh(lhs, rhs);
+        long low = lhs * rhs;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return low;
+        }
+        return NON_COMPACT;
+    }
+
+    /**
+     * Adds two compact values exactly. Since the result has at most 19 digits, this is the same value and scale
+     * that {@code BigDecimal#add} gives under {@code MathContext.DECIMAL128}.
+     *
+     * @return the sum, or null if it does not fit in the compact form
+     */
+    private static DecimalValue addCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        if (lhsScale < rhsScale) {
+            lhs = scaleUp(lhs, rhsScale - lhsScale);
+            if (lhs == NON_COMPACT) {
+                return null;
+            }
+        } else if (lhsScale > rhsScale) {
+            rhs = scaleUp(rhs, lhsScale - rhsScale);
+            if (rhs == NON_COMPACT) {
+                return null;
+            }
+        }
+        long sum = lhs + rhs;
+        if (((lhs ^ sum) & (rhs ^ sum)) < 0) {
+            return null;
+        }
+        return compactValueOf(sum, Math.max(lhsScale, rhsScale));
+    }
+
     /**
      * Get value of the decimal.
      * @return the value
      */
     @Override
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal value = this.value;
+        if (value == null) {
+            // BigDecimal is immutable, so a racing thread creating its own copy is harmless.
+            value = BigDecimal.valueOf(this.unscaledValue, this.scale);
+            this.value = value;
+        }
+        return value;
     }
 
     /**
@@ -136,11 +243,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public long intValue() {
 
+        if (isCompact() && this.scale == 0) {
+            return this.unscaledValue;
+        }
         if (!isDecimalWithinIntRange(this)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return value.setScale(0, RoundingMode.HALF_EVEN).longValue();
+        return decimalValue().setScale(0, RoundingMode.HALF_EVEN).longValue();
     }
 
     /**
@@ -149,7 +259,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is in int range
      */
     public static boolean isDecimalWithinIntRange(DecimalValue decimalValue) {
-        BigDecimal value = decimalValue.value;
+        BigDecimal value = decimalValue.decimalValue();
         return value.compareTo(RuntimeConstants.BINT_MAX_VALUE_BIG_DECIMAL_RANGE_MAX) < 0 &&
                value.compareTo(RuntimeConstants.BINT_MIN_VALUE_BIG_DECIMAL_RANGE_MIN) > 0;
     }
@@ -162,9 +272,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public int byteValue() {
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(floatValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -180,7 +290,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public double floatValue() {
-        return value.doubleValue();
+        // Both operands are exact doubles, so the correctly rounded division gives the same result as BigDecimal.
+        if (isCompact() && this.scale >= 0 && this.scale < DOUBLE_TEN_POWERS.length &&
+                Math.abs(this.unscaledValue) < MAX_DOUBLE_EXACT) {
+            return this.unscaledValue / DOUBLE_TEN_POWERS[this.scale];
+        }
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -189,7 +304,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public boolean booleanValue() {
-        return value.compareTo(BigDecimal.ZERO) != 0;
+        if (isCompact()) {
+            return this.unscaledValue != 0;
+        }
+        return decimalValue().signum() != 0;
     }
 
     @Override
@@ -212,7 +330,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -225,7 +343,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -234,7 +352,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     @Override
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -260,6 +378,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && augend.isCompact()) {
+            DecimalValue sum = addCompact(this.unscaledValue, this.scale, augend.unscaledValue, augend.scale);
+            if (sum != null) {
+                return sum;
+            }
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -279,6 +403,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && subtrahend.isCompact()) {
+            // Compact values are never Long.MIN_VALUE, so the negation cannot overflow.
+            DecimalValue difference =
+                    addCompact(this.unscaledValue, this.scale, -subtrahend.unscaledValue, subtrahend.scale);
+            if (difference != null) {
+                return difference;
+            }
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -295,6 +427,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && multiplicand.isCompact()) {
+                // The exact product has at most 19 digits, so DECIMAL128 would not round it either.
+                DecimalValue product = compactValueOf(multiplyCompact(this.unscaledValue, multiplicand.unscaledValue),
+                        this.scale + multiplicand.scale);
+                if (product != null) {
+                    return product;
+                }
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -346,6 +486,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public DecimalValue negate() {
         if (this.valueKind == DecimalValueKind.OTHER) {
+            if (isCompact()) {
+                return new DecimalValue(-this.unscaledValue, this.scale);
+            }
             return new DecimalValue(this.decimalValue().negate());
         }
         return this;
@@ -398,12 +541,18 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.valueKind != bDecimal.valueKind) {
+            return false;
+        }
+        if (this.isCompact() && bDecimal.isCompact() && this.scale == bDecimal.scale) {
+            return this.unscaledValue == bDecimal.unscaledValue;
+        }
+        return decimalValue().compareTo(bDecimal.decimalValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -421,7 +570,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
+        return new DecimalValue(value * 10L, 1);
     }
 
     /**
@@ -430,6 +579,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        long unscaledValue = scaleUp(value, 1);
+        if (unscaledValue != NON_COMPACT) {
+            return new DecimalValue(unscaledValue, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
     }
 
@@ -498,7 +651,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BDecimalType.singletonType(value);
+            this.type = BDecimalType.singletonType(decimalValue());
         }
         return Optional.of(this.type.shape());
     }
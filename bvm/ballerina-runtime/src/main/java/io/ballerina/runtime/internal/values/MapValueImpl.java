@@ -63,7 +63,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -71,6 +70,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MAP_LANG_LIB;
@@ -101,17 +101,23 @@ import static io.ballerina.runtime.internal.values.ReadOnlyUtils.handleInvalidUp
  *
  * @since 0.995.0
  */
-public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
+public class MapValueImpl<K, V> extends CompactOrderedMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
         BMap<K, V>, RecursiveValue<MappingDefinition> {
 
     private static final BasicTypeBitSet BASIC_TYPE = Builder.getMappingType();
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Native data and the readonly shape definition are rarely used, hence allocated on first use.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
     private SemType shape;
-    private final ThreadLocal<MappingDefinition> readonlyAttachedDefinition = new ThreadLocal<>();
+    private volatile ThreadLocal<MappingDefinition> readonlyAttachedDefinition;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MapValueImpl, ThreadLocal> READONLY_DEFINITION_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(MapValueImpl.class, ThreadLocal.class,
+                    "readonlyAttachedDefinition");
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -623,17 +629,25 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     @Override
     public MappingDefinition getReadonlyShapeDefinition() {
-        return readonlyAttachedDefinition.get();
+        ThreadLocal<MappingDefinition> definition = readonlyAttachedDefinition;
+        return definition == null ? null : definition.get();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void setReadonlyShapeDefinition(MappingDefinition definition) {
+        if (readonlyAttachedDefinition == null) {
+            READONLY_DEFINITION_UPDATER.compareAndSet(this, null, new ThreadLocal<MappingDefinition>());
+        }
         readonlyAttachedDefinition.set(definition);
     }
 
     @Override
     public void resetReadonlyShapeDefinition() {
-        readonlyAttachedDefinition.remove();
+        ThreadLocal<MappingDefinition> definition = readonlyAttachedDefinition;
+        if (definition != null) {
+            definition.remove();
+        }
     }
 
     /**
@@ -682,7 +696,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -692,7 +706,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -709,6 +723,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
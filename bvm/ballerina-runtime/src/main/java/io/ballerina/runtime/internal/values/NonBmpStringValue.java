@@ -62,17 +62,21 @@ public class NonBmpStringValue extends StringValue {
 
    @Override
    public BString concat(BString str) {
+       String strValue = str.getValue();
+       if (ConcatStringValue.isAppendLoop(this, strValue)) {
+           return ConcatStringValue.concat(this, value, str, strValue);
+       }
        StringValue stringValue = (StringValue) str;
+       int[] both = surrogates;
        if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
-           int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+           int[] otherSurrogates = ConcatStringValue.getSurrogates(str);
+           both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
            int length = length();
-           for (int i = 0; i < other.surrogates.length; i++) {
-               both[i + surrogates.length] = other.surrogates[i] + length;
+           for (int i = 0; i < otherSurrogates.length; i++) {
+               both[i + surrogates.length] = otherSurrogates[i] + length;
            }
-           return new NonBmpStringValue(this.value + other.value, both);
        }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       return ConcatStringValue.appendedTo(this, new NonBmpStringValue(this.value + strValue, both));
    }
 
     public int[] getSurrogates() {
@@ -24,12 +24,14 @@ import io.ballerina.runtime.api.types.semtype.SemType;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.CompiledRegExp;
 import io.ballerina.runtime.internal.types.semtype.RegexUtils;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 
@@ -50,6 +52,8 @@ public class RegExpValue implements BRegexpValue, RefValue {
     private BTypedesc typedesc;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
     private final SemType shape;
+    private volatile CompiledRegExp compiledRegExp;
+    private volatile Pattern splitPattern;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
         this.regExpDisjunction = regExpDisjunction;
@@ -61,6 +65,34 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the compiled forms of this regular expression, if it has already been compiled.
+     *
+     * @return compiled regular expression or null
+     * @since 2201.13.0
+     */
+    public CompiledRegExp getCompiledRegExp() {
+        return this.compiledRegExp;
+    }
+
+    public void setCompiledRegExp(CompiledRegExp compiledRegExp) {
+        this.compiledRegExp = compiledRegExp;
+    }
+
+    /**
+     * Returns the pattern used to split strings by this regular expression, if it has already been compiled.
+     *
+     * @return split pattern or null
+     * @since 2201.13.0
+     */
+    public Pattern getSplitPattern() {
+        return this.splitPattern;
+    }
+
+    public void setSplitPattern(Pattern splitPattern) {
+        this.splitPattern = splitPattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import com.github.benmanes.caffeine.cache.Interner;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Pool of the string constants of all the modules, so that a string literal used in several modules is backed by a
+ * single Ballerina string. Used by the generated string constant classes of modules.
+ *
+ * @since 2201.13.0
+ */
+public final class StringConstantPool {
+
+    // Weak, so that the constants of modules which are no longer loaded can be collected.
+    private static final Interner<BString> CONSTANTS = Interner.newWeakInterner();
+
+    private StringConstantPool() {
+    }
+
+    public static BString getBmpString(String value) {
+        return CONSTANTS.intern(new BmpStringValue(value));
+    }
+
+    public static BString getNonBmpString(String value, int[] surrogates) {
+        return CONSTANTS.intern(new NonBmpStringValue(value, surrogates));
+    }
+}
@@ -48,6 +48,8 @@ public abstract class StringValue implements BString, SimpleValue {
     final boolean isNonBmp;
     private BStringType type;
     private boolean shapeCalculated = false;
+    // Number of successive concatenations which produced this string, up to ConcatStringValue.MIN_BUFFERED_DEPTH.
+    byte concatDepth;
 
     protected StringValue(String value, boolean isNonBmp) {
         this.value = value;
@@ -82,7 +84,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -97,12 +99,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -111,7 +113,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString bString) {
-            return bString.getValue().equals(value);
+            return bString.getValue().equals(getValue());
         }
         return false;
     }
@@ -119,7 +121,7 @@ public abstract class StringValue implements BString, SimpleValue {
     @Override
     public Optional<SemType> inherentTypeOf(Context cx) {
         if (!shapeCalculated) {
-            this.type = BStringType.singletonType(value);
+            this.type = BStringType.singletonType(getValue());
         }
         return Optional.of(this.type.shape());
     }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.TableUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static io.ballerina.runtime.internal.TypeChecker.isEqual;
+
+/**
+ * Secondary index over a field of the rows of a table, which finds the rows whose field value satisfies a comparison
+ * without scanning the table.
+ * <p>
+ * An index is built from the rows the table has at a given version and is discarded once the table is modified. Field
+ * values are hashed the same way as table keys, so equality lookups follow `==`. When the field holds an int in every
+ * row the index is also sorted, so that it can answer range lookups. Lookups return the rows in table order.
+ *
+ * @since 2201.13.0
+ */
+public final class TableIndex {
+
+    public static final String EQUAL = "==";
+    public static final String LESS_THAN = "<";
+    public static final String LESS_EQUAL = "<=";
+    public static final String GREATER_THAN = ">";
+    public static final String GREATER_EQUAL = ">=";
+
+    private final long version;
+    private final BString fieldName;
+    private final Object[] rows;
+    private final Map<Long, int[]> positionsByHash;
+    // Positions of the rows ordered by their field value, or null if the field does not hold an int in every row.
+    private final int[] sortedPositions;
+    private final long[] sortedValues;
+
+    TableIndex(long version, BString fieldName, Iterator<?> rowIterator) {
+        this.version = version;
+        this.fieldName = fieldName;
+        List<Object> rowList = new ArrayList<>();
+        rowIterator.forEachRemaining(rowList::add);
+        this.rows = rowList.toArray();
+
+        Map<Long, List<Integer>> positions = new HashMap<>();
+        long[] intValues = new long[rows.length];
+        boolean allInts = true;
+        for (int i = 0; i < rows.length; i++) {
+            Object value = getFieldValue(i);
+            positions.computeIfAbsent(TableUtils.hash(value, null), hash -> new ArrayList<>()).add(i);
+            if (value instanceof Long intValue) {
+                intValues[i] = intValue;
+            } else {
+                allInts = false;
+            }
+        }
+        this.positionsByHash = new HashMap<>(positions.size() * 4 / 3 + 1);
+        for (Map.Entry<Long, List<Integer>> entry : positions.entrySet()) {
+            positionsByHash.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        if (allInts) {
+            this.sortedPositions = IntStream.range(0, rows.length).boxed()
+                    .sorted(Comparator.comparingLong(i -> intValues[i]))
+                    .mapToInt(Integer::intValue).toArray();
+            this.sortedValues = new long[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                sortedValues[i] = intValues[sortedPositions[i]];
+            }
+        } else {
+            this.sortedPositions = null;
+            this.sortedValues = null;
+        }
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the rows whose field value satisfies the comparison with the given value.
+     *
+     * @param operator one of `==`, `<`, `<=`, `>` and `>=`
+     * @param value    the value the field is compared with
+     * @return the matching rows in table order, or null if this index cannot answer the lookup
+     */
+    public List<Object> lookUp(String operator, Object value) {
+        if (EQUAL.equals(operator)) {
+            return lookUpEqual(value);
+        }
+        if (sortedPositions == null || !(value instanceof Long bound)) {
+            return null;
+        }
+        return switch (operator) {
+            case LESS_THAN -> getRange(0, lowerBound(bound));
+            case LESS_EQUAL -> getRange(0, upperBound(bound));
+            case GREATER_THAN -> getRange(upperBound(bound), rows.length);
+            case GREATER_EQUAL -> getRange(lowerBound(bound), rows.length);
+            default -> null;
+        };
+    }
+
+    private List<Object> lookUpEqual(Object value) {
+        // Only values whose equal values hash the same way are looked up.
+        if (value != null && !(value instanceof Long) && !(value instanceof BString) && !(value instanceof Boolean)) {
+            return null;
+        }
+        int[] positions = positionsByHash.get(TableUtils.hash(value, null));
+        if (positions == null) {
+            return List.of();
+        }
+        List<Object> matches = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            // Skip the rows whose field value only has the same hash.
+            if (isEqual(getFieldValue(position), value)) {
+                matches.add(rows[position]);
+            }
+        }
+        return matches;
+    }
+
+    private List<Object> getRange(int from, int to) {
+        int[] positions = Arrays.copyOfRange(sortedPositions, from, to);
+        Arrays.sort(positions);
+        List<Object> matches = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            matches.add(rows[position]);
+        }
+        return matches;
+    }
+
+    // Index of the first value that is not less than the bound.
+    private int lowerBound(long bound) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Index of the first value that is greater than the bound.
+    private int upperBound(long bound) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= bound) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Object getFieldValue(int position) {
+        return ((MapValue<?, ?>) rows[position]).get(fieldName);
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.TableType;
@@ -68,7 +69,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
@@ -114,6 +114,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private final Map<String, Object> nativeData = new HashMap<>();
     private BTypedesc typedesc;
+    // Incremented on each modification, so that the secondary indexes built before it are not used.
+    private long version;
+    private volatile Map<BString, TableIndex> indexes;
 
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
@@ -167,7 +170,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue<?> getIterator() {
-        return new TableIterator();
+        return valueHolder.getIterator();
     }
 
     @Override
@@ -230,24 +233,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public V put(V value) {
         handleFrozenTableValue();
+        version++;
         return valueHolder.putData(value);
     }
 
     @Override
     public V put(K key, V value) {
         handleFrozenTableValue();
+        version++;
         return valueHolder.putData(key, value);
     }
 
     @Override
     public void add(V data) {
         handleFrozenTableValue();
+        version++;
         valueHolder.addData(data);
     }
 
     @Override
     public V remove(Object key) {
         handleFrozenTableValue();
+        version++;
         return valueHolder.remove((K) key);
     }
 
@@ -258,31 +265,56 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
-        }
-        return entrySet;
+        return valueHolder.entrySet();
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
-        }
-        return newValues;
+        return valueHolder.values();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        version++;
+        valueHolder.clear();
+    }
+
+    /**
+     * Returns a secondary index over the given field of the rows of this table. The index is built when it is first
+     * needed, and is rebuilt once the table is modified. An index already returned keeps answering lookups for the
+     * rows the table had when it was built. Only fields that cannot be updated once a row is added are indexed, since
+     * a row can be updated without the table noticing.
+     *
+     * @param fieldName the indexed field
+     * @return the index, or null if the field cannot be indexed
+     */
+    public TableIndex getIndex(BString fieldName) {
+        if (!isIndexableField(fieldName.getValue())) {
+            return null;
+        }
+        Map<BString, TableIndex> indexMap = indexes;
+        if (indexMap == null) {
+            indexMap = new ConcurrentHashMap<>();
+            indexes = indexMap;
+        }
+        TableIndex index = indexMap.get(fieldName);
+        if (index == null || index.getVersion() != version) {
+            index = new TableIndex(version, fieldName, getJavaIterator());
+            indexMap.put(fieldName, index);
+        }
+        return index;
+    }
+
+    private boolean isIndexableField(String fieldName) {
+        Type constraintType = tableType.getConstrainedType();
+        Type impliedType = getImpliedType(constraintType);
+        if (impliedType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Field field = ((BRecordType) impliedType).getFields().get(fieldName);
+        return field != null && (constraintType.isReadOnly() ||
+                SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY));
     }
 
     @Override
@@ -342,17 +374,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        return valueHolder.getKeys();
     }
 
     @Override
     public int size() {
-        return values().size();
+        return valueHolder.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return valueHolder.isEmpty();
     }
 
     @Override
@@ -381,8 +413,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values(), parent);
     }
 
     @Override
@@ -392,43 +423,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(Collection<V> rows, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : rows) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Collection<V> rows, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (String string : keysList) {
             keyJoiner.add(string);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (V data : rows) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -552,8 +566,41 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
+    private class KeylessTableIterator implements IteratorValue<Object> {
+        private final List<V> rows;
+        private int cursor;
+
+        KeylessTableIterator(List<V> rows) {
+            this.rows = rows;
+            this.cursor = 0;
+        }
+
+        @Override
+        public Object next() {
+            V value = rows.get(cursor++);
+            Type valueType = TypeChecker.getType(value);
+            BTupleType tupleType = new BTupleType(List.of(valueType, valueType));
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, value);
+            tuple.add(1, value);
+            return tuple;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < rows.size();
+        }
+    }
+
+    /**
+     * Holds the rows of a keyless table. Rows can only be appended to or cleared from a keyless table, so they are
+     * kept in insertion order in a single list and the position in that list is used as the row id.
+     */
     private class ValueHolder {
 
+        private final List<V> rows = new ArrayList<>();
+
         public void addData(V data) {
             putData(data);
         }
@@ -570,18 +617,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue<?, ?>) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            rows.add(data);
             return data;
         }
 
@@ -598,6 +634,38 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                                            StringUtils.fromString("keys are not defined"));
         }
+
+        public IteratorValue<?> getIterator() {
+            return new KeylessTableIterator(rows);
+        }
+
+        public Set<Map.Entry<K, V>> entrySet() {
+            LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+            for (V data : rows) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) data, data));
+            }
+            return entrySet;
+        }
+
+        public Collection<V> values() {
+            return new ArrayList<>(rows);
+        }
+
+        public K[] getKeys() {
+            return (K[]) rows.toArray();
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+
+        public void clear() {
+            rows.clear();
+        }
     }
 
     private class KeyHashValueHolder extends ValueHolder {
@@ -770,6 +838,54 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return keyType;
         }
 
+        @Override
+        public IteratorValue<?> getIterator() {
+            return new TableIterator();
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+            for (List<Map.Entry<K, V>> entry: entries.values()) {
+                entrySet.addAll(entry);
+            }
+            return entrySet;
+        }
+
+        @Override
+        public Collection<V> values() {
+            ArrayList<V> newValues = new ArrayList<>();
+            Set<Long> keys = TableValueImpl.this.values.keySet();
+            for (long key: keys) {
+                newValues.addAll(TableValueImpl.this.values.get(key));
+            }
+            return newValues;
+        }
+
+        @Override
+        public K[] getKeys() {
+            return (K[]) indexToKeyMap.values().toArray();
+        }
+
+        @Override
+        public int size() {
+            return values().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+            TableValueImpl.this.values.clear();
+            keyToIndexMap.clear();
+            indexToKeyMap.clear();
+            noOfAddedEntries = 0;
+        }
+
         private class DefaultKeyWrapper {
 
             public DefaultKeyWrapper() {
@@ -65,7 +65,6 @@ public class BallerinaXmlSerializer extends OutputStream {
     private XMLStreamWriter xmlStreamWriter;
     private Deque<Set<String>> parentNSSet;
     private int nsNumber;
-    private boolean withinElement;
 
     static {
         xmlOutputFactory = XMLOutputFactory.newInstance();
@@ -142,10 +141,36 @@ public class BallerinaXmlSerializer extends OutputStream {
         xmlStreamWriter.writeComment(xmlValue.getTextValue());
     }
 
+    /**
+     * Writes the start tag of the given element, without its children. This lets a large sequence be written one
+     * item at a time by calling {@link #write(BXml)} for each child, followed by {@link #endElement()}, without
+     * building the whole element first.
+     *
+     * @param xmlValue the element
+     */
+    public void startElement(BXml xmlValue) {
+        try {
+            writeStartTag((XmlItem) xmlValue);
+        } catch (XMLStreamException e) {
+            ErrorHelper.handleXMLException(PARSE_XML_OP, e);
+        }
+    }
+
+    /**
+     * Writes the end tag of the innermost element started by {@link #startElement(BXml)}.
+     */
+    public void endElement() {
+        try {
+            writeEndTag();
+        } catch (XMLStreamException e) {
+            ErrorHelper.handleXMLException(PARSE_XML_OP, e);
+        }
+    }
+
     private void writeXMLText(XmlText xmlValue) throws XMLStreamException {
         // No need to escape xml text when they are within xml element or if it is not from default stream writer.
         // It's handled by xml stream  writer.
-        if (this.withinElement) {
+        if (!this.parentNSSet.isEmpty()) {
             String textValue = xmlValue.getTextValue();
             if (!textValue.isEmpty()) {
                 xmlStreamWriter.writeCharacters(textValue);
@@ -183,6 +208,12 @@ public class BallerinaXmlSerializer extends OutputStream {
     }
 
     private void writeElement(XmlItem xmlValue) throws XMLStreamException {
+        writeStartTag(xmlValue);
+        xmlValue.getChildrenSeq().serialize(this);
+        writeEndTag();
+    }
+
+    private void writeStartTag(XmlItem xmlValue) throws XMLStreamException {
         // Setup namespace hierarchy
         Set<String> prevNSSet = this.parentNSSet.peek();
         HashSet<String> currentNSLevel = prevNSSet == null ? new HashSet<>() : new HashSet<>(prevNSSet);
@@ -201,13 +232,9 @@ public class BallerinaXmlSerializer extends OutputStream {
 
         // Write attributes
         writeAttributes(currentNSLevel, attributeMap);
+    }
 
-        // Track and override xml text escape when xml text is within an element.
-        boolean prevWithinElementFlag = this.withinElement;
-        this.withinElement = true;
-        xmlValue.getChildrenSeq().serialize(this);
-        this.withinElement = prevWithinElementFlag;
-
+    private void writeEndTag() throws XMLStreamException {
         xmlStreamWriter.writeEndElement();
         // Reset namespace decl hierarchy for this node.
         this.parentNSSet.pop();
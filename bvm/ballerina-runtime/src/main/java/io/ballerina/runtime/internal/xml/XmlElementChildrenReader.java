@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.xml;
+
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Pull style reader which returns the child elements of the root element of an XML document one at a time.
+ * <p>
+ * Only the element being returned is built, so the memory needed to read a document with many repeated child
+ * elements is bounded by the size of its largest child rather than by the size of the document. Child items of the
+ * root element which are not elements are skipped.
+ *
+ * @since 2201.13.0
+ */
+public class XmlElementChildrenReader implements Closeable {
+
+    private final Reader reader;
+    private XMLStreamReader xmlStreamReader;
+    private XmlTreeBuilder treeBuilder;
+    private boolean rootEnded;
+
+    public XmlElementChildrenReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next child element of the root element.
+     *
+     * @return the next child element, or null if there are no more child elements
+     */
+    public BXml next() {
+        if (rootEnded) {
+            return null;
+        }
+        try {
+            if (xmlStreamReader == null && !moveToRootElement()) {
+                rootEnded = true;
+                return null;
+            }
+            while (xmlStreamReader.hasNext()) {
+                int next = xmlStreamReader.next();
+                if (next == START_ELEMENT) {
+                    return treeBuilder.buildElement();
+                }
+                if (next == END_ELEMENT) {
+                    break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw XmlTreeBuilder.createParseError(e);
+        }
+        rootEnded = true;
+        return null;
+    }
+
+    private boolean moveToRootElement() throws XMLStreamException {
+        xmlStreamReader = XmlTreeBuilder.createXMLStreamReader(reader);
+        treeBuilder = new XmlTreeBuilder(xmlStreamReader);
+        while (xmlStreamReader.hasNext()) {
+            if (xmlStreamReader.next() == START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rootEnded = true;
+        try {
+            if (xmlStreamReader != null) {
+                xmlStreamReader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.xml;
+
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.XmlItem;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Push style writer which serializes an element whose children are supplied one at a time.
+ * <p>
+ * The serialized bytes are buffered until they are taken with {@link #takeBytes()}, so the memory needed to write a
+ * document with many repeated child elements is bounded by the size of its largest child rather than by the size of
+ * the document, as long as the bytes are taken as the children are written.
+ *
+ * @since 2201.13.0
+ */
+public class XmlElementChildrenWriter {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final BallerinaXmlSerializer serializer = new BallerinaXmlSerializer(buffer);
+    private final XmlItem root;
+    private boolean started;
+    private boolean ended;
+
+    public XmlElementChildrenWriter(BXml root) {
+        this.root = (XmlItem) root;
+    }
+
+    /**
+     * Writes the given child of the root element. The start tag of the root element and its existing children are
+     * written before the first child.
+     *
+     * @param child the child item
+     */
+    public void write(BXml child) {
+        start();
+        serializer.write(child);
+    }
+
+    /**
+     * Writes the end tag of the root element, after which no more children can be written.
+     */
+    public void end() {
+        if (ended) {
+            return;
+        }
+        start();
+        serializer.endElement();
+        serializer.close();
+        ended = true;
+    }
+
+    /**
+     * Returns whether the end tag of the root element is written.
+     *
+     * @return true if no more children can be written
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Returns the number of bytes written since the bytes were last taken.
+     *
+     * @return number of buffered bytes
+     */
+    public int size() {
+        flush();
+        return buffer.size();
+    }
+
+    /**
+     * Returns the bytes written since the bytes were last taken, and clears the buffer.
+     *
+     * @return buffered bytes
+     */
+    public byte[] takeBytes() {
+        flush();
+        byte[] bytes = buffer.toByteArray();
+        buffer.reset();
+        return bytes;
+    }
+
+    private void flush() {
+        // Closing the serializer at the end flushes it.
+        if (!ended) {
+            serializer.flush();
+        }
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        serializer.startElement(root);
+        serializer.write(root.getChildrenSeq());
+    }
+}
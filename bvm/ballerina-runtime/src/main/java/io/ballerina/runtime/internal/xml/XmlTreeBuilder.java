@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.xml;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
@@ -80,6 +81,20 @@ public class XmlTreeBuilder {
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this();
+        try {
+            xmlStreamReader = createXMLStreamReader(stringReader);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+    }
+
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
+        this();
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    private XmlTreeBuilder() {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -87,20 +102,22 @@ public class XmlTreeBuilder {
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
+    }
 
-        try {
-            xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(stringReader);
-        } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
-        }
+    static XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(reader);
     }
 
-    private void handleXMLStreamException(Exception e) {
+    static BError createParseError(Exception e) {
         String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
         if (reason == null) {
-            throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
+            return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
         }
-        throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
+        return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
+    }
+
+    private void handleXMLStreamException(Exception e) {
+        throw createParseError(e);
     }
 
     public BXml parse() {
@@ -114,34 +131,10 @@ public class XmlTreeBuilder {
                 } else {
                     next = xmlStreamReader.next();
                 }
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                        readCData(xmlStreamReader);
-                        break;
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        readNext = true;
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readNext = readEvent(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -150,6 +143,65 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current {@code START_ELEMENT} event of the reader, leaving the reader at the matching
+     * {@code END_ELEMENT} event.
+     *
+     * @return the element
+     * @throws XMLStreamException if the element is not well-formed
+     */
+    BXml buildElement() throws XMLStreamException {
+        List<BXml> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        seqDeque.push(new XmlSequence(siblings));
+        int depth = 0;
+        int next = xmlStreamReader.getEventType();
+        while (true) {
+            if (next == START_ELEMENT) {
+                depth++;
+            } else if (next == END_ELEMENT && --depth == 0) {
+                endElement();
+                buildDocument();
+                return siblings.get(0);
+            }
+            next = readEvent(next) ? xmlStreamReader.getEventType() : xmlStreamReader.next();
+        }
+    }
+
+    /**
+     * Reads the given event of the reader.
+     *
+     * @return true if the reader has already moved on to the next event
+     */
+    private boolean readEvent(int event) throws XMLStreamException {
+        switch (event) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+                readCData(xmlStreamReader);
+                break;
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                return true;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+        return false;
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -19,7 +19,10 @@ package io.ballerina.runtime.observability.metrics;
 
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Hold a default {@link MetricRegistry} instance, which is used by Metric APIs.
@@ -27,6 +30,7 @@ import java.util.Objects;
 public final class DefaultMetricRegistry {
 
     private static MetricRegistry instance = new MetricRegistry(new NoOpMetricProvider());
+    private static final List<Consumer<MetricRegistry>> initializationListeners = new ArrayList<>();
 
     private DefaultMetricRegistry() {
     }
@@ -46,10 +50,37 @@ public final class DefaultMetricRegistry {
      * @param instance A new {@link MetricRegistry} instance.
      */
     public static void setInstance(MetricRegistry instance) {
-        if (!(DefaultMetricRegistry.instance.getMetricProvider() instanceof NoOpMetricProvider)) {
-            throw new IllegalStateException("Default Metric Registry has already been set");
+        List<Consumer<MetricRegistry>> listeners;
+        synchronized (DefaultMetricRegistry.class) {
+            if (!(DefaultMetricRegistry.instance.getMetricProvider() instanceof NoOpMetricProvider)) {
+                throw new IllegalStateException("Default Metric Registry has already been set");
+            }
+            DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+            listeners = new ArrayList<>(initializationListeners);
+            initializationListeners.clear();
         }
-        DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+        for (Consumer<MetricRegistry> listener : listeners) {
+            listener.accept(instance);
+        }
+    }
+
+    /**
+     * Calls the given listener with the default {@link MetricRegistry} once it is set by the observability module
+     * during its initialization, or right away if it has already been set. Metrics polled from the runtime are
+     * registered with this, so that they are registered only once and only when metrics are reported.
+     *
+     * @param listener listener which registers metrics in the given registry
+     */
+    public static void addInitializationListener(Consumer<MetricRegistry> listener) {
+        MetricRegistry registry;
+        synchronized (DefaultMetricRegistry.class) {
+            if (instance.getMetricProvider() instanceof NoOpMetricProvider) {
+                initializationListeners.add(listener);
+                return;
+            }
+            registry = instance;
+        }
+        listener.accept(registry);
     }
 
 }
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JsonByteParser}.
+ *
+ * @since 2201.13.0
+ */
+public class JsonByteParserTest {
+
+    private static final Module MODULE = new Module("testorg", "json_byte_parser", "1");
+
+    private final RecordValueCreator valueCreator = new RecordValueCreator();
+    private BRecordType orderType;
+    private BRecordType openType;
+    private BRecordType escapedNameType;
+
+    @BeforeClass
+    public void setup() {
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getMajorVersion(), false,
+                valueCreator);
+
+        Map<String, Field> orderFields = new LinkedHashMap<>();
+        addField(orderFields, PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED);
+        addField(orderFields, PredefinedTypes.TYPE_STRING, "customer", SymbolFlags.REQUIRED);
+        addField(orderFields, PredefinedTypes.TYPE_BOOLEAN, "express", 0);
+        addField(orderFields, PredefinedTypes.TYPE_STRING, "note", SymbolFlags.OPTIONAL);
+        orderType = createRecordType("Order", orderFields, null, true);
+        orderType.setDefaultValue("express", new ConstantFunction(Boolean.TRUE));
+
+        Map<String, Field> openFields = new LinkedHashMap<>();
+        addField(openFields, PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED);
+        openType = createRecordType("OpenOrder", openFields, PredefinedTypes.TYPE_JSON, false);
+
+        Map<String, Field> escapedFields = new LinkedHashMap<>();
+        addField(escapedFields, PredefinedTypes.TYPE_STRING, "first name", SymbolFlags.REQUIRED);
+        addField(escapedFields, PredefinedTypes.TYPE_STRING, "say \"hi\"", SymbolFlags.REQUIRED);
+        addField(escapedFields, PredefinedTypes.TYPE_STRING, "caf\u00e9", SymbolFlags.REQUIRED);
+        escapedNameType = createRecordType("EscapedNames", escapedFields, null, true);
+    }
+
+    @Test
+    public void testBindRecordDirectly() {
+        int created = valueCreator.createdRecords;
+        String json = "{\"id\": 7, \"customer\": \"Anne\", \"express\": false, \"note\": \"fragile\"}";
+        BMap<BString, Object> order = parseRecord(json, orderType);
+
+        Assert.assertEquals(valueCreator.createdRecords, created + 1);
+        Assert.assertSame(order.getType(), orderType);
+        Assert.assertEquals(order.get(StringUtils.fromString("id")), 7L);
+        Assert.assertEquals(order.get(StringUtils.fromString("customer")).toString(), "Anne");
+        Assert.assertEquals(order.get(StringUtils.fromString("express")), false);
+        Assert.assertEquals(order.get(StringUtils.fromString("note")).toString(), "fragile");
+        assertSameAsCharacterParser(json, orderType);
+    }
+
+    @Test
+    public void testBindRecordArrayFromBuffer() {
+        String json = "[{\"id\": 1, \"customer\": \"A\"}, {\"customer\": \"B\", \"id\": 2}]";
+        byte[] bytes = ("  " + json + "  ").getBytes(StandardCharsets.UTF_8);
+        Type arrayType = TypeCreator.createArrayType(orderType);
+        BArray orders = (BArray) JsonParser.parse(ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice(), arrayType);
+
+        Assert.assertEquals(orders.size(), 2);
+        Assert.assertEquals(((BMap<?, ?>) orders.get(1)).get(StringUtils.fromString("id")), 2L);
+        Assert.assertEquals(orders.toString(), JsonParser.parse(new StringReader(json), arrayType).toString());
+    }
+
+    @Test
+    public void testClosedRecordFieldRejectedBeforeRecordIsCreated() {
+        int created = valueCreator.createdRecords;
+        String json = "{\"id\": 7, \"customer\": \"Anne\", \"discount\": " + "[1, 2, 3, ".repeat(10) + "4"
+                + "]".repeat(10) + "}";
+        try {
+            parseRecord(json, orderType);
+            Assert.fail("expected the closed record field to be rejected");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "field 'discount' cannot be added to the closed record '"
+                    + orderType + "' at line: 1 column: 41");
+        }
+        Assert.assertEquals(valueCreator.createdRecords, created);
+        assertSameErrorAsCharacterParser(json, orderType);
+    }
+
+    @Test
+    public void testRequiredAndDefaultFields() {
+        BMap<BString, Object> order = parseRecord("{\"customer\": \"Anne\", \"id\": 3}", orderType);
+        Assert.assertEquals(order.get(StringUtils.fromString("express")), true);
+        Assert.assertFalse(order.containsKey(StringUtils.fromString("note")));
+
+        assertSameErrorAsCharacterParser("{\"customer\": \"Anne\"}", orderType);
+        try {
+            parseRecord("{\"customer\": \"Anne\"}", orderType);
+            Assert.fail("expected the missing required field to be reported");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "missing required field 'id' of type 'int' in record '"
+                    + orderType + "' at line: 1 column: 20");
+        }
+    }
+
+    @Test
+    public void testRestFieldsOfOpenRecord() {
+        String json = "{\"id\": 1, \"tags\": [\"a\", {\"b\": null}], \"id\": 2}";
+        BMap<BString, Object> order = parseRecord(json, openType);
+        Assert.assertEquals(order.get(StringUtils.fromString("id")), 2L);
+        Assert.assertEquals(order.get(StringUtils.fromString("tags")).toString(), "[\"a\",{\"b\":null}]");
+        assertSameAsCharacterParser(json, openType);
+    }
+
+    @Test
+    public void testEscapedFieldNames() {
+        String json = "{\"first\\u0020name\": \"A\", \"say \\\"hi\\\"\": \"B\", \"caf\u00e9\": \"C\"}";
+        BMap<BString, Object> value = parseRecord(json, escapedNameType);
+        Assert.assertEquals(value.get(StringUtils.fromString("first name")).toString(), "A");
+        Assert.assertEquals(value.get(StringUtils.fromString("say \"hi\"")).toString(), "B");
+        Assert.assertEquals(value.get(StringUtils.fromString("caf\u00e9")).toString(), "C");
+        assertSameAsCharacterParser(json, escapedNameType);
+
+        String escapedDeclaredName = "{\"\\u0069d\": 4, \"customer\": \"\\u0041nne\"}";
+        BMap<BString, Object> order = parseRecord(escapedDeclaredName, orderType);
+        Assert.assertEquals(order.get(StringUtils.fromString("id")), 4L);
+        Assert.assertEquals(order.get(StringUtils.fromString("customer")).toString(), "Anne");
+    }
+
+    @Test
+    public void testParseStreamIncrementally() {
+        String json = "[{\"id\": 1, \"customer\": \"A\", \"note\": \"" + "\u00e9\ud83d\ude00".repeat(5000)
+                + "\"}, " + "{\"id\": 2, \"customer\": \"B\"}, ".repeat(2000) + "{\"id\": 3, \"customer\": \"C\"}]";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Type arrayType = TypeCreator.createArrayType(orderType);
+        BArray orders = (BArray) JsonParser.parse(new ChunkedInputStream(bytes), "UTF-8", arrayType);
+        Assert.assertEquals(orders.size(), 2002);
+        Assert.assertEquals(orders.toString(), JsonParser.parse(new StringReader(json), arrayType).toString());
+    }
+
+    @Test
+    public void testStreamErrorReportedBeforeReadingRest() {
+        EndlessInputStream in = new EndlessInputStream("[{\"id\": 1, \"customer\": true},\n", "[1, 2],\n");
+        String message = getErrorMessage(() -> JsonParser.parse(in, "UTF-8", TypeCreator.createArrayType(orderType)));
+        Assert.assertEquals(message, "value 'true' cannot be converted to 'string' at line: 1 column: 30");
+        Assert.assertTrue(in.count < 100_000, "read " + in.count + " bytes");
+    }
+
+    @DataProvider
+    public Object[][] invalidDocuments() {
+        return new Object[][]{
+                {"{\"id\": 1, \"customer\": \"A\"", "Order"},
+                {"{\"id\": 1 \"customer\": \"A\"}", "Order"},
+                {"{\"id\": \"one\", \"customer\": \"A\"}", "Order"},
+                {"{\"id\": 1.5, \"customer\": \"A\"}", "Order"},
+                {"{\"id\": 1, \"customer\": \"A\"} {}", "Order"},
+                {"{\"id\": 1, \"customer\": \"A\", \"extra\": true}", "Order"},
+                {"{\"id\": 1, \"customer\": \"\\x\"}", "Order"},
+                {"{\"id\": 1, \"customer\": tru}", "Order"},
+                {"[1, 2", "OpenOrder"},
+                {"{\"id\": 1, \"rest\": [1, }", "OpenOrder"},
+                {"{\n  \"id\": 1,\n  \"rest\": nul\n}", "OpenOrder"},
+                {"", "OpenOrder"},
+                {"{\"id\": 1, \"rest\": some}", "OpenOrder"},
+                {"{\"id\": 1, \"customer\": \"A\"}\n  ]", "Order"},
+                {"{\"id\": 1, \"rest\": [1, 2}]}", "OpenOrder"},
+                {"{\"id\": 1, \"rest\": [1, 2[]]}", "OpenOrder"},
+                {"{\"id\": , \"customer\": \"A\"}", "Order"},
+                {"{\"id\": 1, \"rest\": \"\u00e9\ud83d\ude00\\u12g4\"}", "OpenOrder"},
+                {"{\"id\": 1, \"rest\": [\n\"" + "long ".repeat(4000) + "\",\n 0x0.0p1]}", "OpenOrder"},
+                {"{\"id\": 1, \"rest\": [", "OpenOrder"},
+                {"0x0.0p1", "Order"},
+        };
+    }
+
+    @Test(dataProvider = "invalidDocuments")
+    public void testErrorsMatchCharacterParser(String json, String typeName) {
+        assertSameErrorAsCharacterParser(json, "Order".equals(typeName) ? orderType : openType);
+    }
+
+    private BMap<BString, Object> parseRecord(String json, RecordType type) {
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> value = (BMap<BString, Object>) JsonByteParser.parse(json, type);
+        return value;
+    }
+
+    private static void assertSameAsCharacterParser(String json, Type type) {
+        Object expected = JsonParser.parse(new StringReader(json), type);
+        Object actual = JsonParser.parse(json, type);
+        Assert.assertEquals(actual.toString(), expected.toString());
+        Assert.assertSame(((BMap<?, ?>) actual).getType(), ((BMap<?, ?>) expected).getType());
+    }
+
+    private static void assertSameErrorAsCharacterParser(String json, Type type) {
+        String expected = getErrorMessage(() -> JsonParser.parse(new StringReader(json), type));
+        Assert.assertNotNull(expected, "expected '" + json + "' to be rejected");
+        Assert.assertEquals(getErrorMessage(() -> JsonParser.parse(json, type)), expected);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(getErrorMessage(() -> JsonParser.parse(ByteBuffer.wrap(bytes), type)), expected);
+        Assert.assertEquals(getErrorMessage(() -> JsonParser.parse(new ChunkedInputStream(bytes), "UTF-8", type)),
+                expected);
+    }
+
+    private static String getErrorMessage(Runnable parse) {
+        try {
+            parse.run();
+            return null;
+        } catch (BError e) {
+            return e.getMessage();
+        }
+    }
+
+    private static final class ChunkedInputStream extends InputStream {
+
+        private final byte[] bytes;
+        private int position;
+
+        ChunkedInputStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return position < bytes.length ? bytes[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position == bytes.length) {
+                return -1;
+            }
+            int count = Math.min(Math.min(len, 3), bytes.length - position);
+            System.arraycopy(bytes, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+
+    private static final class EndlessInputStream extends InputStream {
+
+        private final byte[] head;
+        private final byte[] body;
+        private long count;
+
+        EndlessInputStream(String head, String body) {
+            this.head = head.getBytes(StandardCharsets.UTF_8);
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() {
+            long position = count++;
+            return position < head.length ? head[(int) position] :
+                    body[(int) ((position - head.length) % body.length)];
+        }
+    }
+
+    private static void addField(Map<String, Field> fields, Type type, String name, long flags) {
+        fields.put(name, TypeCreator.createField(type, name, flags | SymbolFlags.PUBLIC));
+    }
+
+    private BRecordType createRecordType(String name, Map<String, Field> fields, Type restFieldType,
+                                         boolean sealed) {
+        BRecordType type = (BRecordType) TypeCreator.createRecordType(name, MODULE, 0, fields, restFieldType,
+                sealed, 0);
+        valueCreator.recordTypes.put(name, type);
+        return type;
+    }
+
+    private static final class RecordValueCreator extends ValueCreator {
+
+        private final Map<String, BRecordType> recordTypes = new LinkedHashMap<>();
+        private int createdRecords;
+
+        RecordValueCreator() {
+            super(null);
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            createdRecords++;
+            return new MapValueImpl<>(recordTypes.get(recordTypeName));
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Strand parent, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FunctionType getFunctionType(String functionName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class ConstantFunction extends FPValue {
+
+        private final Object value;
+
+        ConstantFunction(Object value) {
+            super(null, null, "default", true);
+            this.value = value;
+        }
+
+        @Override
+        public Object call(Runtime runtime, Object... args) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for {@link LazyJsonMapValue}.
+ *
+ * @since 2201.13.0
+ */
+public class LazyJsonMapValueTest {
+
+    private static final String JSON = "{\"id\": 7, \"customer\": {\"name\" :  \"Anne\", \"tags\": [\"a\", \"b\"]}, " +
+            "\"items\": [{\"sku\": \"x1\", \"qty\": 2}, {\"sku\": \"y2\", \"qty\": 1}], \"note\": null}";
+
+    @Test
+    public void testReadMaterializesOnlyAccessedObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        Assert.assertFalse(order.isMaterialized());
+
+        Assert.assertEquals(order.get(key("id")), 7L);
+        Assert.assertTrue(order.isMaterialized());
+        LazyJsonMapValue customer = (LazyJsonMapValue) order.get(key("customer"));
+        Assert.assertFalse(customer.isMaterialized());
+        // Arrays are read with their parent, but the objects in them are read when accessed.
+        BArray items = (BArray) order.get(key("items"));
+        Assert.assertEquals(items.size(), 2);
+        Assert.assertFalse(((LazyJsonMapValue) items.get(0)).isMaterialized());
+
+        Assert.assertEquals(customer.get(key("name")).toString(), "Anne");
+        Assert.assertEquals(((BArray) customer.get(key("tags"))).size(), 2);
+        Assert.assertEquals(((BMap<?, ?>) items.get(1)).get(key("qty")), 1L);
+        Assert.assertEquals(order.getJSONString(), ((MapValueImpl<?, ?>) JsonUtils.parse(JSON)).getJSONString());
+    }
+
+    @Test
+    public void testMutateUnreadObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        order.put(key("status"), StringUtils.fromString("shipped"));
+        Assert.assertEquals(order.size(), 5);
+        Assert.assertEquals(order.get(key("id")), 7L);
+        Assert.assertEquals(order.get(key("status")).toString(), "shipped");
+
+        LazyJsonMapValue other = parseLazily(JSON);
+        Assert.assertEquals(other.remove(key("id")), 7L);
+        Assert.assertEquals(List.of(other.getKeys()), List.of(key("customer"), key("items"), key("note")));
+
+        LazyJsonMapValue cleared = parseLazily(JSON);
+        cleared.clear();
+        Assert.assertTrue(cleared.isEmpty());
+    }
+
+    @Test
+    public void testIsEmpty() {
+        Assert.assertTrue(parseLazily("{}").isEmpty());
+        Assert.assertTrue(parseLazily(" { \n } ").isEmpty());
+        Assert.assertFalse(parseLazily("{\"a\": {}}").isEmpty());
+        LazyJsonMapValue nested = (LazyJsonMapValue) parseLazily("{\"a\": {}}").get(key("a"));
+        Assert.assertFalse(nested.isMaterialized());
+        Assert.assertTrue(nested.isEmpty());
+    }
+
+    @Test
+    public void testEquals() {
+        Object eager = JsonUtils.parse(JSON);
+        Assert.assertTrue(TypeChecker.isEqual(parseLazily(JSON), eager));
+        Assert.assertTrue(TypeChecker.isEqual(eager, parseLazily(JSON)));
+        Assert.assertTrue(TypeChecker.isEqual(parseLazily(JSON), parseLazily(JSON)));
+        LazyJsonMapValue changed = parseLazily(JSON.replace("\"qty\": 1", "\"qty\": 3"));
+        Assert.assertFalse(TypeChecker.isEqual(parseLazily(JSON), changed));
+    }
+
+    @Test
+    public void testFreezeUnreadObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        order.freezeDirect();
+        Assert.assertTrue(order.isFrozen());
+        BMap<BString, Object> customer = (BMap<BString, Object>) order.get(key("customer"));
+        Assert.assertTrue(customer.isFrozen());
+        Assert.assertTrue(((BArray) order.get(key("items"))).isFrozen());
+        Assert.assertThrows(BError.class, () -> customer.put(key("name"), StringUtils.fromString("Bob")));
+        Assert.assertTrue(TypeChecker.isEqual(order, JsonUtils.parse(JSON)));
+    }
+
+    @Test
+    public void testCloneReadOnlyOfUnreadObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        BMap<?, ?> clone = (BMap<?, ?>) order.frozenCopy(new HashMap<>());
+        Assert.assertNotSame(clone, order);
+        Assert.assertTrue(clone.isFrozen());
+        Assert.assertTrue(((BMap<?, ?>) clone.get(key("customer"))).isFrozen());
+        Assert.assertFalse(order.isMaterialized());
+        Assert.assertFalse(order.isFrozen());
+        Assert.assertTrue(TypeChecker.isEqual(clone, order));
+    }
+
+    @Test
+    public void testCopyUnreadObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        LazyJsonMapValue copy = (LazyJsonMapValue) order.copy(new HashMap<>());
+        Assert.assertFalse(copy.isMaterialized());
+
+        // The copy and the original are read separately from the shared bytes.
+        ((BMap<BString, Object>) copy.get(key("customer"))).put(key("name"), StringUtils.fromString("Bob"));
+        Assert.assertFalse(order.isMaterialized());
+        Assert.assertEquals(((BMap<?, ?>) order.get(key("customer"))).get(key("name")).toString(), "Anne");
+        Assert.assertEquals(((BMap<?, ?>) copy.get(key("customer"))).get(key("name")).toString(), "Bob");
+
+        // A read object is copied member by member.
+        Object readCopy = order.copy(new HashMap<>());
+        Assert.assertFalse(readCopy instanceof LazyJsonMapValue);
+        Assert.assertTrue(TypeChecker.isEqual(readCopy, order));
+    }
+
+    @Test
+    public void testSerializePassesThroughUnreadObject() {
+        LazyJsonMapValue order = parseLazily(JSON);
+        Assert.assertEquals(serialize(order), JSON);
+
+        // The object that has been read is written out again, while its unread members keep their formatting.
+        order.put(key("id"), 8L);
+        Assert.assertEquals(serialize(order), "{\"id\":8, \"customer\":{\"name\" :  \"Anne\", \"tags\": [\"a\", " +
+                "\"b\"]}, \"items\":[{\"sku\": \"x1\", \"qty\": 2}, {\"sku\": \"y2\", \"qty\": 1}], \"note\":null}");
+        Assert.assertEquals(order.getJSONString(), ((MapValueImpl<?, ?>) JsonUtils.parse(JSON.replace("7", "8")))
+                .getJSONString());
+    }
+
+    @Test
+    public void testFailedReadLeavesObjectUnread() {
+        byte[] bytes = "{\"a\": 1, \"b\": 2}".getBytes(StandardCharsets.UTF_8);
+        LazyJsonMapValue value = (LazyJsonMapValue) JsonUtils.parseLazily(bytes);
+        int digit = bytes.length - 2;
+        bytes[digit] = 'x';
+
+        Assert.expectThrows(BError.class, () -> value.get(key("a")));
+        Assert.assertFalse(value.isMaterialized());
+
+        bytes[digit] = '2';
+        Assert.assertEquals(value.size(), 2);
+        Assert.assertEquals(value.get(key("b")), 2L);
+        Assert.assertTrue(value.isMaterialized());
+    }
+
+    @Test
+    public void testConcurrentRead() throws Exception {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ", ").append("\"k").append(i).append("\": ").append(i);
+        }
+        LazyJsonMapValue value = parseLazily(json.append('}').toString());
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> sizes = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                sizes.add(executor.submit(() -> {
+                    start.await();
+                    return value.size();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> size : sizes) {
+                Assert.assertEquals(size.get().intValue(), 1000);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(value.get(key("k999")), 999L);
+    }
+
+    @Test(dataProvider = "malformedJsonProvider")
+    public void testMalformedJsonError(String json) {
+        BError lazyError = Assert.expectThrows(BError.class,
+                () -> JsonUtils.parseLazily(json.getBytes(StandardCharsets.UTF_8)));
+        BError eagerError = Assert.expectThrows(BError.class, () -> JsonUtils.parse(json));
+        Assert.assertEquals(lazyError.getMessage(), eagerError.getMessage());
+        Assert.assertEquals(lazyError.getDetails().toString(), eagerError.getDetails().toString());
+    }
+
+    @DataProvider(name = "malformedJsonProvider")
+    private Object[][] getMalformedJson() {
+        return new Object[][]{
+                {"{\"a\": 1"},
+                {"{\"a\": 1,}"},
+                {"{\"a\" 1}"},
+                {"{\"a\": [1, 2}"},
+                {"{\"a\": tru}"},
+                {"{\"a\": \"b}"},
+                {"{\"a\": 1} x"},
+                {""}
+        };
+    }
+
+    private static LazyJsonMapValue parseLazily(String json) {
+        return (LazyJsonMapValue) JsonUtils.parseLazily(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String serialize(Object json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static BString key(String key) {
+        return StringUtils.fromString(key);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.lock;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for {@link BLockStore}.
+ *
+ * @since 2201.13.0
+ */
+public class BLockStoreTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void createScheduler() {
+        scheduler = new BalRuntime(new Module("testorg", "locks", "1")).scheduler;
+    }
+
+    @Test
+    public void testContentionCounts() throws Exception {
+        BLockStore lockStore = new BLockStore();
+        Strand holder = createStrand("holder");
+        lockStore.lock(holder, "lock0");
+        Thread waiter = Thread.ofPlatform().start(() -> {
+            Strand strand = createStrand("waiter");
+            lockStore.lock(strand, "lock0");
+            lockStore.unlock(strand, "lock0");
+        });
+        waitUntil(() -> lockStore.getContentionCounts().get("lock0") == 1);
+        lockStore.unlock(holder, "lock0");
+        waiter.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(waiter.isAlive());
+
+        // Uncontended acquisitions of the same lock and other locks are not counted.
+        lockStore.lock(holder, "lock0");
+        lockStore.unlock(holder, "lock0");
+        lockStore.lock(holder, "lock1");
+        lockStore.unlock(holder, "lock1");
+        Assert.assertEquals(lockStore.getContentionCounts().get("lock0"), 1L);
+        Assert.assertEquals(lockStore.getContentionCounts().get("lock1"), 0L);
+    }
+
+    @Test
+    public void testLockMetrics() {
+        MetricRegistry registry = new MetricRegistry(new PolledGaugeMetricProvider());
+        Module moduleA = new Module("testorg", "a", "1");
+        Module moduleB = new Module("testorg", "b", "1");
+        BLockStore moduleALockStore = new BLockStore(moduleA);
+        BLockStore moduleBLockStore = new BLockStore(moduleB);
+        moduleALockStore.registerMetrics(registry);
+        moduleBLockStore.registerMetrics(registry);
+
+        // Locks with the same name in different modules are counted separately.
+        Strand strand = createStrand("metrics");
+        for (int i = 0; i < 3; i++) {
+            moduleALockStore.lock(strand, "lock0");
+            moduleALockStore.unlock(strand, "lock0");
+        }
+        moduleBLockStore.lock(strand, "lock0");
+        moduleBLockStore.unlock(strand, "lock0");
+        Assert.assertEquals(getPolledGauge(registry, BLockStore.GLOBAL_LOCKS_ACQUIRED_METRIC, moduleA).getValue(), 3.0);
+        Assert.assertEquals(getPolledGauge(registry, BLockStore.GLOBAL_LOCKS_ACQUIRED_METRIC, moduleB).getValue(), 1.0);
+        Assert.assertEquals(getPolledGauge(registry, BLockStore.GLOBAL_LOCKS_CONTENDED_METRIC, moduleA).getValue(),
+                0.0);
+    }
+
+    private Strand createStrand(String name) {
+        return new Strand(scheduler, name, null, true, null, null);
+    }
+
+    private static PolledGauge getPolledGauge(MetricRegistry registry, String name, Module module) {
+        Tag moduleTag = Tag.of(ObservabilityConstants.TAG_KEY_SRC_MODULE, module.toString());
+        for (Metric metric : registry.getAllMetrics()) {
+            if (metric.getId().getName().equals(name) && metric.getId().getTags().contains(moduleTag)) {
+                return (PolledGauge) metric;
+            }
+        }
+        throw new AssertionError("metric not registered: " + name + " of " + module);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Metric provider which evaluates polled gauges.
+     */
+    private static class PolledGaugeMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            return new TestPolledGauge<>(metricId, obj, toDoubleFunction);
+        }
+    }
+
+    /**
+     * Polled gauge which computes its value when read.
+     */
+    private static class TestPolledGauge<T> extends AbstractMetric implements PolledGauge {
+
+        private final T obj;
+        private final ToDoubleFunction<T> valueFunction;
+
+        TestPolledGauge(MetricId id, T obj, ToDoubleFunction<T> valueFunction) {
+            super(id);
+            this.obj = obj;
+            this.valueFunction = valueFunction;
+        }
+
+        @Override
+        public double getValue() {
+            return valueFunction.applyAsDouble(obj);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.clauses;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for {@link GroupBy}.
+ *
+ * @since 2201.13.0
+ */
+public class GroupByTest {
+
+    private static final BString KEY = StringUtils.fromString("key");
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    @Test(dataProvider = "equalKeyProvider")
+    public void testEqualKeysFormOneGroup(Object key, Object equalKey) {
+        List<BMap<BString, Object>> groups = groupByKey(key, equalKey, key);
+        Assert.assertEquals(groups.size(), 1);
+        Assert.assertSame(groups.getFirst().get(KEY), key);
+        Assert.assertEquals(getValues(groups.getFirst()), List.of(0L, 1L, 2L));
+    }
+
+    @DataProvider(name = "equalKeyProvider")
+    private Object[][] getEqualKeys() {
+        return new Object[][]{
+                {0.0, -0.0},
+                {Double.NaN, Double.longBitsToDouble(0x7ff8000000000001L)},
+                {new DecimalValue("1.5"), new DecimalValue("1.500")},
+                {new DecimalValue("100"), new DecimalValue("1E+2")},
+                {new DecimalValue("0"), new DecimalValue("0.00")},
+                {1L, 1},
+                {255L, 255}
+        };
+    }
+
+    @Test
+    public void testDistinctKeysFormSeparateGroups() {
+        List<BMap<BString, Object>> groups = groupByKey(1L, 2, 1.0, new DecimalValue("1"),
+                StringUtils.fromString("1"), 1);
+        Assert.assertEquals(groups.size(), 5);
+        // Groups are returned in the order of their first frames, with the values of later frames appended.
+        Assert.assertEquals(groups.get(0).get(KEY), 1L);
+        Assert.assertEquals(getValues(groups.get(0)), List.of(0L, 5L));
+        Assert.assertEquals(getValues(groups.get(1)), List.of(1L));
+    }
+
+    @Test
+    public void testAggregatesPerGroup() {
+        List<BMap<BString, Object>> groups = aggregateByKey(new String[]{"int:sum", "int:max", "int:min", "int:avg",
+                "value:count"}, new Object[]{"a", 3L}, new Object[]{"b", 10L}, new Object[]{"a", -4L},
+                new Object[]{"a", 7L});
+        Assert.assertEquals(groups.size(), 2);
+        BMap<BString, Object> first = groups.getFirst();
+        Assert.assertEquals(first.get(aggregateField("int:sum")), 6L);
+        Assert.assertEquals(first.get(aggregateField("int:max")), 7L);
+        Assert.assertEquals(first.get(aggregateField("int:min")), -4L);
+        Assert.assertEquals(first.get(aggregateField("int:avg")), new DecimalValue("2"));
+        Assert.assertEquals(first.get(aggregateField("value:count")), 3L);
+        // Values that are only aggregated are not collected into an array.
+        Assert.assertFalse(first.get(VALUE) instanceof BArray);
+        Assert.assertEquals(groups.get(1).get(aggregateField("int:sum")), 10L);
+        Assert.assertEquals(groups.get(1).get(aggregateField("value:count")), 1L);
+    }
+
+    @Test
+    public void testFloatAndDecimalAggregates() {
+        List<BMap<BString, Object>> floatGroups = aggregateByKey(new String[]{"float:sum", "float:max", "float:avg"},
+                new Object[]{"a", -0.0}, new Object[]{"a", Double.NaN}, new Object[]{"a", 1.5});
+        Assert.assertEquals(floatGroups.getFirst().get(aggregateField("float:sum")), Double.NaN);
+        Assert.assertEquals(floatGroups.getFirst().get(aggregateField("float:max")), Double.NaN);
+        Assert.assertEquals(floatGroups.getFirst().get(aggregateField("float:avg")), Double.NaN);
+
+        List<BMap<BString, Object>> decimalGroups = aggregateByKey(new String[]{"decimal:sum", "decimal:min",
+                "decimal:avg"}, new Object[]{"a", new DecimalValue("1.50")}, new Object[]{"a", new DecimalValue("1.5")},
+                new Object[]{"a", new DecimalValue("3")});
+        BMap<BString, Object> group = decimalGroups.getFirst();
+        Assert.assertEquals(group.get(aggregateField("decimal:sum")).toString(), "6.00");
+        // As with decimal:min, the last of the equal values is the minimum.
+        Assert.assertEquals(group.get(aggregateField("decimal:min")).toString(), "1.5");
+        Assert.assertEquals(group.get(aggregateField("decimal:avg")), new DecimalValue("2"));
+    }
+
+    @Test
+    public void testAggregateErrorIsKeptForGroup() {
+        List<BMap<BString, Object>> groups = aggregateByKey(new String[]{"int:sum", "int:max"},
+                new Object[]{"a", Long.MAX_VALUE}, new Object[]{"b", 1L}, new Object[]{"a", 1L},
+                new Object[]{"a", 2L});
+        Object sum = groups.getFirst().get(aggregateField("int:sum"));
+        Assert.assertTrue(sum instanceof BError);
+        Assert.assertEquals(((BError) sum).getMessage(), "{ballerina/lang.int}NumberOverflow");
+        Assert.assertEquals(groups.getFirst().get(aggregateField("int:max")), Long.MAX_VALUE);
+        Assert.assertEquals(groups.get(1).get(aggregateField("int:sum")), 1L);
+    }
+
+    @Test
+    public void testAggregatedAndCollectedValues() {
+        GroupBy groupBy = GroupBy.initGroupByClause(null, ValueCreator.createArrayValue(new BString[]{KEY}),
+                ValueCreator.createArrayValue(new BString[]{VALUE}),
+                ValueCreator.createArrayValue(new BString[]{VALUE}),
+                ValueCreator.createArrayValue(new BString[]{StringUtils.fromString("int:sum")}));
+        List<BMap<BString, Object>> groups = groupBy.process(createFrames(new Object[]{"a", 1}, new Object[]{"a", 2}))
+                .toList();
+        Assert.assertEquals(getValues(groups.getFirst()), List.of(1, 2));
+        Assert.assertEquals(groups.getFirst().get(aggregateField("int:sum")), 3L);
+    }
+
+    private static List<BMap<BString, Object>> groupByKey(Object... keys) {
+        GroupBy groupBy = GroupBy.initGroupByClause(null, ValueCreator.createArrayValue(new BString[]{KEY}),
+                ValueCreator.createArrayValue(new BString[]{VALUE}), ValueCreator.createArrayValue(new BString[0]),
+                ValueCreator.createArrayValue(new BString[0]));
+        Object[][] frames = new Object[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            frames[i] = new Object[]{keys[i], (long) i};
+        }
+        return groupBy.process(createFrames(frames)).toList();
+    }
+
+    private static List<BMap<BString, Object>> aggregateByKey(String[] functions, Object[]... frames) {
+        BString[] aggregateKeys = new BString[functions.length];
+        BString[] aggregateFunctions = new BString[functions.length];
+        for (int i = 0; i < functions.length; i++) {
+            aggregateKeys[i] = VALUE;
+            aggregateFunctions[i] = StringUtils.fromString(functions[i]);
+        }
+        GroupBy groupBy = GroupBy.initGroupByClause(null, ValueCreator.createArrayValue(new BString[]{KEY}),
+                ValueCreator.createArrayValue(new BString[0]), ValueCreator.createArrayValue(aggregateKeys),
+                ValueCreator.createArrayValue(aggregateFunctions));
+        return groupBy.process(createFrames(frames)).toList();
+    }
+
+    private static Stream<BMap<BString, Object>> createFrames(Object[]... frames) {
+        Stream.Builder<BMap<BString, Object>> stream = Stream.builder();
+        for (Object[] values : frames) {
+            BMap<BString, Object> frame = new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+            frame.put(KEY, values[0] instanceof String key ? StringUtils.fromString(key) : values[0]);
+            frame.put(VALUE, values[1]);
+            stream.add(frame);
+        }
+        return stream.build();
+    }
+
+    private static BString aggregateField(String function) {
+        return StringUtils.fromString(GroupBy.getAggregateField(VALUE.getValue(), function));
+    }
+
+    private static List<Object> getValues(BMap<BString, Object> group) {
+        BArray values = (BArray) group.get(VALUE);
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            result.add(values.get(i));
+        }
+        return result;
+    }
+}
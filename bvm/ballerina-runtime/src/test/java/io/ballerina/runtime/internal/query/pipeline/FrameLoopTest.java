@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.pipeline;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.query.clauses.FrameClause;
+import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
+import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
+
+/**
+ * Test cases for {@link FrameLoop}.
+ *
+ * @since 2201.13.0
+ */
+public class FrameLoopTest {
+
+    @BeforeClass
+    public void setup() {
+        ValueCreator.addValueCreator(BALLERINA_QUERY_PKG_ID.getOrg(), BALLERINA_QUERY_PKG_ID.getName(),
+                BALLERINA_QUERY_PKG_ID.getMajorVersion(), false, new FrameValueCreator());
+    }
+
+    @AfterClass
+    public void removeValueCreator() {
+        ValueCreator.removeValueCreator(BALLERINA_QUERY_PKG_ID);
+    }
+
+    @Test
+    public void testSingleFrameIsReused() {
+        Set<BMap<BString, Object>> frames = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<QueryClause> clauses = List.of(new MapClause(value -> value * 3),
+                new FilterClause(value -> value % 2 == 0), new MapClause(value -> value + 1));
+
+        List<Object> values = new ArrayList<>();
+        FrameLoop.execute(createSource(10), clauses).forEach(frame -> {
+            frames.add(frame);
+            values.add(frame.get(VALUE_FIELD));
+        });
+        Assert.assertEquals(values, List.of(1L, 7L, 13L, 19L, 25L));
+        Assert.assertEquals(frames.size(), 1);
+    }
+
+    @Test
+    public void testMembersAreProcessedOnDemand() {
+        List<Long> processed = new ArrayList<>();
+        List<QueryClause> clauses = List.of(new MapClause(value -> {
+            processed.add(value);
+            return value;
+        }), new FilterClause(value -> value >= 2));
+
+        Iterator<BMap<BString, Object>> frames = FrameLoop.execute(createSource(10), clauses).iterator();
+        Assert.assertTrue(frames.hasNext());
+        Assert.assertEquals(frames.next().get(VALUE_FIELD), 2L);
+        Assert.assertEquals(processed, List.of(0L, 1L, 2L));
+    }
+
+    @Test
+    public void testError() {
+        List<QueryClause> clauses = List.of(new MapClause(value -> {
+            if (value == 3) {
+                throw ErrorCreator.createError(StringUtils.fromString("failed at " + value));
+            }
+            return value;
+        }));
+
+        Iterator<BMap<BString, Object>> frames = FrameLoop.execute(createSource(10), clauses).iterator();
+        for (long i = 0; i < 3; i++) {
+            Assert.assertEquals(frames.next().get(VALUE_FIELD), i);
+        }
+        BError error = Assert.expectThrows(BError.class, frames::next);
+        Assert.assertEquals(error.getErrorMessage().getValue(), "failed at 3");
+    }
+
+    @Test
+    public void testClausesWithoutSingleFrameProcessing() {
+        Assert.assertTrue(FrameLoop.canExecute(List.of(new MapClause(value -> value),
+                new FilterClause(value -> true))));
+        QueryClause streamClause = inputStream -> inputStream.limit(1);
+        Assert.assertFalse(FrameLoop.canExecute(List.of(new MapClause(value -> value), streamClause)));
+    }
+
+    private static Iterator<Long> createSource(int size) {
+        return LongStream.range(0, size).boxed().iterator();
+    }
+
+    /**
+     * Clause which replaces the value of each frame.
+     */
+    private record MapClause(LongFunction<Long> function) implements FrameClause {
+
+        @Override
+        public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+            frame.put(VALUE_FIELD, function.apply((Long) frame.get(VALUE_FIELD)));
+            return frame;
+        }
+    }
+
+    /**
+     * Clause which keeps the frames whose value matches a condition.
+     */
+    private record FilterClause(LongPredicate condition) implements FrameClause {
+
+        @Override
+        public BMap<BString, Object> processFrame(BMap<BString, Object> frame) {
+            return condition.test((Long) frame.get(VALUE_FIELD)) ? frame : null;
+        }
+    }
+
+    /**
+     * Value creator of the query module, which creates the frames of the pipeline.
+     */
+    private static final class FrameValueCreator extends ValueCreator {
+
+        FrameValueCreator() {
+            super(null);
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            return new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Strand parent, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FunctionType getFunctionType(String functionName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
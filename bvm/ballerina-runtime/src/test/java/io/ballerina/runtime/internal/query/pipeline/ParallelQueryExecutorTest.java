@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.query.pipeline;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.query.clauses.QueryClause;
+import io.ballerina.runtime.internal.query.utils.IteratorUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_QUERY_PKG_ID;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_RUNTIME_PKG_ID;
+import static io.ballerina.runtime.internal.query.utils.QueryConstants.VALUE_FIELD;
+
+/**
+ * Test cases for {@link ParallelQueryExecutor}.
+ *
+ * @since 2201.13.0
+ */
+public class ParallelQueryExecutorTest {
+
+    private static final int PARALLELISM = 4;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void setup() {
+        scheduler = new BalRuntime(new Module("testorg", "queries", "1")).scheduler;
+        ValueCreator.addValueCreator(BALLERINA_QUERY_PKG_ID.getOrg(), BALLERINA_QUERY_PKG_ID.getName(),
+                BALLERINA_QUERY_PKG_ID.getMajorVersion(), false, new FrameValueCreator());
+    }
+
+    @AfterClass
+    public void removeValueCreator() {
+        ValueCreator.removeValueCreator(BALLERINA_QUERY_PKG_ID);
+    }
+
+    @Test
+    public void testResultOrder() {
+        BArray source = createSource(1000);
+        List<QueryClause> clauses = List.of(new MapClause(true, value -> value * 3),
+                new FilterClause(value -> value % 2 == 0));
+        Assert.assertTrue(ParallelQueryExecutor.canExecute(source, clauses, 1, PARALLELISM));
+
+        List<Object> expected = getValues(processSequentially(source, clauses));
+        Assert.assertEquals(expected.size(), 500);
+        Assert.assertEquals(getValues(ParallelQueryExecutor.execute(scheduler, source, clauses, PARALLELISM)),
+                expected);
+    }
+
+    @Test
+    public void testErrorOfEarliestChunk() {
+        // The source is split into chunks of 100 members, and the second and third chunks fail.
+        BArray source = createSource(400);
+        CountDownLatch chunkFailed = new CountDownLatch(1);
+        Queue<Long> processed = new ConcurrentLinkedQueue<>();
+        List<QueryClause> clauses = List.of(new MapClause(true, value -> {
+            processed.add(value);
+            if (value == 100 || value == 200) {
+                chunkFailed.countDown();
+                throw ErrorCreator.createError(StringUtils.fromString("failed at " + value));
+            }
+            if (value == 300) {
+                // Give the failure of the second chunk time to be recorded before the last chunk goes on.
+                await(chunkFailed);
+                sleep();
+            }
+            return value;
+        }));
+
+        Stream<BMap<BString, Object>> results = ParallelQueryExecutor.execute(scheduler, source, clauses, PARALLELISM);
+        BError error = Assert.expectThrows(BError.class, results::toList);
+        Assert.assertEquals(error.getErrorMessage().getValue(), "failed at 100");
+        // The chunk before the failed chunk runs to completion, while the last chunk stops after its current frame,
+        // if it has started processing at all.
+        Assert.assertEquals(processed.stream().filter(value -> value < 100).count(), 100);
+        Assert.assertTrue(processed.stream().filter(value -> value >= 300).count() <= 1);
+    }
+
+    @Test
+    public void testSequentialFallback() {
+        List<QueryClause> isolatedClauses = List.of(new MapClause(true, value -> value));
+        BArray source = createSource(10);
+        Assert.assertTrue(ParallelQueryExecutor.canExecute(source, isolatedClauses, 10, PARALLELISM));
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(source, isolatedClauses, 11, PARALLELISM));
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(source, isolatedClauses, 0, PARALLELISM));
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(source, isolatedClauses, 10, 1));
+
+        // Clauses calling functions which are not isolated.
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(source,
+                List.of(new MapClause(true, value -> value), new MapClause(false, value -> value)), 1, PARALLELISM));
+
+        // Sources whose members can be mutated.
+        BArray mutableSource = new ArrayValueImpl(TypeCreator.createArrayType(PredefinedTypes.TYPE_MAP));
+        mutableSource.append(new MapValueImpl<>(PredefinedTypes.TYPE_MAP));
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(mutableSource, isolatedClauses, 1, PARALLELISM));
+        mutableSource.freezeDirect();
+        Assert.assertTrue(ParallelQueryExecutor.canExecute(mutableSource, isolatedClauses, 1, PARALLELISM));
+        Assert.assertFalse(ParallelQueryExecutor.canExecute(new MapValueImpl<>(PredefinedTypes.TYPE_MAP),
+                isolatedClauses, 1, PARALLELISM));
+    }
+
+    @Test
+    public void testThresholdConfiguration() {
+        Assert.assertEquals(ParallelQueryExecutor.getParallelThreshold(), 0);
+        VariableKey thresholdKey = new VariableKey(BALLERINA_RUNTIME_PKG_ID, "queryParallelThreshold", null, false);
+        try {
+            ConfigMap.setConfigurableMap(Map.of(thresholdKey, () -> 1000L));
+            Assert.assertEquals(ParallelQueryExecutor.getParallelThreshold(), 1000);
+            ConfigMap.setConfigurableMap(Map.of(thresholdKey, () -> -1L));
+            Assert.assertEquals(ParallelQueryExecutor.getParallelThreshold(), 0);
+        } finally {
+            ConfigMap.setConfigurableMap(new HashMap<>());
+        }
+    }
+
+    private static BArray createSource(int size) {
+        return new ArrayValueImpl(LongStream.range(0, size).toArray(), false);
+    }
+
+    private static Stream<BMap<BString, Object>> processSequentially(BArray source, List<QueryClause> clauses) {
+        Stream<BMap<BString, Object>> stream = IteratorUtils.toStream(
+                LongStream.range(0, source.size()).mapToObj(source::get).iterator());
+        for (QueryClause clause : clauses) {
+            stream = clause.process(stream);
+        }
+        return stream;
+    }
+
+    private static List<Object> getValues(Stream<BMap<BString, Object>> frames) {
+        return frames.map(frame -> frame.get(VALUE_FIELD)).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Clause which replaces the value of each frame.
+     */
+    private record MapClause(boolean isParallelizable, LongFunction<Long> function) implements QueryClause {
+
+        @Override
+        public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
+            return inputStream.peek(frame -> frame.put(VALUE_FIELD, function.apply((Long) frame.get(VALUE_FIELD))));
+        }
+    }
+
+    /**
+     * Parallelizable clause which keeps the frames whose value matches a condition.
+     */
+    private record FilterClause(LongPredicate condition) implements QueryClause {
+
+        @Override
+        public Stream<BMap<BString, Object>> process(Stream<BMap<BString, Object>> inputStream) {
+            return inputStream.filter(frame -> condition.test((Long) frame.get(VALUE_FIELD)));
+        }
+
+        @Override
+        public boolean isParallelizable() {
+            return true;
+        }
+    }
+
+    /**
+     * Value creator of the query module, which creates the frames of the pipeline.
+     */
+    private static final class FrameValueCreator extends ValueCreator {
+
+        FrameValueCreator() {
+            super(null);
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            return new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Strand parent, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FunctionType getFunctionType(String functionName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
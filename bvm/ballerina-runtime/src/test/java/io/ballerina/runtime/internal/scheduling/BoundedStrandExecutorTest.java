@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.configurable.ConfigMap;
+import io.ballerina.runtime.internal.configurable.ConfigValue;
+import io.ballerina.runtime.internal.configurable.VariableKey;
+import io.ballerina.runtime.internal.errors.ErrorReasons;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_RUNTIME_PKG_ID;
+import static io.ballerina.runtime.internal.scheduling.StrandExecutorConfig.RejectionPolicy.BLOCK;
+import static io.ballerina.runtime.internal.scheduling.StrandExecutorConfig.RejectionPolicy.FAIL;
+
+/**
+ * Test cases for {@link BoundedStrandExecutor}.
+ *
+ * @since 2201.13.0
+ */
+public class BoundedStrandExecutorTest {
+
+    private static final Module MODULE_A = new Module("testorg", "a", "1");
+    private static final Module MODULE_B = new Module("testorg", "b", "1");
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Scheduler scheduler;
+
+    @BeforeMethod
+    public void createScheduler() {
+        scheduler = new BalRuntime(new Module("testorg", "strands", "1")).scheduler;
+    }
+
+    @AfterMethod
+    public void clearConfiguration() {
+        ConfigMap.setConfigurableMap(new HashMap<>());
+    }
+
+    @Test
+    public void testLiveStrandLimit() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(new StrandExecutorConfig(2, 10, null, BLOCK));
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrencyTracker tracker = new ConcurrencyTracker();
+        List<CompletableFuture<Void>> done = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            done.add(execute(executor, null, tracker.track(release)));
+        }
+        waitUntil(() -> tracker.running.get() == 2 && executor.getQueuedStrandCount() == 3);
+        Assert.assertEquals(executor.getLiveStrandCount(), 2);
+
+        release.countDown();
+        awaitAll(done);
+        Assert.assertEquals(tracker.maxRunning.get(), 2);
+        Assert.assertEquals(executor.getLiveStrandCount(), 0);
+        Assert.assertEquals(executor.getQueuedStrandCount(), 0);
+    }
+
+    @Test
+    public void testModuleQuota() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(
+                new StrandExecutorConfig(4, 10, Map.of("testorg/a", 1), BLOCK));
+        CountDownLatch release = new CountDownLatch(1);
+        ConcurrencyTracker moduleATracker = new ConcurrencyTracker();
+        List<CompletableFuture<Void>> done = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            done.add(execute(executor, MODULE_A, moduleATracker.track(release)));
+        }
+        // Strands of modules without a quota start ahead of the queued strands of modules at their quota.
+        CountDownLatch moduleBStarted = new CountDownLatch(1);
+        done.add(execute(executor, MODULE_B, moduleBStarted::countDown));
+        Assert.assertTrue(moduleBStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(executor.getQueuedStrandCount(), 2);
+
+        release.countDown();
+        awaitAll(done);
+        Assert.assertEquals(moduleATracker.maxRunning.get(), 1);
+    }
+
+    @Test
+    public void testFailPolicy() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(new StrandExecutorConfig(1, 1, null, FAIL));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = execute(executor, null, () -> await(release));
+        CompletableFuture<Void> queued = execute(executor, null, () -> { });
+        try {
+            execute(executor, null, () -> { });
+            Assert.fail("expected the strand to be rejected");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage(), ErrorReasons.STRAND_LIMIT_EXCEEDED);
+            Assert.assertEquals(((BMap<?, ?>) e.getDetails()).get(StringUtils.fromString("message")).toString(),
+                    "cannot start strand 'test': strand limit of 1 running and 1 queued strands reached");
+        }
+        release.countDown();
+        awaitAll(List.of(running, queued));
+    }
+
+    @Test
+    public void testBlockPolicy() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(new StrandExecutorConfig(1, 0, null, BLOCK));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = execute(executor, null, () -> await(release));
+        CompletableFuture<CompletableFuture<Void>> blockedStart =
+                CompletableFuture.supplyAsync(() -> execute(executor, null, () -> { }));
+        Thread.sleep(100);
+        Assert.assertFalse(blockedStart.isDone());
+
+        release.countDown();
+        awaitAll(List.of(running, blockedStart.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void testNestedStartAndWait() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(new StrandExecutorConfig(1, 0, null, BLOCK));
+        scheduler.setStrandExecutor(executor);
+        // Each strand starts a child and waits for it while holding the only slot, until the given depth is reached.
+        CompletableFuture<Integer> result = scheduler.startIsolatedTask(null, "root", () -> startAndWait(4));
+        Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), 4);
+        waitUntil(() -> executor.getLiveStrandCount() == 0);
+    }
+
+    @Test
+    public void testWaitReleasesSlot() throws Exception {
+        BoundedStrandExecutor executor = new BoundedStrandExecutor(new StrandExecutorConfig(1, 10, null, BLOCK));
+        scheduler.setStrandExecutor(executor);
+        CompletableFuture<Integer> result = scheduler.startIsolatedTask(null, "parent", () -> {
+            Strand parent = Scheduler.getStrand();
+            List<CompletableFuture<Integer>> children = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                int value = i;
+                children.add(scheduler.startIsolatedTask(parent, "child", () -> value));
+            }
+            int sum = 0;
+            for (CompletableFuture<Integer> child : children) {
+                sum += (Integer) AsyncUtils.handleWait(parent, toObjectFuture(child));
+            }
+            return sum;
+        });
+        Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), 3);
+        waitUntil(() -> executor.getLiveStrandCount() == 0);
+    }
+
+    @Test
+    public void testConfiguration() {
+        Assert.assertNull(StrandExecutorConfig.fromConfiguration());
+        Assert.assertTrue(scheduler.getStrandExecutor() instanceof VirtualThreadStrandExecutor);
+
+        MapValueImpl<Object, Object> quotas = new MapValueImpl<>();
+        quotas.put(StringUtils.fromString("testorg/a"), 2L);
+        setConfiguration(Map.of("maxLiveStrands", 8L, "maxQueuedStrands", 16L, "strandQuotas", quotas,
+                "strandRejectionPolicy", StringUtils.fromString("FAIL")));
+        Assert.assertEquals(StrandExecutorConfig.fromConfiguration(),
+                new StrandExecutorConfig(8, 16, Map.of("testorg/a", 2), FAIL));
+        Scheduler configuredScheduler = new BalRuntime(new Module("testorg", "configured", "1")).scheduler;
+        Assert.assertTrue(configuredScheduler.getStrandExecutor() instanceof BoundedStrandExecutor);
+
+        setConfiguration(Map.of("maxLiveStrands", 8L));
+        Assert.assertEquals(StrandExecutorConfig.fromConfiguration(), new StrandExecutorConfig(8, 0, null, BLOCK));
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        setConfiguration(Map.of("maxLiveStrands", 8L, "strandRejectionPolicy", StringUtils.fromString("DROP")));
+        try {
+            StrandExecutorConfig.fromConfiguration();
+            Assert.fail("expected an invalid rejection policy error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(),
+                    "invalid strand rejection policy 'DROP': expected 'BLOCK' or 'FAIL'");
+        }
+
+        setConfiguration(Map.of("maxLiveStrands", 8L, "maxQueuedStrands", -1L));
+        try {
+            StrandExecutorConfig.fromConfiguration();
+            Assert.fail("expected an invalid strand limit error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(),
+                    "invalid strand limits: maximum queued strand count should not be negative: -1");
+        }
+    }
+
+    private int startAndWait(int depth) {
+        if (depth == 1) {
+            return 1;
+        }
+        Strand strand = Scheduler.getStrand();
+        CompletableFuture<Integer> child = scheduler.startIsolatedTask(strand, "child", () -> startAndWait(depth - 1));
+        return (Integer) AsyncUtils.handleWait(strand, toObjectFuture(child)) + 1;
+    }
+
+    private CompletableFuture<Void> execute(BoundedStrandExecutor executor, Module module, Runnable task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Strand strand = new Strand(scheduler, "test", null, true, null, null);
+        executor.execute(null, strand, module, () -> {
+            try {
+                task.run();
+                done.complete(null);
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        });
+        return done;
+    }
+
+    private static void setConfiguration(Map<String, Object> values) {
+        Map<VariableKey, ConfigValue> configurableMap = new HashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            configurableMap.put(new VariableKey(BALLERINA_RUNTIME_PKG_ID, entry.getKey(), null, false), () -> value);
+        }
+        ConfigMap.setConfigurableMap(configurableMap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> toObjectFuture(CompletableFuture<Integer> future) {
+        return (CompletableFuture<Object>) (CompletableFuture<?>) future;
+    }
+
+    private static void awaitAll(List<CompletableFuture<Void>> futures) throws Exception {
+        for (CompletableFuture<Void> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private static class ConcurrencyTracker {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+
+        private Runnable track(CountDownLatch release) {
+            return () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    await(release);
+                } finally {
+                    running.decrementAndGet();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.semtype.BddAllOrNothing;
+import io.ballerina.runtime.api.types.semtype.Context;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.json.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the json state machines and type checking contexts, which are pooled across strands.
+ *
+ * @since 2201.13.0
+ */
+public class PooledStrandStateTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    // Upper bound of the number of idle contexts kept by the type checker.
+    private static final int MAX_IDLE_CONTEXTS = 2 * Runtime.getRuntime().availableProcessors();
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void createScheduler() {
+        scheduler = new BalRuntime(new Module("testorg", "pooling", "1")).scheduler;
+    }
+
+    @Test
+    public void testParseAndTypeCheckAcrossStrandsAndThreads() throws Exception {
+        Type jsonMapType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+        Type intMapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Set<Context> usedContexts = ConcurrentHashMap.newKeySet();
+        List<Future<?>> results = new ArrayList<>();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 200; i++) {
+                int id = i;
+                Runnable task = () -> {
+                    Object value = JsonParser.parse(new StringReader("{\"id\": " + id + ", \"count\": 2}"),
+                            JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+                    Assert.assertTrue(TypeChecker.checkIsType(value, jsonMapType));
+                    Assert.assertFalse(TypeChecker.checkIsType(value, intMapType));
+                    usedContexts.add(TypeChecker.context());
+                };
+                results.add(scheduler.startIsolatedTask(null, "pooling", () -> {
+                    task.run();
+                    return null;
+                }));
+                results.add(threads.submit(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        TypeChecker.releaseContext();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdown();
+        }
+        for (Context cx : usedContexts) {
+            Assert.assertTrue(cx.isIdle());
+        }
+    }
+
+    @Test
+    public void testContextLeftMidCheckIsNotPooled() throws Exception {
+        drainIdleContexts();
+        Context brokenContext = CompletableFuture.supplyAsync(() -> {
+            Context cx = TypeChecker.context();
+            try {
+                cx.memoSubtypeIsEmpty(new HashMap<>(), (ignored, bdd) -> {
+                    throw new IllegalStateException("type check interrupted");
+                }, BddAllOrNothing.ALL);
+                Assert.fail("expected the type check to be interrupted");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+            TypeChecker.releaseContext();
+            return cx;
+        }, Thread::startVirtualThread).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertFalse(brokenContext.isIdle());
+        Assert.assertNotSame(contextOfNewThread(), brokenContext);
+
+        // An idle context is handed over to the next thread.
+        Context idleContext = CompletableFuture.supplyAsync(() -> {
+            Context cx = TypeChecker.context();
+            TypeChecker.releaseContext();
+            return cx;
+        }, Thread::startVirtualThread).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertSame(contextOfNewThread(), idleContext);
+    }
+
+    @Test
+    public void testStateMachineLeftMidParseIsNotPooled() throws Exception {
+        Queue<?> idleStateMachines = getIdleStateMachines();
+        idleStateMachines.clear();
+        Assert.assertThrows(BError.class, () -> JsonParser.parse(new StringReader("{\"a\": [1, {\"b\": tru"),
+                JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING));
+        Assert.assertTrue(idleStateMachines.isEmpty());
+
+        Object value = JsonParser.parse(new StringReader("{\"a\": [1, {\"b\": true}]}"),
+                JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertEquals(value.toString(), "{\"a\":[1,{\"b\":true}]}");
+        Assert.assertEquals(idleStateMachines.size(), 1);
+    }
+
+    private static void drainIdleContexts() throws Exception {
+        for (int i = 0; i < MAX_IDLE_CONTEXTS; i++) {
+            contextOfNewThread();
+        }
+    }
+
+    private static Context contextOfNewThread() throws Exception {
+        return CompletableFuture.supplyAsync(TypeChecker::context, Thread::startVirtualThread)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Queue<?> getIdleStateMachines() throws ReflectiveOperationException {
+        Field field = JsonParser.class.getDeclaredField("idleStateMachines");
+        field.setAccessible(true);
+        return (Queue<?>) field.get(null);
+    }
+}
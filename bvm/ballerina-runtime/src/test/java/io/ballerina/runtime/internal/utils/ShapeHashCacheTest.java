@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the caching of the shape hashes of immutable values.
+ *
+ * @since 2201.13.0
+ */
+public class ShapeHashCacheTest {
+
+    @Test
+    public void testFrozenValueHashIsCached() {
+        BArray array = ValueCreator.createArrayValue(new long[]{1, 2, 3});
+        array.freezeDirect();
+        Long hash = TableUtils.hash(array, null);
+        Assert.assertEquals(ShapeHashCache.get(array), hash);
+        Assert.assertEquals(TableUtils.hash(array, null), hash);
+    }
+
+    @Test
+    public void testMutableValueHashIsNotCached() {
+        BArray array = ValueCreator.createArrayValue(new long[]{1, 2, 3});
+        Long hash = TableUtils.hash(array, null);
+        Assert.assertNull(ShapeHashCache.get(array));
+        array.add(3, 4L);
+        Assert.assertNotEquals(TableUtils.hash(array, null), hash);
+    }
+
+    @Test
+    public void testEqualShapesHaveEqualHashes() {
+        BArray cached = ValueCreator.createArrayValue(new long[]{5, 6});
+        cached.freezeDirect();
+        BArray uncached = ValueCreator.createArrayValue(new long[]{5, 6});
+        Assert.assertEquals(TableUtils.hash(cached, null), TableUtils.hash(uncached, null));
+        Assert.assertEquals(TableUtils.hash(cached, null), TableUtils.hash(uncached, null));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for the {@link CompactOrderedMap} class.
+ *
+ * @since 2201.13.0
+ */
+public class CompactOrderedMapTest {
+
+    @DataProvider
+    public Object[][] keyCounts() {
+        // Below, at and above the size up to which maps are searched linearly.
+        return new Object[][]{{4}, {8}, {9}, {100}};
+    }
+
+    @Test(dataProvider = "keyCounts")
+    public void testOperationsMatchLinkedHashMap(int keyCount) {
+        Random random = new Random(keyCount);
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int step = 0; step < 20000; step++) {
+            String key = random.nextInt(keyCount + 1) == 0 ? null : "k" + random.nextInt(keyCount);
+            int value = random.nextInt(10);
+            switch (random.nextInt(8)) {
+                case 0, 1, 2 -> Assert.assertEquals(map.put(key, value), expected.put(key, value));
+                case 3 -> Assert.assertEquals(map.remove(key), expected.remove(key));
+                case 4 -> Assert.assertEquals(map.putIfAbsent(key, value), expected.putIfAbsent(key, value));
+                case 5 -> Assert.assertEquals(map.merge(key, value, (a, b) -> a + b > 12 ? null : a + b),
+                        expected.merge(key, value, (a, b) -> a + b > 12 ? null : a + b));
+                case 6 -> Assert.assertEquals(map.remove(key, value), expected.remove(key, value));
+                default -> {
+                    if (random.nextInt(200) == 0) {
+                        map.clear();
+                        expected.clear();
+                    }
+                }
+            }
+            Assert.assertEquals(map.get(key), expected.get(key));
+            Assert.assertEquals(map.containsKey(key), expected.containsKey(key));
+            Assert.assertEquals(map.size(), expected.size());
+            if (step % 97 == 0) {
+                assertSameEntries(map, expected);
+            }
+        }
+        assertSameEntries(map, expected);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("k" + i, i);
+        }
+        map.values().removeIf(value -> value % 3 != 0);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), List.of("k0", "k3", "k6", "k9", "k12", "k15", "k18"));
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(map.get("k" + i), i % 3 == 0 ? Integer.valueOf(i) : null);
+        }
+        map.put("k1", 1);
+        Assert.assertEquals(map.keySet().iterator().next(), "k0");
+        Assert.assertEquals(new ArrayList<>(map.values()).getLast(), Integer.valueOf(1));
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testIteratorFailsAfterModification() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        map.put("c", 3);
+        keys.next();
+    }
+
+    @Test
+    public void testEntryReadsCurrentValue() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        for (int i = 0; i < 4; i++) {
+            map.put("k" + i, i);
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(map.entrySet());
+        Map.Entry<String, Integer> last = entries.get(3);
+
+        map.put("k3", 30);
+        Assert.assertEquals(last.getValue(), Integer.valueOf(30));
+        last.setValue(31);
+        Assert.assertEquals(map.get("k3"), Integer.valueOf(31));
+
+        // Removing entries and adding new ones moves the remaining entries up in the array.
+        map.remove("k0");
+        map.remove("k1");
+        map.put("k4", 4);
+        map.put("k5", 5);
+        map.put("k3", 32);
+        Assert.assertEquals(last.getValue(), Integer.valueOf(32));
+
+        map.remove("k3");
+        Assert.assertEquals(last.getValue(), Integer.valueOf(32));
+        last.setValue(33);
+        Assert.assertFalse(map.containsKey("k3"));
+        Assert.assertEquals(entries.get(2).getValue(), Integer.valueOf(2));
+    }
+
+    private static void assertSameEntries(CompactOrderedMap<String, Integer> map, Map<String, Integer> expected) {
+        Assert.assertEquals(new ArrayList<>(map.entrySet()), new ArrayList<>(expected.entrySet()));
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+        Assert.assertEquals(new ArrayList<>(map.values()), new ArrayList<>(expected.values()));
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(map.hashCode(), expected.hashCode());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+
+/**
+ * Test cases for {@link ConcatStringValue}.
+ *
+ * @since 2201.13.0
+ */
+public class ConcatStringValueTest {
+
+    private static final String BMP_LINE = "2025-01-01,order-42,12.50,LKR,0123456789012345678901234567890123456789\n";
+    private static final String NON_BMP_LINE = "2025-01-01,order-42,😀,LKR,👽0123456789012345678901\n";
+
+    @Test
+    public void testConcatenationIsNotBuffered() {
+        BString result = StringUtils.fromString("abc").concat(StringUtils.fromString("def"));
+        Assert.assertTrue(result instanceof BmpStringValue);
+
+        result = StringUtils.fromString(BMP_LINE).concat(StringUtils.fromString(BMP_LINE));
+        Assert.assertTrue(result instanceof BmpStringValue);
+        Assert.assertEquals(result.getValue(), BMP_LINE + BMP_LINE);
+        result = StringUtils.fromString(NON_BMP_LINE).concat(StringUtils.fromString(NON_BMP_LINE));
+        Assert.assertTrue(result instanceof NonBmpStringValue);
+        assertSameString(result, NON_BMP_LINE + NON_BMP_LINE);
+        result = result.concat(StringUtils.fromString("x"));
+        Assert.assertTrue(result instanceof NonBmpStringValue);
+        assertSameString(result, NON_BMP_LINE + NON_BMP_LINE + "x");
+    }
+
+    @Test
+    public void testAppendLoopIsBuffered() {
+        BString result = StringUtils.fromString(BMP_LINE);
+        for (int i = 0; i < 2; i++) {
+            result = result.concat(StringUtils.fromString("x"));
+            Assert.assertTrue(result instanceof BmpStringValue);
+        }
+        result = result.concat(StringUtils.fromString("x"));
+        Assert.assertTrue(result instanceof ConcatStringValue);
+        Assert.assertEquals(result.getValue(), BMP_LINE + "xxx");
+
+        Assert.assertTrue(appendFields(BMP_LINE) instanceof ConcatStringValue);
+        Assert.assertTrue(appendFields(NON_BMP_LINE + NON_BMP_LINE) instanceof ConcatStringValue);
+    }
+
+    @Test
+    public void testAppendInPlaceAndCopy() throws ReflectiveOperationException {
+        BString first = appendFields(BMP_LINE).concat(StringUtils.fromString("a"));
+        Object sharedBuffer = getBuffer(first);
+        BString appended = first.concat(StringUtils.fromString("b"));
+        Assert.assertSame(getBuffer(appended), sharedBuffer);
+
+        // first no longer ends at the end of the shared buffer, so it is copied, and the shared buffer is released
+        BString copied = first.concat(StringUtils.fromString("c"));
+        Assert.assertTrue(copied instanceof BmpStringValue);
+        Assert.assertNull(getBuffer(first));
+        // concatenating to the copy continues the loop in a new buffer
+        BString appendedToCopy = copied.concat(StringUtils.fromString("d"));
+        Assert.assertNotSame(getBuffer(appendedToCopy), sharedBuffer);
+        BString appendedTwiceToCopy = appendedToCopy.concat(StringUtils.fromString("e"));
+        Assert.assertSame(getBuffer(appendedTwiceToCopy), getBuffer(appendedToCopy));
+
+        Assert.assertEquals(first.getValue(), BMP_LINE + "a");
+        Assert.assertEquals(appended.getValue(), BMP_LINE + "ab");
+        Assert.assertEquals(copied.getValue(), BMP_LINE + "ac");
+        Assert.assertEquals(appendedToCopy.getValue(), BMP_LINE + "acd");
+        Assert.assertEquals(appendedTwiceToCopy.getValue(), BMP_LINE + "acde");
+        Assert.assertEquals(first.length(), BMP_LINE.length() + 1);
+        Assert.assertEquals(appendedTwiceToCopy.length(), BMP_LINE.length() + 4);
+    }
+
+    @Test
+    public void testAppendAfterFlattening() {
+        BString first = appendFields(BMP_LINE).concat(StringUtils.fromString("a"));
+        Assert.assertEquals(first.getValue(), BMP_LINE + "a");
+        BString appended = first.concat(StringUtils.fromString("😀"));
+        BString copied = first.concat(StringUtils.fromString("c"));
+        Assert.assertEquals(appended.getValue(), BMP_LINE + "a😀");
+        Assert.assertEquals(appended.length(), BMP_LINE.length() + 2);
+        Assert.assertEquals(appended.getCodePoint(BMP_LINE.length() + 1), 0x1F600);
+        Assert.assertEquals(copied.getValue(), BMP_LINE + "ac");
+    }
+
+    @Test
+    public void testSurrogatesAcrossAppends() {
+        StringBuilder expected = new StringBuilder();
+        BString result = StringUtils.fromString("");
+        String[] parts = {BMP_LINE, NON_BMP_LINE, "😀", "x", NON_BMP_LINE, BMP_LINE, "👽"};
+        for (int i = 0; i < 4; i++) {
+            for (String part : parts) {
+                result = result.concat(StringUtils.fromString(part));
+                expected.append(part);
+                assertSameString(result, expected.toString());
+            }
+        }
+        Assert.assertTrue(result instanceof ConcatStringValue);
+    }
+
+    @Test
+    public void testConcatenatingConcatenatedStrings() {
+        // lhs is buffered, and rhs and the short string are not
+        BString lhs = appendFields(NON_BMP_LINE).concat(StringUtils.fromString(BMP_LINE));
+        BString rhs = StringUtils.fromString(BMP_LINE).concat(StringUtils.fromString(NON_BMP_LINE));
+        assertSameString(lhs.concat(rhs), NON_BMP_LINE + BMP_LINE + BMP_LINE + NON_BMP_LINE);
+        assertSameString(rhs.concat(lhs), BMP_LINE + NON_BMP_LINE + NON_BMP_LINE + BMP_LINE);
+        assertSameString(StringUtils.fromString("😀").concat(lhs), "😀" + NON_BMP_LINE + BMP_LINE);
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        BString concatenated = appendFields(BMP_LINE).concat(StringUtils.fromString("tail"));
+        BmpStringValue bmp = new BmpStringValue(BMP_LINE + "tail");
+        Assert.assertEquals(concatenated.hashCode(), bmp.hashCode());
+        Assert.assertEquals(concatenated, bmp);
+        Assert.assertEquals(bmp, concatenated);
+        Assert.assertNotEquals(concatenated, new BmpStringValue(BMP_LINE + "tai"));
+
+        BString nonBmpConcatenated = appendFields(NON_BMP_LINE + NON_BMP_LINE).concat(StringUtils.fromString("tail"));
+        BString nonBmp = StringUtils.fromString(NON_BMP_LINE + NON_BMP_LINE + "tail");
+        Assert.assertEquals(nonBmpConcatenated.hashCode(), nonBmp.hashCode());
+        Assert.assertEquals(nonBmpConcatenated, nonBmp);
+        Assert.assertEquals(nonBmp, nonBmpConcatenated);
+    }
+
+    private static BString appendFields(String line) {
+        BString result = StringUtils.fromString("");
+        for (String field : line.split("(?<=,)")) {
+            result = result.concat(StringUtils.fromString(field));
+        }
+        return result;
+    }
+
+    private static void assertSameString(BString actual, String expected) {
+        int codePointCount = expected.codePointCount(0, expected.length());
+        Assert.assertEquals(actual.length(), codePointCount);
+        int[] codePoints = expected.codePoints().toArray();
+        for (int i = 0; i < codePointCount; i++) {
+            Assert.assertEquals(actual.getCodePoint(i), codePoints[i], "code point at " + i);
+        }
+        for (int begin = 0; begin < codePointCount; begin += 37) {
+            int end = Math.min(codePointCount, begin + 70);
+            String expectedSubstring = expected.substring(expected.offsetByCodePoints(0, begin),
+                    expected.offsetByCodePoints(0, end));
+            BString substring = actual.substring(begin, end);
+            Assert.assertEquals(substring.getValue(), expectedSubstring);
+            Assert.assertEquals(substring.length(), end - begin);
+        }
+        Assert.assertEquals(actual.getValue(), expected);
+        int index = expected.indexOf("LKR");
+        Assert.assertEquals(actual.indexOf(StringUtils.fromString("LKR"), 0),
+                index < 0 ? -1L : (long) expected.codePointCount(0, index));
+    }
+
+    private static Object getBuffer(BString str) throws ReflectiveOperationException {
+        Field buffer = ConcatStringValue.class.getDeclaredField("buffer");
+        buffer.setAccessible(true);
+        return buffer.get(str);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for the arithmetic of {@link DecimalValue}. Values that fit in a long are added, subtracted, multiplied
+ * and negated without a {@link BigDecimal}, so each result is compared with the same operation on
+ * {@link BigDecimal} under {@link MathContext#DECIMAL128}.
+ *
+ * @since 2201.13.0
+ */
+public class DecimalValueTest {
+
+    private static final String[] OPERANDS = {
+            "1", "-1", "0.1", "2.50", "-0.001", "100", "1E+3", "1.000000000000000000", "123456789.123456789",
+            "999999999999999999", "-999999999999999999", "9223372036854775807", "-9223372036854775807",
+            "9223372036854775808", "4611686018427387904", "3037000499.97604969", "0.000000000000000001",
+            "1E-6000", "1E+6000", "1E-5990", "12345678901234567890123456789012345",
+            "9.999999999999999999999999999999999E+6144", "1E-6143", "5E-6100"
+    };
+
+    @DataProvider
+    public Object[][] operandPairs() {
+        List<Object[]> pairs = new ArrayList<>();
+        for (String lhs : OPERANDS) {
+            for (String rhs : OPERANDS) {
+                pairs.add(new Object[]{lhs, rhs});
+            }
+        }
+        return pairs.toArray(new Object[0][]);
+    }
+
+    @Test(dataProvider = "operandPairs")
+    public void testArithmeticOfOperandPairs(String lhs, String rhs) {
+        assertArithmetic(new BigDecimal(lhs, MathContext.DECIMAL128), new BigDecimal(rhs, MathContext.DECIMAL128));
+    }
+
+    @Test
+    public void testArithmeticOfRandomOperands() {
+        Random random = new Random(2025);
+        for (int i = 0; i < 50000; i++) {
+            assertArithmetic(randomOperand(random), randomOperand(random));
+        }
+    }
+
+    @Test
+    public void testArithmeticWithZero() {
+        DecimalValue zero = new DecimalValue("0.00");
+        DecimalValue value = new DecimalValue("12.5");
+        Assert.assertEquals(zero.getValueKind(), DecimalValueKind.ZERO);
+        Assert.assertSame(zero.add(value), value);
+        Assert.assertSame(value.add(zero), value);
+        Assert.assertSame(value.subtract(zero), value);
+        assertSameDecimal(zero.subtract(value), new BigDecimal("-12.5"));
+        Assert.assertSame(zero.multiply(value), zero);
+        Assert.assertSame(value.multiply(zero), zero);
+        Assert.assertSame(zero.negate(), zero);
+
+        assertSameDecimal(value.subtract(value), new BigDecimal("0.0"));
+        Assert.assertEquals(value.subtract(value).getValueKind(), DecimalValueKind.ZERO);
+        assertSameDecimal(new DecimalValue("0.5").multiply(new DecimalValue("-2")), new BigDecimal("-1.0"));
+    }
+
+    @Test
+    public void testValueOf() {
+        for (long value : new long[]{0, 1, -1, 42, Long.MAX_VALUE, Long.MIN_VALUE, 999999999999999999L}) {
+            assertSameDecimal(DecimalValue.valueOf(value),
+                    new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
+        }
+        for (int value : new int[]{0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertSameDecimal(DecimalValue.valueOf(value), new BigDecimal(value).setScale(1));
+        }
+    }
+
+    private static BigDecimal randomOperand(Random random) {
+        long unscaled = switch (random.nextInt(5)) {
+            case 0 -> random.nextInt(2001) - 1000;
+            case 1 -> random.nextLong();
+            case 2 -> random.nextLong() >> random.nextInt(64);
+            case 3 -> (random.nextBoolean() ? 1 : -1) * (Long.MAX_VALUE - random.nextInt(100));
+            default -> (random.nextBoolean() ? 1 : -1) * BigInteger.TEN.pow(random.nextInt(19)).longValue();
+        };
+        int scale = random.nextInt(20) == 0 ? random.nextInt(12001) - 6000 : random.nextInt(41) - 20;
+        BigDecimal operand = BigDecimal.valueOf(unscaled, scale);
+        if (random.nextInt(10) == 0) {
+            operand = operand.multiply(new BigDecimal(new BigInteger(80, random)), MathContext.DECIMAL128);
+        }
+        return operand;
+    }
+
+    private static void assertArithmetic(BigDecimal lhs, BigDecimal rhs) {
+        DecimalValue lhsValue = createDecimal(lhs);
+        DecimalValue rhsValue = createDecimal(rhs);
+        if (lhsValue == null || rhsValue == null || lhsValue.getValueKind() == DecimalValueKind.ZERO
+                || rhsValue.getValueKind() == DecimalValueKind.ZERO) {
+            return;
+        }
+        BigDecimal lhsDecimal = lhsValue.decimalValue();
+        BigDecimal rhsDecimal = rhsValue.decimalValue();
+        assertOperation("+", lhsValue, rhsValue, DecimalValue::add,
+                () -> lhsDecimal.add(rhsDecimal, MathContext.DECIMAL128));
+        assertOperation("-", lhsValue, rhsValue, DecimalValue::subtract,
+                () -> lhsDecimal.subtract(rhsDecimal, MathContext.DECIMAL128));
+        assertOperation("*", lhsValue, rhsValue, DecimalValue::multiply,
+                () -> lhsDecimal.multiply(rhsDecimal, MathContext.DECIMAL128));
+        assertSameDecimal(lhsValue.negate(), lhsDecimal.negate());
+    }
+
+    private static void assertOperation(String operator, DecimalValue lhs, DecimalValue rhs,
+                                        BinaryOperator<DecimalValue> operation, Supplier<BigDecimal> expected) {
+        DecimalValue expectedValue = createDecimal(expected.get());
+        DecimalValue result;
+        try {
+            result = operation.apply(lhs, rhs);
+        } catch (BError e) {
+            Assert.assertNull(expectedValue, lhs + " " + operator + " " + rhs + " failed: " + e.getMessage());
+            return;
+        }
+        Assert.assertNotNull(expectedValue, lhs + " " + operator + " " + rhs + " should be out of range");
+        assertSameDecimal(result, expectedValue);
+    }
+
+    private static DecimalValue createDecimal(BigDecimal value) {
+        try {
+            return new DecimalValue(value);
+        } catch (BError e) {
+            return null;
+        }
+    }
+
+    private static void assertSameDecimal(DecimalValue actual, BigDecimal expected) {
+        DecimalValue expectedValue = createDecimal(expected);
+        Assert.assertNotNull(expectedValue);
+        assertSameDecimal(actual, expectedValue);
+    }
+
+    private static void assertSameDecimal(DecimalValue actual, DecimalValue expected) {
+        BigDecimal expectedDecimal = expected.decimalValue();
+        String message = "expected " + expectedDecimal + " but found " + actual.decimalValue();
+        Assert.assertEquals(actual.decimalValue(), expectedDecimal, message);
+        Assert.assertEquals(actual.decimalValue().scale(), expectedDecimal.scale(), message);
+        Assert.assertEquals(actual.getValueKind(), expected.getValueKind(), message);
+        Assert.assertEquals(actual.toString(), expected.toString(), message);
+        Assert.assertEquals(actual.hashCode(), expected.hashCode(), message);
+        Assert.assertEquals(actual, expected, message);
+        Assert.assertEquals(expected, actual, message);
+    }
+}
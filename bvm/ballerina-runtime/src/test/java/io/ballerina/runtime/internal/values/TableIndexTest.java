@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BRecordType;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the {@link TableIndex} class.
+ *
+ * @since 2201.13.0
+ */
+public class TableIndexTest {
+
+    private static final Module MODULE = new Module("testorg", "table_index", "1");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DEPT = StringUtils.fromString("dept");
+    private static final BString AGE = StringUtils.fromString("age");
+
+    private BRecordType employeeType;
+
+    @BeforeClass
+    public void setup() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        addField(fields, PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED | SymbolFlags.READONLY);
+        addField(fields, PredefinedTypes.TYPE_STRING, "dept", SymbolFlags.REQUIRED | SymbolFlags.READONLY);
+        addField(fields, PredefinedTypes.TYPE_INT, "age", SymbolFlags.REQUIRED);
+        employeeType = (BRecordType) TypeCreator.createRecordType("Employee", MODULE, 0, fields, null, true, 0);
+    }
+
+    @Test
+    public void testEqualityLookUp() {
+        TableValueImpl<Object, Object> table = createTable();
+        List<Object> rows = List.copyOf(table.values());
+
+        TableIndex index = table.getIndex(DEPT);
+        Assert.assertEquals(index.lookUp(TableIndex.EQUAL, StringUtils.fromString("sales")),
+                List.of(rows.get(0), rows.get(2), rows.get(4)));
+        Assert.assertEquals(index.lookUp(TableIndex.EQUAL, StringUtils.fromString("hr")), List.of(rows.get(3)));
+        Assert.assertEquals(index.lookUp(TableIndex.EQUAL, StringUtils.fromString("legal")), List.of());
+        Assert.assertEquals(table.getIndex(ID).lookUp(TableIndex.EQUAL, 2L), List.of(rows.get(1)));
+        Assert.assertSame(table.getIndex(DEPT), index);
+    }
+
+    @Test
+    public void testRangeLookUp() {
+        TableValueImpl<Object, Object> table = createTable();
+        List<Object> rows = List.copyOf(table.values());
+
+        // Rows are returned in table order, not in the order of their ids.
+        TableIndex index = table.getIndex(ID);
+        Assert.assertEquals(index.lookUp(TableIndex.LESS_THAN, 3L), List.of(rows.get(1), rows.get(3)));
+        Assert.assertEquals(index.lookUp(TableIndex.LESS_EQUAL, 3L),
+                List.of(rows.get(1), rows.get(3), rows.get(4)));
+        Assert.assertEquals(index.lookUp(TableIndex.GREATER_THAN, 3L), List.of(rows.get(0), rows.get(2)));
+        Assert.assertEquals(index.lookUp(TableIndex.GREATER_EQUAL, 3L),
+                List.of(rows.get(0), rows.get(2), rows.get(4)));
+        Assert.assertEquals(index.lookUp(TableIndex.GREATER_THAN, 10L), List.of());
+        Assert.assertEquals(index.lookUp(TableIndex.LESS_THAN, -10L), List.of());
+    }
+
+    @Test
+    public void testUnsupportedLookUps() {
+        TableValueImpl<Object, Object> table = createTable();
+
+        Assert.assertNull(table.getIndex(AGE));
+        Assert.assertNull(table.getIndex(StringUtils.fromString("salary")));
+        Assert.assertNull(table.getIndex(DEPT).lookUp(TableIndex.LESS_THAN, StringUtils.fromString("hr")));
+        Assert.assertNull(table.getIndex(ID).lookUp(TableIndex.LESS_THAN, 2.5));
+        Assert.assertNull(table.getIndex(ID).lookUp(TableIndex.EQUAL, 2.0));
+    }
+
+    @Test
+    public void testIndexIsRebuiltAfterModification() {
+        TableValueImpl<Object, Object> table = createTable();
+        TableIndex index = table.getIndex(DEPT);
+        BString sales = StringUtils.fromString("sales");
+
+        MapValueImpl<BString, Object> newRow = createEmployee(6, "sales", 41);
+        table.add(newRow);
+        TableIndex rebuiltIndex = table.getIndex(DEPT);
+        Assert.assertNotSame(rebuiltIndex, index);
+        Assert.assertEquals(rebuiltIndex.lookUp(TableIndex.EQUAL, sales).size(), 4);
+        Assert.assertSame(rebuiltIndex.lookUp(TableIndex.EQUAL, sales).get(3), newRow);
+        // An index already looked up keeps answering for the rows it was built from.
+        Assert.assertEquals(index.lookUp(TableIndex.EQUAL, sales).size(), 3);
+
+        table.clear();
+        Assert.assertEquals(table.getIndex(DEPT).lookUp(TableIndex.EQUAL, sales), List.of());
+    }
+
+    private TableValueImpl<Object, Object> createTable() {
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(TypeCreator.createTableType(employeeType, false));
+        table.add(createEmployee(5, "sales", 30));
+        table.add(createEmployee(2, "it", 25));
+        table.add(createEmployee(4, "sales", 52));
+        table.add(createEmployee(1, "hr", 38));
+        table.add(createEmployee(3, "sales", 44));
+        return table;
+    }
+
+    private MapValueImpl<BString, Object> createEmployee(long id, String dept, long age) {
+        MapValueImpl<BString, Object> employee = new MapValueImpl<>(employeeType);
+        employee.put(ID, id);
+        employee.put(DEPT, StringUtils.fromString(dept));
+        employee.put(AGE, age);
+        return employee;
+    }
+
+    private static void addField(Map<String, Field> fields, Type type, String name, long flags) {
+        fields.put(name, TypeCreator.createField(type, name, flags | SymbolFlags.PUBLIC));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.xml;
+
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.XmlItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Tests writing the children of an element one at a time.
+ *
+ * @since 2201.13.0
+ */
+public class XmlElementChildrenWriterTest {
+
+    private static final String ROOT_START = "<lib:books xmlns:lib=\"http://example.com/lib\" " +
+            "xmlns=\"http://example.com/default\"><intro>Fish &amp; chips</intro>";
+    private static final String ROOT_END = "</lib:books>";
+
+    @Test
+    public void testWriteChildren() {
+        XmlItem document = parseElement(ROOT_START + "<lib:book lib:id=\"1\">Hamlet &lt;1603&gt;" +
+                "</lib:book><!--tragedy--><book>Macbeth</book>" + ROOT_END);
+        List<BXml> children = document.getChildrenSeq().getChildrenList();
+
+        XmlElementChildrenWriter writer = new XmlElementChildrenWriter(parseElement(ROOT_START + ROOT_END));
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        for (BXml child : children.subList(1, children.size())) {
+            writer.write(child);
+            written.writeBytes(writer.takeBytes());
+            Assert.assertEquals(writer.size(), 0);
+        }
+        writer.end();
+        written.writeBytes(writer.takeBytes());
+
+        Assert.assertEquals(written.toString(StandardCharsets.UTF_8), document.toString());
+    }
+
+    @Test
+    public void testWriteWithoutChildren() {
+        BXml root = parseElement(ROOT_START + ROOT_END);
+        XmlElementChildrenWriter writer = new XmlElementChildrenWriter(root);
+        writer.end();
+        writer.end();
+        Assert.assertEquals(new String(writer.takeBytes(), StandardCharsets.UTF_8), root.toString());
+        Assert.assertEquals(writer.size(), 0);
+    }
+
+    private static XmlItem parseElement(String document) {
+        return (XmlItem) XmlFactory.parse(document).getItem(0);
+    }
+}
@@ -447,6 +447,7 @@ public final class JvmCodeGenUtil {
                                                     String funcName, BIRNode.BIRBasicBlock bb,
                                                     Set<BirScope> visitedScopesSet, BirScope lastScope) {
 
+        instGen.startBasicBlock();
         int insCount = bb.instructions.size();
         for (int i = 0; i < insCount; i++) {
             Label insLabel = labelGen.getLabel(funcName + bb.id.value + "ins" + i);
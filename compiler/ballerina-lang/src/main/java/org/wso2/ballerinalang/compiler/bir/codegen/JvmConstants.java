@@ -41,6 +41,7 @@ public final class JvmConstants {
     // jvm runtime values related classes
     public static final String MAP_VALUE = "io/ballerina/runtime/internal/values/MapValue";
     public static final String MAP_VALUE_IMPL = "io/ballerina/runtime/internal/values/MapValueImpl";
+    public static final String COMPACT_ORDERED_MAP = "io/ballerina/runtime/internal/values/CompactOrderedMap";
     public static final String STREAM_VALUE = "io/ballerina/runtime/internal/values/StreamValue";
     public static final String TABLE_VALUE = "io/ballerina/runtime/internal/values/TableValue";
     public static final String ARRAY_VALUE = "io/ballerina/runtime/internal/values/ArrayValue";
@@ -198,6 +199,7 @@ public final class JvmConstants {
     public static final String MAP_UTILS = "io/ballerina/runtime/internal/utils/MapUtils";
     public static final String TABLE_UTILS = "io/ballerina/runtime/internal/utils/TableUtils";
     public static final String STRING_UTILS = "io/ballerina/runtime/api/utils/StringUtils";
+    public static final String STRING_CONSTANT_POOL = "io/ballerina/runtime/internal/values/StringConstantPool";
     public static final String ERROR_UTILS = "io/ballerina/runtime/internal/utils/ErrorUtils";
     public static final String RUNTIME_UTILS = "io/ballerina/runtime/internal/utils/RuntimeUtils";
     public static final String LARGE_STRUCTURE_UTILS = "io/ballerina/runtime/internal/utils/LargeStructureUtils";
@@ -48,6 +48,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -78,6 +79,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -101,6 +103,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -264,6 +267,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -288,6 +292,9 @@ public class JvmInstructionGen {
     private final JvmTypeTestGen typeTestGen;
     private final Map<String, LambdaFunction> functions;
     private final String moduleInitClass;
+    // String constants loaded to variables in the current basic block, which can be used as the field names of
+    // record field loads.
+    private final Map<BIRNode.BIRVariableDcl, String> stringConstants = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1281,9 +1288,14 @@ public class JvmInstructionGen {
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
+        Label endLabel = null;
+        if (varRefType.tag == TypeTags.RECORD && !mapLoadIns.fillingRead) {
+            endLabel = generateRecordFieldLoad(mapLoadIns, (BRecordType) varRefType);
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
-        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
         // visit key_expr
@@ -1311,6 +1323,70 @@ public class JvmInstructionGen {
             jvmCastGen.addUnboxInsn(this.mv, targetType);
         }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+    }
+
+    /**
+     * Loads a required field of a record value from the JVM field of its value class, when the field name is a
+     * constant and the value class is generated in this module. A value of the record type can also be an instance
+     * of another class, such as the class of a type definition referring to the record type, so the load is only
+     * done after checking the class of the value. The values of other classes jump to the code that follows, which
+     * loads the field through the map methods.
+     *
+     * @param mapLoadIns map load instruction
+     * @param recordType type of the record value
+     * @return label after the field load, or null if the field cannot be loaded from its JVM field
+     */
+    private Label generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns, BRecordType recordType) {
+        String fieldName = stringConstants.get(mapLoadIns.keyOp.variableDcl);
+        String className = jvmPackageGen.lookupRecordValueClassName(recordType);
+        if (fieldName == null || className == null) {
+            return null;
+        }
+        BField field = recordType.fields.get(fieldName);
+        if (field == null || isOptionalRecordField(field)) {
+            return null;
+        }
+
+        Label mapLoadLabel = new Label();
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        // The value classes of records are final, so this checks for the exact class.
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapLoadLabel);
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        String fieldDesc = getTypeDesc(field.type);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, fieldDesc);
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        if (!fieldDesc.equals(getTypeDesc(targetType))) {
+            jvmCastGen.addBoxInsn(this.mv, field.type);
+            jvmCastGen.addUnboxInsn(this.mv, targetType);
+        }
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        Label endLabel = new Label();
+        this.mv.visitJumpInsn(GOTO, endLabel);
+        this.mv.visitLabel(mapLoadLabel);
+        return endLabel;
+    }
+
+    private void trackStringConstants(BIRInstruction inst) {
+        if (inst instanceof BIRNonTerminator nonTerminator && nonTerminator.lhsOp != null) {
+            stringConstants.remove(nonTerminator.lhsOp.variableDcl);
+        }
+        if (inst instanceof BIRNonTerminator.ConstantLoad constantLoad &&
+                TypeTags.isStringTypeTag(JvmCodeGenUtil.getImpliedType(constantLoad.type).tag)) {
+            stringConstants.put(constantLoad.lhsOp.variableDcl, String.valueOf(constantLoad.value));
+        }
+    }
+
+    /**
+     * Clears the state kept for the instructions of a basic block, as a basic block can be reached from several
+     * others.
+     */
+    void startBasicBlock() {
+        stringConstants.clear();
     }
 
     boolean generateMapGet(BType mapType, BType expectedType) {
@@ -2142,5 +2218,6 @@ public class JvmInstructionGen {
                 default -> throw new BLangCompilerException("JVM generation is not supported for operation " + inst);
             }
         }
+        trackStringConstants(inst);
     }
 }
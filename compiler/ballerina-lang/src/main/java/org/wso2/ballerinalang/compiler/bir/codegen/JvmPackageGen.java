@@ -62,6 +62,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -126,6 +127,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDef
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.injectDefaultParamInitsToAttachedFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.createExternalFunctionWrapper;
@@ -146,6 +148,7 @@ public class JvmPackageGen {
     private final ConfigMethodGen configMethodGen;
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> globalVarClassMap;
+    private final Map<BRecordType, String> recordValueClassMap;
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
@@ -155,6 +158,7 @@ public class JvmPackageGen {
                   boolean isRemoteMgtEnabled) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
+        recordValueClassMap = new HashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -247,7 +251,7 @@ public class JvmPackageGen {
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         setConstantFields(mv, birPackage, jvmConstantsGen);
-        setLockStoreField(mv, className);
+        setLockStoreField(mv, className, jvmConstantsGen, birPackage.packageID);
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
         setCurrentModuleField(cw, mv, jvmConstantsGen, birPackage.packageID, className);
@@ -265,10 +269,13 @@ public class JvmPackageGen {
                 VOID_METHOD_DESC, false);
     }
 
-    private static void setLockStoreField(MethodVisitor mv, String className) {
+    private static void setLockStoreField(MethodVisitor mv, String className, JvmConstantsGen jvmConstantsGen,
+                                          PackageID packageID) {
         mv.visitTypeInsn(NEW, LOCK_STORE);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        String moduleVarName = jvmConstantsGen.getModuleConstantVar(packageID);
+        mv.visitFieldInsn(GETSTATIC, jvmConstantsGen.getModuleConstantClass(), moduleVarName, GET_MODULE);
+        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, INIT_LOCK_STORE, false);
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
@@ -628,6 +635,7 @@ public class JvmPackageGen {
     private void clearPackageGenInfo() {
         birFunctionMap.clear();
         globalVarClassMap.clear();
+        recordValueClassMap.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -660,6 +668,21 @@ public class JvmPackageGen {
         }
     }
 
+    void addRecordValueClass(BRecordType recordType, String className) {
+        recordValueClassMap.put(recordType, className);
+    }
+
+    /**
+     * Returns the value class generated in the current module for the values of a record type.
+     *
+     * @param recordType record type
+     * @return name of the value class, or null if the values of the record type are not created as instances of a
+     * class generated in the current module
+     */
+    public String lookupRecordValueClassName(BRecordType recordType) {
+        return recordValueClassMap.get(recordType);
+    }
+
     public String lookupGlobalVarClassName(String pkgName, String varName) {
         String key = pkgName + varName;
         if (!globalVarClassMap.containsKey(key)) {
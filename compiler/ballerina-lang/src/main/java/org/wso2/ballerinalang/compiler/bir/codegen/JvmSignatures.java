@@ -228,6 +228,7 @@ public final class JvmSignatures {
     public static final String GET_ATTRAIBUTE_MAP = "()L" + MAP_VALUE + ";";
     public static final String GET_BAL_RUNTIME = "L" + BAL_RUNTIME + ";";
     public static final String GET_BDECIMAL = "L" + DECIMAL_VALUE + ";";
+    public static final String GET_BMP_STRING_CONSTANT = "(L" + STRING_VALUE + ";)L" + B_STRING_VALUE + ";";
     public static final String GET_BOBJECT = "L" + B_OBJECT + ";";
     public static final String GET_BSTRING = "L" + B_STRING_VALUE + ";";
     public static final String GET_BSTRING_FOR_ARRAY_INDEX = "(J)L" + JvmConstants.B_STRING_VALUE + ";";
@@ -248,6 +249,7 @@ public final class JvmSignatures {
     public static final String GET_MAP_ARRAY = "[L" + MAP_VALUE + ";";
     public static final String GET_MAP_VALUE = "L" + MAP_VALUE + ";";
     public static final String GET_MODULE = "L" + MODULE + ";";
+    public static final String GET_NON_BMP_STRING_CONSTANT = "(L" + STRING_VALUE + ";[I)L" + B_STRING_VALUE + ";";
     public static final String GET_OBJECT = "L" + OBJECT + ";";
     public static final String GET_OBJECT_FOR_STRING = "(L" + STRING_VALUE + ";)L" + OBJECT + ";";
     public static final String GET_PATH = "[L" + PATH + ";";
@@ -316,6 +318,7 @@ public final class JvmSignatures {
             ";L" + TYPE + ";IZ)V";
     public static final String INIT_LIST_INITIAL_EXPRESSION_ENTRY = "(L" + OBJECT + ";)V";
     public static final String INIT_LIST_INITIAL_SPREAD_ENTRY = "(L" + B_ARRAY + ";)V";
+    public static final String INIT_LOCK_STORE = "(L" + MODULE + ";)V";
     public static final String INIT_MAPPING_INITIAL_SPREAD_FIELD_ENTRY = "(L" + B_MAP + ";)V";
     public static final String INIT_MODULE = "(L" + STRING_VALUE + ";L" + STRING_VALUE + ";L" + STRING_VALUE + ";Z)V";
     public static final String INIT_NON_BMP_STRING_VALUE = "(L" + STRING_VALUE + ";[I)V";
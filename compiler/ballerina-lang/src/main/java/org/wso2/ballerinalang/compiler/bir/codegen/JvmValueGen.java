@@ -184,6 +184,20 @@ public class JvmValueGen {
     void generateValueClasses(JarEntries jarEntries, JvmConstantsGen jvmConstantsGen, JvmTypeGen jvmTypeGen,
                               AsyncDataCollector asyncDataCollector) {
         String packageName = JvmCodeGenUtil.getPackageName(module.packageID);
+        // The record value classes are registered first, since the methods generated along with the value classes
+        // can load record fields directly from them.
+        for (BIRNode.BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.type.tag != TypeTags.RECORD) {
+                continue;
+            }
+            BRecordType recordType = (BRecordType) typeDef.type;
+            String className = getTypeValueClassName(packageName, typeDef.internalName.value);
+            // Values of a record type are instances of the class of the type definition which defines the record
+            // type, and not of the classes of the type definitions which only refer to it.
+            if (className.equals(getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType)))) {
+                jvmPackageGen.addRecordValueClass(recordType, className);
+            }
+        }
         module.typeDefs.forEach(optionalTypeDef -> {
             if (optionalTypeDef.type.tag == TypeTags.TYPEREFDESC) {
                 return;
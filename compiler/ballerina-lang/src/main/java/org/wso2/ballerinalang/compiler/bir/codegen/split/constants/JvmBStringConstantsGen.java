@@ -50,7 +50,6 @@ import static org.objectweb.asm.Opcodes.NEWARRAY;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.T_INT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_INIT_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VAR_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
@@ -61,12 +60,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LARGE_STR
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_STRINGS_PER_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STRING_CONSTANT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_SURROGATES_CLASS_NAME;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NON_BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_BUILDER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_CONSTANT_POOL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BMP_STRING_CONSTANT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BSTRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_NON_BMP_STRING_CONSTANT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRING;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_NON_BMP_STRING_VALUE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STRING_BUILDER_APPEND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TO_STRING_RETURN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
@@ -295,23 +294,20 @@ public class JvmBStringConstantsGen {
             mv.visitLdcInsn(stringEntry.getValue());
             mv.visitFieldInsn(PUTSTATIC, constantClassName, stringEntry.getKey(), GET_STRING);
         }
+        generateAppendStringConstants(mv, stringChunks, constantClassName);
         if (highSurrogates.length > 0) {
-            mv.visitTypeInsn(NEW, NON_BMP_STRING_VALUE);
-            generateAppendStringConstants(mv, stringChunks, constantClassName);
             mv.visitMethodInsn(INVOKESTATIC, surrogatesMethodsClass, getHighSurrogateMethodName(bStringVarName), "()[I",
                     false);
-            mv.visitMethodInsn(INVOKESPECIAL, NON_BMP_STRING_VALUE, JVM_INIT_METHOD, INIT_NON_BMP_STRING_VALUE, false);
+            mv.visitMethodInsn(INVOKESTATIC, STRING_CONSTANT_POOL, "getNonBmpString", GET_NON_BMP_STRING_CONSTANT,
+                    false);
         } else {
-            mv.visitTypeInsn(NEW, BMP_STRING_VALUE);
-            generateAppendStringConstants(mv, stringChunks, constantClassName);
-            mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD, INIT_WITH_STRING, false);
+            mv.visitMethodInsn(INVOKESTATIC, STRING_CONSTANT_POOL, "getBmpString", GET_BMP_STRING_CONSTANT, false);
         }
         mv.visitFieldInsn(PUTSTATIC, constantClassName, bStringVarName, GET_BSTRING);
     }
 
     private void generateAppendStringConstants(MethodVisitor mv, Map<String, String> stringChunks,
                                                String constantClassName) {
-        mv.visitInsn(DUP);
         mv.visitTypeInsn(NEW, STRING_BUILDER);
         mv.visitInsn(DUP);
         mv.visitMethodInsn(INVOKESPECIAL, STRING_BUILDER, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
@@ -338,21 +334,17 @@ public class JvmBStringConstantsGen {
         genMethodReturn(mv);
     }
 
+    // String constants are shared with the other modules through the runtime's pool of string constants.
     private void createBmpString(MethodVisitor mv, String val, String varName, String constantClassName) {
-        mv.visitTypeInsn(NEW, BMP_STRING_VALUE);
-        mv.visitInsn(DUP);
         mv.visitLdcInsn(val);
-        mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD,
-                INIT_WITH_STRING, false);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_CONSTANT_POOL, "getBmpString", GET_BMP_STRING_CONSTANT, false);
         mv.visitFieldInsn(PUTSTATIC, constantClassName, varName, GET_BSTRING);
     }
 
     private void createNonBmpString(MethodVisitor mv, String val, String varName, String constantClassName) {
-        mv.visitTypeInsn(NEW, NON_BMP_STRING_VALUE);
-        mv.visitInsn(DUP);
         mv.visitLdcInsn(val);
         mv.visitMethodInsn(INVOKESTATIC, surrogatesMethodsClass, getHighSurrogateMethodName(varName), "()[I", false);
-        mv.visitMethodInsn(INVOKESPECIAL, NON_BMP_STRING_VALUE, JVM_INIT_METHOD, INIT_NON_BMP_STRING_VALUE, false);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_CONSTANT_POOL, "getNonBmpString", GET_NON_BMP_STRING_CONSTANT, false);
         mv.visitFieldInsn(PUTSTATIC, constantClassName, varName, GET_BSTRING);
     }
 
@@ -361,17 +353,19 @@ public class JvmBStringConstantsGen {
     }
 
     private int[] listHighSurrogates(String str) {
-        List<Integer> highSurrogates = new ArrayList<>();
+        int count = 0;
         for (int i = 0; i < str.length(); i++) {
-            char c = str.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(str.charAt(i))) {
+                count++;
             }
         }
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        int[] highSurrogatesArr = new int[count];
+        int k = 0;
+        for (int i = 0; k < count; i++) {
+            if (Character.isHighSurrogate(str.charAt(i))) {
+                highSurrogatesArr[k] = i - k;
+                k++;
+            }
         }
         return highSurrogatesArr;
     }
@@ -23,6 +23,7 @@ import io.ballerina.types.SemTypes;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -62,12 +63,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangRecordVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -116,6 +119,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangMultipleWorkerRecei
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangNamedArgsExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangNaturalExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangNumericLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangObjectConstructorExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryAction;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRawTemplateLiteral;
@@ -192,6 +196,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.FieldKind;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -202,8 +207,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -219,8 +226,10 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION = new Name("createIndexedInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
+    private static final Name QUERY_CREATE_INDEXED_FILTER_FUNCTION = new Name("createIndexedFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
@@ -248,6 +257,9 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_PIPELINE_DISTINCT_ERROR_NAME = new Name("CompleteEarlyError");
     private static final Name QUERY_DISTINCT_UNION_ERROR_NAME = new Name("QueryErrorTypes");
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
+    private static final Set<String> GROUP_BY_AGGREGATE_FUNCTIONS = Set.of("int:sum", "int:max", "int:min",
+            "int:avg", "float:sum", "float:max", "float:min", "float:avg", "decimal:sum", "decimal:max",
+            "decimal:min", "decimal:avg", "value:count");
     private BLangExpression onConflictExpr;
     private BVarSymbol currentFrameSymbol;
     private BLangBlockFunctionBody currentQueryLambdaBody;
@@ -264,6 +276,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private boolean withinQuery = false;
     private boolean withinLambdaOrArrowFunc = false;
     private HashSet<BType> checkedErrorList;
+    private final Map<BLangInvocation, String> groupByAggregateFields = new HashMap<>();
     private BLangNode result;
 
     private QueryDesugar(CompilerContext context) {
@@ -510,7 +523,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initFromClause.collection, resultType, canReuseFrames(clauses));
+        IndexedComparison indexedComparison = getIndexedComparison(clauses, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -526,7 +540,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                            joinClause.collection, resultType, false);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause, stmtsToBePropagated);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
                     BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
@@ -540,7 +554,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case WHERE:
                     BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause,
-                            stmtsToBePropagated);
+                            clause == clauses.get(1) ? indexedComparison : null, stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
@@ -550,7 +564,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case GROUP_BY:
                     BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                            clauses.subList(clauses.indexOf(clause) + 1, clauses.size()), stmtsToBePropagated,
+                            initPipeline);
                     addStreamFunction(block, initPipeline, groupByFunc);
                     break;
                 case SELECT:
@@ -583,6 +598,165 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    /**
+     * Checks whether a single frame can be reused for all the members of the source of a query. This holds when the
+     * query has a single input clause followed only by let, where and select clauses, since each of these clauses
+     * reads the variables it uses from the frame before it returns. Functions and nested queries in the clauses can
+     * be evaluated later, so queries containing them create a frame per member.
+     *
+     * @param clauses list of query clauses.
+     * @return true if the frame of the query can be reused.
+     */
+    private boolean canReuseFrames(List<BLangNode> clauses) {
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            NodeKind kind = clause.getKind();
+            if (kind != NodeKind.LET_CLAUSE && kind != NodeKind.WHERE && kind != NodeKind.SELECT) {
+                return false;
+            }
+        }
+        DeferredEvaluationFinder finder = new DeferredEvaluationFinder();
+        finder.visitNode(clauses, null);
+        return !finder.found;
+    }
+
+    /**
+     * Finds the comparison in a `where` clause right after the `from` clause of a query over a table, which the
+     * runtime can look up in an index of the table, such as `x.id == id` or `x.age >= 18`. The field has to be
+     * compared with a literal or with a variable that cannot be assigned to, and the query should not call functions,
+     * so that neither the value compared with nor the table can change while the query runs.
+     *
+     * @param clauses    list of query clauses.
+     * @param resultType result type of the query output.
+     * @return the comparison, or null if the `where` clause cannot use an index.
+     */
+    private IndexedComparison getIndexedComparison(List<BLangNode> clauses, BType resultType) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE ||
+                Types.getImpliedType(resultType).tag == TypeTags.STREAM ||
+                Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.TABLE ||
+                fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE, WHERE, ORDER_BY, LIMIT, SELECT -> {
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        // The collection is evaluated before the table is iterated over, so it can call functions.
+        InvocationFinder invocationFinder = new InvocationFinder();
+        invocationFinder.visitNode(clauses.subList(1, clauses.size()), null);
+        if (invocationFinder.found ||
+                !(((BLangWhereClause) clauses.get(1)).expression instanceof BLangBinaryExpr binaryExpr)) {
+            return null;
+        }
+
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+        OperatorKind operator = binaryExpr.opKind;
+        BLangExpression fieldExpr = binaryExpr.lhsExpr;
+        BLangExpression operandExpr = binaryExpr.rhsExpr;
+        if (getRowKeyField(operandExpr, rowSymbol) != null) {
+            fieldExpr = binaryExpr.rhsExpr;
+            operandExpr = binaryExpr.lhsExpr;
+            operator = switch (operator) {
+                case LESS_THAN -> OperatorKind.GREATER_THAN;
+                case LESS_EQUAL -> OperatorKind.GREATER_EQUAL;
+                case GREATER_THAN -> OperatorKind.LESS_THAN;
+                case GREATER_EQUAL -> OperatorKind.LESS_EQUAL;
+                default -> operator;
+            };
+        }
+        String fieldName = getRowKeyField(fieldExpr, rowSymbol);
+        if (fieldName == null) {
+            return null;
+        }
+        switch (operator) {
+            case EQUAL, LESS_THAN, LESS_EQUAL, GREATER_THAN, GREATER_EQUAL -> {
+            }
+            default -> {
+                return null;
+            }
+        }
+        BLangExpression operand = copyInvariantOperand(operandExpr, rowSymbol);
+        return operand == null ? null : new IndexedComparison(fieldName, operator, operand);
+    }
+
+    /**
+     * Returns the name of the field accessed by an expression such as `x.id`, where `x` is a query variable bound to
+     * the rows of a table, and `id` is a required field of the rows.
+     *
+     * @param expr      expression to check.
+     * @param rowSymbol symbol of the query variable bound to the rows.
+     * @return name of the field, or null if the expression does not access a field of the rows.
+     */
+    private String getRowKeyField(BLangExpression expr, BVarSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.fieldKind != FieldKind.SINGLE ||
+                fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol) {
+            return null;
+        }
+        BType rowType = Types.getImpliedType(rowSymbol.type);
+        if (rowType.tag != TypeTags.RECORD) {
+            return null;
+        }
+        String fieldName = fieldAccess.field.value;
+        BField field = ((BRecordType) rowType).fields.get(fieldName);
+        return field == null || Symbols.isOptional(field.symbol) ? null : fieldName;
+    }
+
+    /**
+     * Returns a copy of a literal, or of a reference to a variable that cannot be assigned to, so that it can be
+     * evaluated once before the query iterates over its source.
+     *
+     * @param expr      expression to copy.
+     * @param rowSymbol symbol of the query variable bound to the rows.
+     * @return the copy, or null if the value of the expression can change while the query runs.
+     */
+    private BLangExpression copyInvariantOperand(BLangExpression expr, BVarSymbol rowSymbol) {
+        if (expr instanceof BLangLiteral literal) {
+            if (literal.value == null || literal.value instanceof Long || literal.value instanceof String ||
+                    literal.value instanceof Boolean) {
+                return ASTBuilderUtil.createLiteral(literal.pos, literal.getBType(), literal.value);
+            }
+            return null;
+        }
+        if (expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+            return null;
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+        if (symbol == rowSymbol || !(symbol instanceof BVarSymbol varSymbol) ||
+                (symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE ||
+                !(Symbols.isFlagOn(symbol.flags, Flags.FINAL) || Symbols.isFlagOn(symbol.flags, Flags.CONSTANT) ||
+                        Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL))) {
+            return null;
+        }
+        return ASTBuilderUtil.createVariableRef(expr.pos, varSymbol);
+    }
+
+    /**
+     * Returns the name of the field used as the key of the right-hand side of an inner join, when the key is a field
+     * of the rows of a table being joined, as in `join var y in t on x.id equals y.id`.
+     *
+     * @param joinClause join clause to check.
+     * @return name of the field, or null if the key is not a field of the rows of a table.
+     */
+    private String getIndexedJoinField(BLangJoinClause joinClause) {
+        if (joinClause.isOuterJoin ||
+                Types.getImpliedType(joinClause.collection.getBType()).tag != TypeTags.TABLE ||
+                joinClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) joinClause.variableDefinitionNode.getVariable()).symbol;
+        return getRowKeyField((BLangExpression) joinClause.onClause.getRightExpression(), rowSymbol);
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -592,10 +766,11 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param pos diagnostic pos of the collection.
      * @param collection reference to the collection.
      * @param resultType constraint type of the collection.
+     * @param reusesFrames whether a single frame can be reused for all the members of the collection.
      * @return variableReference to created _StreamPipeline.
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
-                                       BLangExpression collection, BType resultType) {
+                                       BLangExpression collection, BType resultType, boolean reusesFrames) {
         String name = getNewVarName();
         BVarSymbol dataSymbol = new BVarSymbol(0, Names.fromString(name), env.scope.owner.pkgID,
                 collection.getBType(), this.env.scope.owner, pos, VIRTUAL);
@@ -625,7 +800,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         completionTdExpr.resolvedType = completionType;
         completionTdExpr.setBType(completionTdType);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream)), pos);
+                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream),
+                        desugar.getBooleanLiteral(reusesFrames)), pos);
     }
 
     /**
@@ -723,6 +899,13 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
         BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr, stmtsToBePropagated);
         BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr, stmtsToBePropagated);
+        String rhsKeyField = getIndexedJoinField(joinClause);
+        if (rhsKeyField != null) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                    Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction,
+                            ASTBuilderUtil.createLiteral(joinClause.pos, symTable.stringType, rhsKeyField)),
+                    joinClause.pos);
+        }
         if (joinClause.isOuterJoin) {
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_OUTER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction), joinClause.pos);
@@ -775,10 +958,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      *
      * @param blockStmt           parent block to write to.
      * @param whereClause         to be desugared.
+     * @param indexedComparison   comparison of the where clause that can be looked up in an index, or null.
      * @param stmtsToBePropagated list of statements to be propagated.
      * @return variableReference to created filter _StreamFunction.
      */
     BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause,
+                                            IndexedComparison indexedComparison,
                                             List<BLangStatement> stmtsToBePropagated) {
         Location pos = whereClause.pos;
         BLangLambdaFunction lambda = createFilterLambda(pos);
@@ -790,6 +975,14 @@ public class QueryDesugar extends BLangNodeVisitor {
                 lambda.function.returnTypeNode.getBType());
         body.addStatement(returnNode);
         lambda.accept(this);
+        if (indexedComparison != null) {
+            BLangLambdaFunction operandFunction = createKeyFunction(indexedComparison.operand(), stmtsToBePropagated);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_FILTER_FUNCTION,
+                    Lists.of(lambda, ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                                    indexedComparison.fieldName()),
+                            ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                                    indexedComparison.operator().value()), operandFunction), pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
     }
 
@@ -841,7 +1034,24 @@ public class QueryDesugar extends BLangNodeVisitor {
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
     }
 
+    /**
+     * Desugar groupByClause to below and return a reference to created group by _StreamFunction.
+     * _StreamFunction groupByFunc = createGroupByFunction(["name"], ["price"], ["qty"], ["int:sum"]);
+     * <p>
+     * A non-grouping variable that the following clauses only pass to lang library aggregate functions, such as
+     * `int:sum(qty)`, is aggregated as the frames of a group arrive, and each of these calls is replaced with an
+     * access of the frame field that holds its result. The values of the other non-grouping variables are collected
+     * into arrays.
+     *
+     * @param blockStmt           parent block to write to.
+     * @param groupByClause       to be desugared.
+     * @param followingClauses    clauses that follow the group by clause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @param initPipeline        pipeline to add the let functions of the grouping keys to.
+     * @return variableReference to created group by _StreamFunction.
+     */
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
+                                              List<BLangNode> followingClauses,
                                               List<BLangStatement> stmtsToBePropagated,
                                               BLangVariableReference initPipeline) {
         Location pos = groupByClause.pos;
@@ -860,14 +1070,39 @@ public class QueryDesugar extends BLangNodeVisitor {
             }
         }
 
+        GroupByAggregateFinder aggregateFinder = new GroupByAggregateFinder(groupByClause.nonGroupingKeys);
+        aggregateFinder.analyze(followingClauses);
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.typeEnv(), symTable.stringType));
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            if (!aggregateFinder.isOnlyAggregated(nonGroupingKey)) {
+                nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            }
+        }
+
+        BLangArrayLiteral aggregateKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregateKeys.exprs = new ArrayList<>();
+        aggregateKeys.setBType(new BArrayType(symTable.typeEnv(), symTable.stringType));
+        BLangArrayLiteral aggregateFunctions = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregateFunctions.exprs = new ArrayList<>();
+        aggregateFunctions.setBType(new BArrayType(symTable.typeEnv(), symTable.stringType));
+        Set<String> aggregateFields = new HashSet<>();
+        for (Map.Entry<BLangInvocation, GroupByAggregate> entry : aggregateFinder.aggregates.entrySet()) {
+            GroupByAggregate aggregate = entry.getValue();
+            if (!aggregateFinder.isOnlyAggregated(aggregate.key())) {
+                continue;
+            }
+            // $frame$["$int:sum$qty"] holds the result of int:sum(qty) for the group.
+            String aggregateField = "$" + aggregate.function() + "$" + aggregate.key();
+            if (aggregateFields.add(aggregateField)) {
+                aggregateKeys.exprs.add(createStringLiteral(pos, aggregate.key()));
+                aggregateFunctions.exprs.add(createStringLiteral(pos, aggregate.function()));
+            }
+            groupByAggregateFields.put(entry.getKey(), aggregateField);
         }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
-                Lists.of(keys, nonGroupingKeys), pos);
+                Lists.of(keys, nonGroupingKeys, aggregateKeys, aggregateFunctions), pos);
     }
 
     BLangVariableReference addCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
@@ -1772,21 +2007,65 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        String aggregateField = groupByAggregateFields.remove(invocationExpr);
+        if (aggregateField != null) {
+            result = createGroupByAggregateAccess(invocationExpr, aggregateField);
+            return;
+        }
         List<BLangExpression> requiredArgs = invocationExpr.requiredArgs;
         if (invocationExpr.langLibInvocation && !requiredArgs.isEmpty()) {
             requiredArgs = requiredArgs.subList(1, requiredArgs.size());
         }
-        requiredArgs.forEach(this::acceptNode);
+        acceptArgs(requiredArgs);
         visitRestArgs(invocationExpr);
         if (invocationExpr.functionPointerInvocation) {
             BLangExpression expr = rewrite(desugar.getFunctionPointerExpr(invocationExpr));
             result = new BLangInvocation.BFunctionPointerInvocation(invocationExpr, expr);
         } else {
-            invocationExpr.expr = rewrite(invocationExpr.expr);
+            BLangExpression receiver = invocationExpr.expr;
+            boolean isAggregateReceiver = groupByAggregateFields.containsKey(receiver);
+            invocationExpr.expr = rewrite(receiver);
+            if (isAggregateReceiver && invocationExpr.langLibInvocation) {
+                // The receiver of a lang library method call is also its first argument.
+                invocationExpr.requiredArgs.set(0, invocationExpr.expr);
+            }
             result = invocationExpr;
         }
     }
 
+    private void acceptArgs(List<BLangExpression> args) {
+        for (int i = 0; i < args.size(); i++) {
+            BLangExpression arg = args.get(i);
+            // Arguments are only replaced if they are aggregates already applied by a group by clause.
+            if (groupByAggregateFields.containsKey(arg)) {
+                args.set(i, rewrite(arg));
+            } else {
+                acceptNode(arg);
+            }
+        }
+    }
+
+    /**
+     * Creates the access of the frame field that holds the result of an aggregate function applied by a group by
+     * clause, in place of the call of the aggregate function.
+     * checkpanic $frame$["$int:sum$qty"]
+     *
+     * @param invocation     call of the aggregate function.
+     * @param aggregateField frame field that holds the result of the aggregate function, or the error it failed with.
+     * @return the expression that accesses the result.
+     */
+    private BLangExpression createGroupByAggregateAccess(BLangInvocation invocation, String aggregateField) {
+        Location pos = invocation.pos;
+        BLangFieldBasedAccess frameAccessExpr = desugar.getFieldAccessExpression(pos, aggregateField,
+                symTable.anyOrErrorType, currentFrameSymbol);
+        frameAccessExpr.expr = types.addConversionExprIfRequired(frameAccessExpr.expr,
+                types.getSafeType(frameAccessExpr.expr.getBType(), true, false));
+        BLangCheckPanickedExpr checkPanickedExpr = ASTBuilderUtil.createCheckPanickedExpr(pos, frameAccessExpr,
+                invocation.getBType());
+        checkPanickedExpr.equivalentErrorTypeList.add(symTable.errorType);
+        return checkPanickedExpr;
+    }
+
     private boolean isNilReturnInvocationInCollectClause(BLangInvocation invocation) {
         BInvokableSymbol symbol = (BInvokableSymbol) invocation.symbol;
         return symbol.restParam != null &&
@@ -1809,7 +2088,7 @@ public class QueryDesugar extends BLangNodeVisitor {
             varRef.setBType(type);
             restArgs.set(i, createRestArgsExpression(varRef, type));
         }
-        restArgs.forEach(this::acceptNode);
+        acceptArgs(restArgs);
     }
 
     private BType changeSeqSymbolType(BSymbol symbol) {
@@ -1894,7 +2173,11 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangRecordKeyValueField recordKeyValue) {
-        this.acceptNode(recordKeyValue.key.expr);
+        if (groupByAggregateFields.containsKey(recordKeyValue.key.expr)) {
+            recordKeyValue.key.expr = rewrite(recordKeyValue.key.expr);
+        } else {
+            this.acceptNode(recordKeyValue.key.expr);
+        }
         recordKeyValue.valueExpr = rewrite(recordKeyValue.valueExpr);
         result = recordKeyValue;
     }
@@ -2833,4 +3116,230 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Name of a non-grouping variable and the lang library aggregate function it is passed to.
+     *
+     * @param key      name of the non-grouping variable.
+     * @param function name of the aggregate function, such as `int:sum`.
+     */
+    private record GroupByAggregate(String key, String function) {
+    }
+
+    /**
+     * Finds the calls of lang library aggregate functions, such as `int:sum(qty)`, that a non-grouping variable is
+     * passed to in the clauses that follow a group by clause. A call within a function, an object or a nested query,
+     * or within an expression whose arguments are not rewritten in place, is treated as another use of the variable.
+     */
+    /**
+     * Finds functions, nested queries and other expressions in query clauses whose evaluation can be deferred
+     * beyond the clause.
+     */
+    /**
+     * Comparison of a field of the rows of a table with a value, which can be looked up in an index of the table.
+     *
+     * @param fieldName name of the compared field.
+     * @param operator  comparison operator, with the field on its left.
+     * @param operand   expression of the value the field is compared with.
+     */
+    private record IndexedComparison(String fieldName, OperatorKind operator, BLangExpression operand) {
+    }
+
+    private static class DeferredEvaluationFinder extends SimpleBLangNodeAnalyzer<Object> {
+
+        protected boolean found = false;
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        @Override
+        public void visit(BLangInvocation.BLangActionInvocation node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangLambdaFunction node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangArrowFunction node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangObjectConstructorExpression node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangServiceConstructorExpr node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangQueryExpr node, Object data) {
+            found = true;
+        }
+
+        @Override
+        public void visit(BLangQueryAction node, Object data) {
+            found = true;
+        }
+    }
+
+    private static class InvocationFinder extends DeferredEvaluationFinder {
+
+        @Override
+        public void visit(BLangInvocation node, Object data) {
+            found = true;
+        }
+    }
+
+    private static class GroupByAggregateFinder extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Set<String> nonGroupingKeys;
+        private final Map<BLangInvocation, GroupByAggregate> aggregates = new LinkedHashMap<>();
+        private final Set<String> otherUses = new HashSet<>();
+        private int nestingDepth = 0;
+
+        private GroupByAggregateFinder(Set<String> nonGroupingKeys) {
+            this.nonGroupingKeys = nonGroupingKeys;
+        }
+
+        private void analyze(List<BLangNode> clauses) {
+            for (BLangNode clause : clauses) {
+                switch (clause.getKind()) {
+                    case LET_CLAUSE, WHERE, ORDER_BY, SELECT -> visitNode(clause, null);
+                    case DO, LIMIT, ON_CONFLICT -> visitNested(() -> visitNode(clause, null));
+                    default -> {
+                        // The values of a group can be processed per frame of a following clause, such as a
+                        // nested from clause, so they are collected into arrays.
+                        otherUses.addAll(nonGroupingKeys);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean isOnlyAggregated(String key) {
+            return !otherUses.contains(key);
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        @Override
+        public void visit(BLangInvocation node, Object data) {
+            GroupByAggregate aggregate = nestingDepth == 0 ? getAggregate(node) : null;
+            if (aggregate == null) {
+                super.visit(node, data);
+                return;
+            }
+            aggregates.put(node, aggregate);
+        }
+
+        @Override
+        public void visit(BLangSimpleVarRef node, Object data) {
+            if (isNonGroupingVarRef(node)) {
+                otherUses.add(node.variableName.value);
+            }
+            super.visit(node, data);
+        }
+
+        @Override
+        public void visit(BLangInvocation.BLangActionInvocation node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangInvocation.BLangResourceAccessInvocation node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangLambdaFunction node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangArrowFunction node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangObjectConstructorExpression node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangServiceConstructorExpr node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangQueryExpr node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangQueryAction node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangTableConstructorExpr node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangTypeInit node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        @Override
+        public void visit(BLangRegExpTemplateLiteral node, Object data) {
+            visitNested(() -> super.visit(node, data));
+        }
+
+        private void visitNested(Runnable visit) {
+            nestingDepth++;
+            visit.run();
+            nestingDepth--;
+        }
+
+        private GroupByAggregate getAggregate(BLangInvocation invocation) {
+            BSymbol symbol = invocation.symbol;
+            if (symbol == null || invocation.expr != null || !invocation.requiredArgs.isEmpty() ||
+                    invocation.restArgs.size() != 1 || !PackageID.isLangLibPackageID(symbol.pkgID) ||
+                    symbol.pkgID.nameComps.size() != 2) {
+                return null;
+            }
+            BLangExpression arg = invocation.restArgs.get(0);
+            if (arg.getKind() != NodeKind.SIMPLE_VARIABLE_REF || !isNonGroupingVarRef((BLangSimpleVarRef) arg)) {
+                return null;
+            }
+            String function = symbol.pkgID.nameComps.get(1).value + ":" + symbol.name.value;
+            if (!GROUP_BY_AGGREGATE_FUNCTIONS.contains(function)) {
+                return null;
+            }
+            return new GroupByAggregate(((BLangSimpleVarRef) arg).variableName.value, function);
+        }
+
+        private boolean isNonGroupingVarRef(BLangSimpleVarRef varRef) {
+            BSymbol symbol = varRef.symbol;
+            return symbol != null && (symbol.tag & SymTag.SEQUENCE) == SymTag.SEQUENCE &&
+                    nonGroupingKeys.contains(varRef.variableName.value);
+        }
+    }
 }
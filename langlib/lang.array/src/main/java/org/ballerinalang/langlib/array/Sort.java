@@ -22,6 +22,9 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -30,6 +33,11 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
@@ -37,84 +45,454 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * Arrays of ints, floats, strings, booleans and bytes without a key function are sorted in their own storage. Other
+ * arrays are sorted through a stable merge sort of the element indices, after evaluating the key function once per
+ * element. Int, float and string keys are compared directly, and large arrays of such keys are sorted in parallel.
  *
  * @since 1.0
  */
 public final class Sort {
 
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+    // Arrays of at least this size are sorted in parallel, when their keys can be compared without calling back into
+    // the runtime.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     private Sort() {
     }
 
     public static BArray sort(Environment env, BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer function = (BFunctionPointer) func;
+        boolean ascending = ASCENDING.equals(direction.toString());
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            BArray sortedArray = sortStoredValues(arr, ascending);
+            if (sortedArray != null) {
+                return sortedArray;
+            }
+        }
 
+        int size = arr.size();
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        Object[] keys = values;
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(env.getRuntime(), arr.get(i));
-                sortArr[i][1] = arr.get(i);
+            keys = new Object[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = function.call(env.getRuntime(), values[i]);
             }
-        } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+        }
+
+        int[] order = sortIndices(keys, ascending);
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[order[k]]);
+        }
+        return sortedArray;
+    }
+
+    /**
+     * Sorts the values of an array of a basic simple type or string without boxing them. Equal values of these
+     * types cannot be told apart, except for the signed zeros and NaNs of floats, so any sorting algorithm can be
+     * used as long as those are kept in their original order.
+     *
+     * @return the sorted array, or null if the values are not stored in a primitive array
+     */
+    private static BArray sortStoredValues(BArray arr, boolean ascending) {
+        Type elementType = arr.getElementType();
+        int size = arr.size();
+        switch (TypeUtils.getImpliedType(elementType).getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED8_INT_TAG,
+                 TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED8_INT_TAG -> {
+                long[] values = arr.getIntArray();
+                sortInts(values, ascending);
+                if (elementType == PredefinedTypes.TYPE_INT) {
+                    return ValueCreator.createArrayValue(values);
+                }
+                BArray sortedArray = createArray(elementType);
+                for (int k = 0; k < size; k++) {
+                    sortedArray.add(k, values[k]);
+                }
+                return sortedArray;
+            }
+            case TypeTags.FLOAT_TAG -> {
+                double[] values = arr.getFloatArray();
+                sortFloats(values, ascending);
+                if (elementType == PredefinedTypes.TYPE_FLOAT) {
+                    return ValueCreator.createArrayValue(values);
+                }
+                BArray sortedArray = createArray(elementType);
+                for (int k = 0; k < size; k++) {
+                    sortedArray.add(k, values[k]);
+                }
+                return sortedArray;
+            }
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG -> {
+                BString[] values = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = arr.getBString(i);
+                }
+                Comparator<BString> comparator = ascending ? Sort::compareCodePoints :
+                        (lhs, rhs) -> compareCodePoints(rhs, lhs);
+                if (size >= PARALLEL_SORT_THRESHOLD) {
+                    Arrays.parallelSort(values, comparator);
+                } else {
+                    Arrays.sort(values, comparator);
+                }
+                if (elementType == PredefinedTypes.TYPE_STRING) {
+                    return ValueCreator.createArrayValue(values);
+                }
+                BArray sortedArray = createArray(elementType);
+                for (int k = 0; k < size; k++) {
+                    sortedArray.add(k, values[k]);
+                }
+                return sortedArray;
+            }
+            case TypeTags.BOOLEAN_TAG -> {
+                boolean[] values = arr.getBooleanArray();
+                int trueCount = 0;
+                for (boolean value : values) {
+                    if (value) {
+                        trueCount++;
+                    }
+                }
+                int falseCount = size - trueCount;
+                Arrays.fill(values, 0, ascending ? falseCount : trueCount, !ascending);
+                Arrays.fill(values, ascending ? falseCount : trueCount, size, ascending);
+                if (elementType == PredefinedTypes.TYPE_BOOLEAN) {
+                    return ValueCreator.createArrayValue(values);
+                }
+                BArray sortedArray = createArray(elementType);
+                for (int k = 0; k < size; k++) {
+                    sortedArray.add(k, values[k]);
+                }
+                return sortedArray;
+            }
+            case TypeTags.BYTE_TAG -> {
+                byte[] values = arr.getByteArray();
+                sortBytes(values, ascending);
+                if (elementType == PredefinedTypes.TYPE_BYTE) {
+                    return ValueCreator.createArrayValue(values);
+                }
+                BArray sortedArray = createArray(elementType);
+                for (int k = 0; k < size; k++) {
+                    sortedArray.add(k, values[k]);
+                }
+                return sortedArray;
+            }
+            default -> {
+                return null;
             }
         }
+    }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+    private static BArray createArray(Type elementType) {
+        return ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+    }
 
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+    private static void sortInts(long[] values, boolean ascending) {
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        if (!ascending) {
+            reverse(values);
+        }
+    }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
         }
+    }
 
-        return sortedArray;
+    /**
+     * Sorts floats with NaN last in both directions. {@link Arrays#sort(double[])} orders -0.0 before 0.0 and does
+     * not keep NaNs in order, so the signed zeros and the NaNs are put back in their original order afterwards.
+     */
+    private static void sortFloats(double[] values, boolean ascending) {
+        int zeroCount = 0;
+        int positiveCount = 0;
+        int nanCount = 0;
+        for (double value : values) {
+            if (value > 0) {
+                positiveCount++;
+            } else if (value == 0) {
+                zeroCount++;
+            } else if (Double.isNaN(value)) {
+                nanCount++;
+            }
+        }
+        double[] zeros = zeroCount > 1 ? new double[zeroCount] : null;
+        double[] nans = nanCount > 1 ? new double[nanCount] : null;
+        if (zeros != null || nans != null) {
+            int zeroIndex = 0;
+            int nanIndex = 0;
+            for (double value : values) {
+                if (value == 0 && zeros != null) {
+                    zeros[zeroIndex++] = value;
+                } else if (Double.isNaN(value) && nans != null) {
+                    nans[nanIndex++] = value;
+                }
+            }
+        }
+
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+
+        int numberCount = values.length - nanCount;
+        if (!ascending) {
+            for (int i = 0, j = numberCount - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        if (zeros != null) {
+            int zeroStart = ascending ? numberCount - positiveCount - zeroCount : positiveCount;
+            System.arraycopy(zeros, 0, values, zeroStart, zeroCount);
+        }
+        if (nans != null) {
+            System.arraycopy(nans, 0, values, numberCount, nanCount);
+        }
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
-        if (hi <= lo) {
-            return;
+    private static void sortBytes(byte[] values, boolean ascending) {
+        int[] counts = new int[256];
+        for (byte value : values) {
+            counts[value & 0xFF]++;
+        }
+        int k = 0;
+        for (int i = 0; i < 256; i++) {
+            int value = ascending ? i : 255 - i;
+            Arrays.fill(values, k, k + counts[value], (byte) value);
+            k += counts[value];
         }
+    }
 
-        int mid = lo + (hi - lo) / 2;
+    /**
+     * Returns the indices of the given keys in sorted order. Nil keys are ordered last in both directions, so they
+     * are left out of the sorting and appended in their original order.
+     */
+    private static int[] sortIndices(Object[] keys, boolean ascending) {
+        int size = keys.length;
+        int[] order = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != null) {
+                order[count++] = i;
+            }
+        }
+        int nonNilCount = count;
+        for (int i = 0; i < size && count < size; i++) {
+            if (keys[i] == null) {
+                order[count++] = i;
+            }
+        }
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        IndexComparator comparator = createIsolatedComparator(keys, order, nonNilCount, ascending);
+        int[] aux = new int[nonNilCount];
+        if (comparator == null) {
+            mergeSort(order, aux, 0, nonNilCount, createComparator(keys, ascending));
+        } else if (nonNilCount >= PARALLEL_SORT_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSort(order, aux, 0, nonNilCount, comparator));
+        } else {
+            mergeSort(order, aux, 0, nonNilCount, comparator);
+        }
+        return order;
+    }
 
-        merge(input, aux, lo, mid, hi, direction);
+    /**
+     * Creates a comparator of the keys at the given indices which does not depend on any state other than the keys,
+     * if all of them are ints, all of them are floats or all of them are strings.
+     */
+    private static IndexComparator createIsolatedComparator(Object[] keys, int[] indices, int count,
+                                                            boolean ascending) {
+        if (count == 0) {
+            return null;
+        }
+        Object first = keys[indices[0]];
+        Class<?> keyClass;
+        if (first instanceof Long) {
+            keyClass = Long.class;
+        } else if (first instanceof Double) {
+            keyClass = Double.class;
+        } else if (first instanceof BString) {
+            keyClass = BString.class;
+        } else {
+            return null;
+        }
+        for (int i = 1; i < count; i++) {
+            if (!keyClass.isInstance(keys[indices[i]])) {
+                return null;
+            }
+        }
+        if (keyClass == Long.class) {
+            long[] intKeys = new long[keys.length];
+            for (int i = 0; i < count; i++) {
+                intKeys[indices[i]] = (Long) keys[indices[i]];
+            }
+            return ascending ? (lhs, rhs) -> Long.compare(intKeys[lhs], intKeys[rhs]) :
+                    (lhs, rhs) -> Long.compare(intKeys[rhs], intKeys[lhs]);
+        } else if (keyClass == Double.class) {
+            double[] floatKeys = new double[keys.length];
+            for (int i = 0; i < count; i++) {
+                floatKeys[indices[i]] = (Double) keys[indices[i]];
+            }
+            return ascending ? (lhs, rhs) -> compareFloats(floatKeys[lhs], floatKeys[rhs], true) :
+                    (lhs, rhs) -> compareFloats(floatKeys[lhs], floatKeys[rhs], false);
+        }
+        BString[] stringKeys = new BString[keys.length];
+        for (int i = 0; i < count; i++) {
+            stringKeys[indices[i]] = (BString) keys[indices[i]];
+        }
+        return ascending ? (lhs, rhs) -> compareCodePoints(stringKeys[lhs], stringKeys[rhs]) :
+                (lhs, rhs) -> compareCodePoints(stringKeys[rhs], stringKeys[lhs]);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    private static IndexComparator createComparator(Object[] keys, boolean ascending) {
+        if (ascending) {
+            return (lhs, rhs) -> compareValues(keys[lhs], keys[rhs], ASCENDING);
         }
+        return (lhs, rhs) -> compareValues(keys[rhs], keys[lhs], DESCENDING);
+    }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
+    private static int compareValues(Object lhs, Object rhs, String direction) {
+        try {
+            return ValueComparisonUtils.compareValues(lhs, rhs, direction);
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap<BString, Object>) error.getDetails());
+        }
+    }
+
+    // NaN is placed last in both directions, and -0.0 is equal to 0.0.
+    private static int compareFloats(double lhs, double rhs, boolean ascending) {
+        if (Double.isNaN(lhs)) {
+            return Double.isNaN(rhs) ? 0 : 1;
+        } else if (Double.isNaN(rhs)) {
+            return -1;
+        } else if (lhs == rhs) {
+            return 0;
+        }
+        return (lhs < rhs) == ascending ? -1 : 1;
+    }
+
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar != rhsChar) {
+                if (lhsChar >= Character.MIN_SURROGATE && rhsChar >= Character.MIN_SURROGATE) {
+                    // surrogates encode code points above the BMP, so they have to be ordered after the BMP chars
+                    // above them
+                    return toCodePointOrder(lhsChar) - toCodePointOrder(rhsChar);
                 }
-                input[k] = aux[index];
+                return lhsChar - rhsChar;
+            }
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    private static int toCodePointOrder(char ch) {
+        return ch > Character.MAX_SURROGATE ? ch - 0x800 : ch + 0x2000;
+    }
+
+    /**
+     * Stable merge sort of the given range of indices, ordered by the keys at the indices.
+     */
+    private static void mergeSort(int[] order, int[] aux, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(order, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, aux, from, mid, comparator);
+        mergeSort(order, aux, mid, to, comparator);
+        merge(order, aux, from, mid, to, comparator);
+    }
+
+    private static void insertionSort(int[] order, int from, int to, IndexComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int index = order[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(index, order[j]) < 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    private static void merge(int[] order, int[] aux, int from, int mid, int to, IndexComparator comparator) {
+        if (comparator.compare(order[mid], order[mid - 1]) >= 0) {
+            return;
+        }
+        System.arraycopy(order, from, aux, from, to - from);
+        for (int i = from, j = mid, k = from; k < to; k++) {
+            if (i == mid) {
+                order[k] = aux[j++];
+            } else if (j == to) {
+                order[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                order[k] = aux[j++];
+            } else {
+                order[k] = aux[i++];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexComparator {
+
+        int compare(int lhs, int rhs);
+    }
+
+    /**
+     * Merge sort which sorts the two halves of large ranges in parallel. Used only with comparators which do not
+     * call back into the runtime.
+     */
+    private static final class ParallelMergeSort extends RecursiveAction {
+
+        private final int[] order;
+        private final int[] aux;
+        private final int from;
+        private final int to;
+        private final transient IndexComparator comparator;
+
+        ParallelMergeSort(int[] order, int[] aux, int from, int to, IndexComparator comparator) {
+            this.order = order;
+            this.aux = aux;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap<BString, Object>) error.getDetails());
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_SORT_THRESHOLD) {
+                mergeSort(order, aux, from, to, comparator);
+                return;
             }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ParallelMergeSort(order, aux, from, mid, comparator),
+                    new ParallelMergeSort(order, aux, mid, to, comparator));
+            merge(order, aux, from, mid, to, comparator);
         }
     }
 }
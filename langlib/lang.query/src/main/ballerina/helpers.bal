@@ -20,10 +20,11 @@ import ballerina/lang.'error;
 
 function createPipeline(
         Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection,
-        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading) returns handle = @java:Method {
+        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading,
+        boolean reusesFrames) returns handle = @java:Method {
             'class: "io.ballerina.runtime.internal.query.pipeline.StreamPipeline",
             name: "initStreamPipeline",
-            paramTypes: ["java.lang.Object","io.ballerina.runtime.api.values.BTypedesc","io.ballerina.runtime.api.values.BTypedesc","boolean"]
+            paramTypes: ["java.lang.Object","io.ballerina.runtime.api.values.BTypedesc","io.ballerina.runtime.api.values.BTypedesc","boolean","boolean"]
 } external;
 
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc) returns handle = @java:Method {
@@ -50,6 +51,13 @@ function createFilterFunction(function(_Frame _frame) returns boolean|error filt
     paramTypes: ["io.ballerina.runtime.api.values.BFunctionPointer"]
 } external;
 
+function createIndexedFilterFunction(function(_Frame _frame) returns boolean|error filterFunc, string fieldName,
+        string operator, function (_Frame _frame) returns any operandFunction) returns handle = @java:Method {
+    'class: "io.ballerina.runtime.internal.query.clauses.Where",
+    name: "initWhereClause",
+    paramTypes: ["io.ballerina.runtime.api.values.BFunctionPointer","io.ballerina.runtime.api.values.BString","io.ballerina.runtime.api.values.BString","io.ballerina.runtime.api.values.BFunctionPointer"]
+} external;
+
 function createLimitFunction(function (_Frame _frame) returns int limitFunction) returns handle = @java:Method {
     'class: "io.ballerina.runtime.internal.query.clauses.Limit",
     name: "initLimitClause",
@@ -68,10 +76,11 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     paramTypes: ["io.ballerina.runtime.api.values.BFunctionPointer"]
 } external;
 
-function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns handle = @java:Method {
+function createGroupByFunction(string[] keys, string[] nonGroupingKeys, string[] aggregateKeys,
+        string[] aggregateFunctions) returns handle = @java:Method {
     'class: "io.ballerina.runtime.internal.query.clauses.GroupBy",
     name: "initGroupByClause",
-    paramTypes: ["io.ballerina.runtime.api.values.BArray","io.ballerina.runtime.api.values.BArray"]
+    paramTypes: ["io.ballerina.runtime.api.values.BArray","io.ballerina.runtime.api.values.BArray","io.ballerina.runtime.api.values.BArray","io.ballerina.runtime.api.values.BArray"]
 } external;
 
 function createCollectFunction(string[] nonGroupingKeys, function(_Frame _frame) returns _Frame|error? collectFunc) returns handle = @java:Method {
@@ -146,6 +155,16 @@ function createInnerJoinFunction(
     paramTypes: ["io.ballerina.runtime.internal.query.pipeline.StreamPipeline","io.ballerina.runtime.api.values.BFunctionPointer","io.ballerina.runtime.api.values.BFunctionPointer"]
 } external;
 
+function createIndexedInnerJoinFunction(
+        handle joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction,
+        string rhsKeyField) returns handle = @java:Method {
+    'class: "io.ballerina.runtime.internal.query.clauses.InnerJoin",
+    name: "initInnerJoinClause",
+    paramTypes: ["io.ballerina.runtime.internal.query.pipeline.StreamPipeline","io.ballerina.runtime.api.values.BFunctionPointer","io.ballerina.runtime.api.values.BFunctionPointer","io.ballerina.runtime.api.values.BString"]
+} external;
+
 function createOuterJoinFunction(
         handle joinedPipeline,
         function (_Frame _frame) returns any lhsKeyFunction,
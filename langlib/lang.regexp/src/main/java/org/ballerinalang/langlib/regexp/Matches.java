@@ -21,8 +21,7 @@ package org.ballerinalang.langlib.regexp;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
-
-import java.util.regex.Matcher;
+import io.ballerina.runtime.internal.regexp.RegExpMatcher;
 
 import static org.ballerinalang.langlib.regexp.RegexUtil.checkIndexWithinRange;
 import static org.ballerinalang.langlib.regexp.RegexUtil.getSurrogateAdjustedStartIndex;
@@ -40,7 +39,7 @@ public final class Matches {
 
     public static BArray matchAt(BRegexpValue regExp, BString str, int startIndex) {
         checkIndexWithinRange(str, startIndex);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex(startIndex, surrogates);
         matcher.region(adjustedStartIndex, str.getValue().length());
@@ -52,7 +51,7 @@ public final class Matches {
 
     public static BArray matchGroupsAt(BRegexpValue regExp, BString str, int startIndex) {
         checkIndexWithinRange(str, startIndex);
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         int[] surrogates = getSurrogatePositions(str);
         int adjustedStartIndex = getSurrogateAdjustedStartIndex(startIndex, surrogates);
         matcher.region(adjustedStartIndex, str.getValue().length());
@@ -67,7 +66,7 @@ public final class Matches {
     }
 
     public static boolean isFullMatch(BRegexpValue regExp, BString str) {
-        Matcher matcher = RegexUtil.getMatcher(regExp, str);
+        RegExpMatcher matcher = RegexUtil.getMatcher(regExp, str);
         return matcher.matches();
     }
 }
@@ -36,10 +36,7 @@ public final class Split {
     }
 
     public static BArray split(BRegexpValue regExp, BString str) {
-        String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
-        String[] splitStrArr = originalString.split(regex, -1);
+        String[] splitStrArr = RegExpFactory.getSplitPattern((RegExpValue) regExp).split(str.getValue(), -1);
         return StringUtils.fromStringArray(splitStrArr);
     }
 }
@@ -16,6 +16,18 @@
 
 import ballerina/jballerina.java;
 
+# Config to specify the maximum number of strands running at a time. Strands are not limited if this is not positive.
+configurable int maxLiveStrands = 0;
+# Config to specify the maximum number of strands waiting to be started once `maxLiveStrands` strands are running.
+configurable int maxQueuedStrands = 0;
+# Config to specify the maximum number of strands running at a time for a module, keyed by `<org>/<module>`.
+configurable map<int> strandQuotas = {};
+# Config to specify whether starting a strand blocks (`BLOCK`) or fails (`FAIL`) when the strand queue is full.
+configurable string strandRejectionPolicy = "BLOCK";
+# Config to specify the minimum length of an immutable array for a query over it to be run on several strands.
+# Queries are run on a single strand if this is not positive.
+configurable int queryParallelThreshold = 0;
+
 # A listener that is dynamically registered with a module.
 public type DynamicListener object {
     public function 'start() returns error?;
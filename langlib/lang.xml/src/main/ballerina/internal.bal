@@ -36,3 +36,90 @@ isolated function externNext(XMLIterator iterator) returns record {| ItemType va
     'class: "org.ballerinalang.langlib.xml.Next",
     name: "next"
 } external;
+
+# Represent the iterator of the stream returned by `elementChildrenFromBytes`.
+class ElementChildrenIterator {
+
+    private stream<byte[], error?> content;
+
+    public isolated function init(stream<byte[], error?> content) {
+        self.content = content;
+    }
+
+    # Return the next element child of the root element or nil if the end of the root element is reached.
+    # + return - iterator result, or an error if the content cannot be read or is not well-formed
+    public isolated function next() returns record {| Element value; |}|error? {
+        Element? element = check externNextElementChild(self);
+        if element is () {
+            return ();
+        }
+        return {value: element};
+    }
+
+    # Close the content stream.
+    # + return - an error if the content stream cannot be closed
+    public isolated function close() returns error? {
+        return externCloseElementChildren(self);
+    }
+}
+
+isolated function externCreateElementChildrenStream(ElementChildrenIterator iterator)
+        returns stream<Element, error?> = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenFromBytes",
+    name: "createStream"
+} external;
+
+isolated function externNextElementChild(ElementChildrenIterator iterator) returns Element|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenFromBytes",
+    name: "next"
+} external;
+
+isolated function externCloseElementChildren(ElementChildrenIterator iterator) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenFromBytes",
+    name: "close"
+} external;
+
+# Represent the iterator of the stream returned by `elementChildrenToBytes`.
+class ElementChildrenBytesIterator {
+
+    private final Element root;
+    private stream<Element, error?> children;
+
+    public isolated function init(Element root, stream<Element, error?> children) {
+        self.root = root;
+        self.children = children;
+    }
+
+    # Return the next block of bytes of the element or nil if the end tag of the element is returned.
+    # + return - iterator result, or an error if the children cannot be read
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        byte[]? bytes = check externNextElementChildrenBytes(self);
+        if bytes is () {
+            return ();
+        }
+        return {value: bytes};
+    }
+
+    # Close the children stream.
+    # + return - an error if the children stream cannot be closed
+    public isolated function close() returns error? {
+        return externCloseElementChildrenBytes(self);
+    }
+}
+
+isolated function externCreateElementChildrenBytesStream(ElementChildrenBytesIterator iterator)
+        returns stream<byte[], error?> = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenToBytes",
+    name: "createStream"
+} external;
+
+isolated function externNextElementChildrenBytes(ElementChildrenBytesIterator iterator)
+        returns byte[]|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenToBytes",
+    name: "next"
+} external;
+
+isolated function externCloseElementChildrenBytes(ElementChildrenBytesIterator iterator) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementChildrenToBytes",
+    name: "close"
+} external;
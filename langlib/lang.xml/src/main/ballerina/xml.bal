@@ -553,6 +553,49 @@ public isolated function fromString(string s) returns xml|error = @java:Method {
     name: "fromString"
 } external;
 
+# Constructs a stream of the element children of the root element of an XML document.
+#
+# The document is read from a stream of UTF-8 encoded bytes, and each element is only
+# parsed when the returned stream is advanced. Memory use is therefore bounded by the
+# largest child element rather than by the size of the document. Children of the root
+# element that are not elements are skipped.
+#
+# ```ballerina
+# stream<byte[], error?> content = ["<books><book>Hamlet</book>".toBytes(), "<book>Macbeth</book></books>".toBytes()]
+#     .toStream();
+# stream<xml:Element, error?> books = xml:elementChildrenFromBytes(content);
+# books.next() ⇒ {"value":`<book>Hamlet</book>`}
+# ```
+#
+# + content - stream of the bytes of an XML document
+# + return - stream of the element children of the root element; the stream completes with an error
+#   if parameter `content` completes with an error or if the document is not well-formed
+public isolated function elementChildrenFromBytes(stream<byte[], error?> content) returns stream<Element, error?> {
+    return externCreateElementChildrenStream(new ElementChildrenIterator(content));
+}
+
+# Constructs a stream of the bytes of an XML element whose children are read from a stream.
+#
+# The start tag and the existing children of the element are written first, followed by each
+# element read from the children stream, and then the end tag. Children are only read when the
+# returned stream is advanced, so memory use is bounded by the largest child element rather than
+# by the size of the document.
+#
+# ```ballerina
+# xml:Element[] children = [xml `<b/>`];
+# stream<byte[], error?> content = xml:elementChildrenToBytes(xml `<a/>`, children.toStream());
+# content.next() ⇒ {"value":[60,97,62,60,98,47,62,60,47,97,62]}
+# ```
+#
+# + root - the element enclosing the children
+# + children - stream of the elements to write after the existing children of parameter `root`
+# + return - stream of the UTF-8 encoded bytes of the element; the stream completes with an error
+#   if parameter `children` completes with an error
+public isolated function elementChildrenToBytes(Element root, stream<Element, error?> children)
+        returns stream<byte[], error?> {
+    return externCreateElementChildrenBytesStream(new ElementChildrenBytesIterator(root, children));
+}
+
 # Selects all the items in a sequence that are of type `xml:Text`.
 #
 # ```ballerina
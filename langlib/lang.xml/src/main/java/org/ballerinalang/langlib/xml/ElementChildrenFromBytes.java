@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.StreamType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.xml.XmlElementChildrenReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Native implementation of lang.xml:elementChildrenFromBytes(stream&lt;byte[], error?&gt;) and the iterator of the
+ * stream it returns.
+ *
+ * @since 2201.13.0
+ */
+public final class ElementChildrenFromBytes {
+
+    private static final StreamType ELEMENT_STREAM_TYPE = TypeCreator.createStreamType(PredefinedTypes.TYPE_ELEMENT,
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL));
+    private static final BString CONTENT_FIELD = StringUtils.fromString("content");
+    private static final String READER = "&reader&";
+    private static final String CONTENT_STREAM = "&content&";
+    private static final String NEXT = "next";
+    private static final String CLOSE = "close";
+
+    private ElementChildrenFromBytes() {
+    }
+
+    public static BStream createStream(BObject iterator) {
+        return ValueCreator.createStreamValue(ELEMENT_STREAM_TYPE, iterator);
+    }
+
+    public static Object next(Environment env, BObject iterator) {
+        XmlElementChildrenReader reader = (XmlElementChildrenReader) iterator.getNativeData(READER);
+        ContentInputStream content = (ContentInputStream) iterator.getNativeData(CONTENT_STREAM);
+        if (reader == null) {
+            BObject contentIterator = ((BStream) iterator.get(CONTENT_FIELD)).getIteratorObj();
+            content = new ContentInputStream(env.getRuntime(), contentIterator);
+            reader = new XmlElementChildrenReader(new InputStreamReader(content, StandardCharsets.UTF_8));
+            iterator.addNativeData(READER, reader);
+            iterator.addNativeData(CONTENT_STREAM, content);
+        }
+        try {
+            return reader.next();
+        } catch (BError e) {
+            // Report the error of the content stream rather than the parse error it caused.
+            return content.error != null ? content.error : e;
+        }
+    }
+
+    public static Object close(Environment env, BObject iterator) {
+        XmlElementChildrenReader reader = (XmlElementChildrenReader) iterator.getNativeData(READER);
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // The content stream is closed below, the parser holds nothing else that needs releasing.
+            }
+        }
+        BObject contentIterator = ((BStream) iterator.get(CONTENT_FIELD)).getIteratorObj();
+        ObjectType contentIteratorType = (ObjectType) TypeUtils.getImpliedType(contentIterator.getOriginalType());
+        for (MethodType method : contentIteratorType.getMethods()) {
+            if (CLOSE.equals(method.getName())) {
+                return env.getRuntime().callMethod(contentIterator, CLOSE, null);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Input stream over the byte array blocks of a Ballerina stream, which are only read when they are needed.
+     */
+    private static final class ContentInputStream extends InputStream {
+
+        private static final BString VALUE_FIELD = StringUtils.fromString("value");
+        private static final byte[] EMPTY_BLOCK = new byte[0];
+
+        private final Runtime runtime;
+        private final BObject iterator;
+        private byte[] block = EMPTY_BLOCK;
+        private int position;
+        private boolean ended;
+        private BError error;
+
+        ContentInputStream(Runtime runtime, BObject iterator) {
+            this.runtime = runtime;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fillBlock()) {
+                return -1;
+            }
+            return block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fillBlock()) {
+                return -1;
+            }
+            int count = Math.min(length, block.length - position);
+            System.arraycopy(block, position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean fillBlock() throws IOException {
+            while (position == block.length) {
+                if (ended) {
+                    return false;
+                }
+                Object next = runtime.callMethod(iterator, NEXT, null);
+                if (next == null) {
+                    ended = true;
+                    return false;
+                }
+                if (next instanceof BError bError) {
+                    ended = true;
+                    error = bError;
+                    throw new IOException(bError.getMessage());
+                }
+                block = ((BArray) ((BMap<BString, Object>) next).get(VALUE_FIELD)).getBytes();
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
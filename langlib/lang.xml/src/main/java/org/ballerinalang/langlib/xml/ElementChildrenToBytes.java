@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.StreamType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.xml.XmlElementChildrenWriter;
+
+/**
+ * Native implementation of lang.xml:elementChildrenToBytes(xml:Element, stream&lt;xml:Element, error?&gt;) and the
+ * iterator of the stream it returns.
+ *
+ * @since 2201.13.0
+ */
+public final class ElementChildrenToBytes {
+
+    private static final StreamType BYTES_STREAM_TYPE = TypeCreator.createStreamType(
+            TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE),
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL));
+    private static final BString ROOT_FIELD = StringUtils.fromString("root");
+    private static final BString CHILDREN_FIELD = StringUtils.fromString("children");
+    private static final BString VALUE_FIELD = StringUtils.fromString("value");
+    private static final String WRITER = "&writer&";
+    private static final String NEXT = "next";
+    private static final String CLOSE = "close";
+    // Children are written until at least this many bytes are buffered, so that small children are not returned as
+    // separate blocks.
+    private static final int BLOCK_SIZE = 8192;
+
+    private ElementChildrenToBytes() {
+    }
+
+    public static BStream createStream(BObject iterator) {
+        return ValueCreator.createStreamValue(BYTES_STREAM_TYPE, iterator);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object next(Environment env, BObject iterator) {
+        XmlElementChildrenWriter writer = (XmlElementChildrenWriter) iterator.getNativeData(WRITER);
+        if (writer == null) {
+            writer = new XmlElementChildrenWriter((BXml) iterator.get(ROOT_FIELD));
+            iterator.addNativeData(WRITER, writer);
+        }
+        if (writer.isEnded()) {
+            return null;
+        }
+        BObject childrenIterator = ((BStream) iterator.get(CHILDREN_FIELD)).getIteratorObj();
+        try {
+            while (writer.size() < BLOCK_SIZE) {
+                Object next = env.getRuntime().callMethod(childrenIterator, NEXT, null);
+                if (next == null) {
+                    writer.end();
+                    break;
+                }
+                if (next instanceof BError error) {
+                    return error;
+                }
+                writer.write((BXml) ((BMap<BString, Object>) next).get(VALUE_FIELD));
+            }
+        } catch (BError e) {
+            return e;
+        }
+        return ValueCreator.createArrayValue(writer.takeBytes());
+    }
+
+    public static Object close(Environment env, BObject iterator) {
+        BObject childrenIterator = ((BStream) iterator.get(CHILDREN_FIELD)).getIteratorObj();
+        ObjectType childrenIteratorType = (ObjectType) TypeUtils.getImpliedType(childrenIterator.getOriginalType());
+        for (MethodType method : childrenIteratorType.getMethods()) {
+            if (CLOSE.equals(method.getName())) {
+                return env.getRuntime().callMethod(childrenIterator, CLOSE, null);
+            }
+        }
+        return null;
+    }
+}
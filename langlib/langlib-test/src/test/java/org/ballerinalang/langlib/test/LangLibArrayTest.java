@@ -18,9 +18,15 @@
 
 package org.ballerinalang.langlib.test;
 
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.langlib.array.Sort;
 import org.ballerinalang.test.BAssertUtil;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -545,6 +551,28 @@ public class LangLibArrayTest {
         }
     }
 
+    // Well typed programs cannot sort keys of different basic types, so the array is created here.
+    @Test(dataProvider = "mixedTypeSortSizes")
+    public void testSortUnorderedTypes(int size) {
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (long) i;
+        }
+        values[size / 2] = StringUtils.fromString("a");
+        BArray arr = ValueCreator.createArrayValue(values, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        try {
+            Sort.sort(null, arr, StringUtils.fromString("ascending"), null);
+            Assert.fail("expected sorting int and string values to fail");
+        } catch (BError e) {
+            assertEquals(e.getErrorMessage().getValue(), "{ballerina/lang.array}SortOperationError");
+        }
+    }
+
+    @DataProvider
+    public Object[] mixedTypeSortSizes() {
+        return new Object[]{2, 10000};
+    }
+
     @DataProvider(name = "FunctionList")
     public Object[] testFunctions() {
         return new String[]{
@@ -563,6 +591,10 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSortFloatNaNAndSignedZeros",
+                "testSortNilKeysLast",
+                "testSortIntSubtypesAndBytes",
+                "testSortLargeArrays",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
@@ -18,6 +18,10 @@
 
 package org.ballerinalang.langlib.test;
 
+import io.ballerina.runtime.internal.regexp.CompiledRegExp;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpMatcher;
+import io.ballerina.runtime.internal.regexp.RegExpNfa;
 import org.ballerinalang.test.BAssertUtil;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -29,7 +33,9 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.testng.internal.collections.Pair;
 
+import java.lang.reflect.Field;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Test cases for the lang.regexp library.
@@ -229,4 +235,105 @@ public class LangLibRegexpTest {
                 {"testNegativeEmptyCharClass3"}
         };
     }
+
+    @Test(dataProvider = "regexpEngineComparisonProvider")
+    public void testNfaMatchesJavaRegexp(String regExp, String input) {
+        Pattern pattern = RegExpFactory.getPattern(RegExpFactory.parse(regExp));
+        RegExpNfa nfa = compileNfa(regExp);
+        Assert.assertNotNull(nfa, "regexp not supported by the NFA: " + regExp);
+        int length = input.length();
+        for (int start = 0; start <= length; start++) {
+            for (int end = start; end <= length; end++) {
+                String region = "region " + start + ".." + end;
+                assertSameFinds(javaMatcher(pattern, input).region(start, end), nfa.matcher(input).region(start, end),
+                        region);
+                RegExpMatcher javaMatcher = javaMatcher(pattern, input).region(start, end);
+                RegExpMatcher nfaMatcher = nfa.matcher(input).region(start, end);
+                boolean matches = javaMatcher.matches();
+                Assert.assertEquals(nfaMatcher.matches(), matches, region);
+                if (matches) {
+                    assertSameGroups(javaMatcher, nfaMatcher, region);
+                }
+            }
+            RegExpMatcher javaMatcher = javaMatcher(pattern, input);
+            RegExpMatcher nfaMatcher = nfa.matcher(input);
+            boolean found = javaMatcher.find(start);
+            Assert.assertEquals(nfaMatcher.find(start), found, "find from " + start);
+            if (found) {
+                assertSameGroups(javaMatcher, nfaMatcher, "find from " + start);
+                assertSameFinds(javaMatcher, nfaMatcher, "find after find from " + start);
+            }
+        }
+    }
+
+    @DataProvider(name = "regexpEngineComparisonProvider")
+    private Object[][] getRegexpEngineComparisons() {
+        return new Object[][]{
+                // `$` before a line terminator at the end of the input
+                {"a+$", "aaa\r\n"},
+                {"a*$", "b\r\n"},
+                {"a*$", "\r\n"},
+                {"a+$", "aa\n"},
+                {"a+$", "aa\r"},
+                {"a+$", "a\u0085"},
+                {"(a|b)+$", "ab\u2028"},
+                // find after an empty match
+                {"a*", "baaac"},
+                {"b*", "abba"},
+                {"(a|b)*", "xabx"},
+                // optional groups that do not participate in the match
+                {"(x)?(ab)+", "abab"},
+                {"(a)|(b)+", "ab"},
+                {"((a)|(b))+", "ab"},
+                {"(c)?(a|b)*", "cabxab"},
+                {"(a+)+$", "aaaaab"},
+                {"[a-c]+d", "abcabcd"}
+        };
+    }
+
+    @Test
+    public void testNfaContinuesFindAllOfJavaRegexp() throws ReflectiveOperationException {
+        // The run of `a`s exhausts the read budget of java.util.regex after the first matches have been found.
+        String regExp = "(a*)(a*)(a*)b";
+        String input = "ab aab " + "a".repeat(30) + "c ab aaab";
+        Pattern pattern = RegExpFactory.getPattern(RegExpFactory.parse(regExp));
+        RegExpMatcher guardedMatcher = new CompiledRegExp(pattern, compileNfa(regExp)).matcher(input);
+        assertSameFinds(javaMatcher(pattern, input), guardedMatcher, "find all");
+
+        Field nfaMatcher = guardedMatcher.getClass().getDeclaredField("nfaMatcher");
+        nfaMatcher.setAccessible(true);
+        Assert.assertNotNull(nfaMatcher.get(guardedMatcher), "matching did not continue with the NFA");
+    }
+
+    private static RegExpNfa compileNfa(String regExp) {
+        return RegExpNfa.compile(RegExpFactory.translateRegExpConstructs(RegExpFactory.parse(regExp))
+                .getRegExpDisjunction());
+    }
+
+    private static RegExpMatcher javaMatcher(Pattern pattern, String input) {
+        return new CompiledRegExp(pattern, null).matcher(input);
+    }
+
+    private static void assertSameFinds(RegExpMatcher expected, RegExpMatcher actual, String context) {
+        int count = 0;
+        while (true) {
+            boolean found = expected.find();
+            Assert.assertEquals(actual.find(), found, context + ", match " + count);
+            if (!found) {
+                return;
+            }
+            assertSameGroups(expected, actual, context + ", match " + count);
+            count++;
+        }
+    }
+
+    private static void assertSameGroups(RegExpMatcher expected, RegExpMatcher actual, String context) {
+        Assert.assertEquals(actual.groupCount(), expected.groupCount(), context);
+        for (int group = 0; group <= expected.groupCount(); group++) {
+            String message = context + ", group " + group;
+            Assert.assertEquals(actual.start(group), expected.start(group), message);
+            Assert.assertEquals(actual.end(group), expected.end(group), message);
+            Assert.assertEquals(actual.group(group), expected.group(group), message);
+        }
+    }
 }
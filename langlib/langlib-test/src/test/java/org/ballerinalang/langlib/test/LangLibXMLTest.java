@@ -372,6 +372,31 @@ public class LangLibXMLTest {
         BRunUtil.invoke(compileResult, "testLangLibCallsWithUnions");
     }
 
+    @Test
+    public void testElementChildrenFromBytes() {
+        BRunUtil.invoke(compileResult, "testElementChildrenFromBytes");
+    }
+
+    @Test
+    public void testElementChildrenFromBytesWithRootNamespaces() {
+        BRunUtil.invoke(compileResult, "testElementChildrenFromBytesWithRootNamespaces");
+    }
+
+    @Test
+    public void testElementChildrenFromBytesClose() {
+        BRunUtil.invoke(compileResult, "testElementChildrenFromBytesClose");
+    }
+
+    @Test
+    public void testElementChildrenToBytes() {
+        BRunUtil.invoke(compileResult, "testElementChildrenToBytes");
+    }
+
+    @Test
+    public void testElementChildrenToBytesClose() {
+        BRunUtil.invoke(compileResult, "testElementChildrenToBytesClose");
+    }
+
     @Test
     public void testNegativeCases() {
         negativeResult = BCompileUtil.compile("test-src/xmllib_test_negative.bal");
@@ -1575,6 +1575,136 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSortFloatNaNAndSignedZeros() {
+    float[] arr = [0.0, float:NaN, -1.5, -0.0, 2.0, float:NaN, 0.0, -0.0];
+
+    float[] ascending = arr.sort();
+    assertTrue(ascending[0] === -1.5);
+    assertTrue(ascending[1] === 0.0);
+    assertTrue(ascending[2] === -0.0);
+    assertTrue(ascending[3] === 0.0);
+    assertTrue(ascending[4] === -0.0);
+    assertTrue(ascending[5] === 2.0);
+    assertTrue(ascending[6].isNaN());
+    assertTrue(ascending[7].isNaN());
+
+    float[] descending = arr.sort(array:DESCENDING);
+    assertTrue(descending[0] === 2.0);
+    assertTrue(descending[1] === 0.0);
+    assertTrue(descending[2] === -0.0);
+    assertTrue(descending[3] === 0.0);
+    assertTrue(descending[4] === -0.0);
+    assertTrue(descending[5] === -1.5);
+    assertTrue(descending[6].isNaN());
+    assertTrue(descending[7].isNaN());
+
+    [int, float][] entries = [[0, 0.0], [1, float:NaN], [2, -1.5], [3, -0.0], [4, float:NaN], [5, 0.0]];
+    [int, float][] byKey = entries.sort(array:ASCENDING, entry => entry[1]);
+    assertValueEquality([2, 0, 3, 5, 1, 4], byKey.map(entry => entry[0]));
+    byKey = entries.sort(array:DESCENDING, entry => entry[1]);
+    assertValueEquality([0, 3, 5, 2, 1, 4], byKey.map(entry => entry[0]));
+}
+
+function testSortNilKeysLast() {
+    int?[] arr = [3, (), 1, (), 2];
+    assertValueEquality([1, 2, 3, (), ()], arr.sort());
+    assertValueEquality([3, 2, 1, (), ()], arr.sort(array:DESCENDING));
+
+    [int, string?][] entries = [[0, ()], [1, "b"], [2, ()], [3, "a"], [4, ()]];
+    [int, string?][] byKey = entries.sort(array:ASCENDING, entry => entry[1]);
+    assertValueEquality([3, 1, 0, 2, 4], byKey.map(entry => entry[0]));
+    byKey = entries.sort(array:DESCENDING, entry => entry[1]);
+    assertValueEquality([1, 3, 0, 2, 4], byKey.map(entry => entry[0]));
+}
+
+function testSortIntSubtypesAndBytes() {
+    ints:Signed8[] signed = [-3, 127, -128, 0, -3];
+    ints:Signed8[] sortedSigned = signed.sort();
+    assertValueEquality([-128, -3, -3, 0, 127], sortedSigned);
+    assertTrue(<any> sortedSigned is ints:Signed8[]);
+    assertValueEquality([127, 0, -3, -3, -128], signed.sort(array:DESCENDING));
+
+    ints:Unsigned32[] unsigned = [4294967295, 0, 65536];
+    ints:Unsigned32[] sortedUnsigned = unsigned.sort(array:DESCENDING);
+    assertValueEquality([4294967295, 65536, 0], sortedUnsigned);
+    assertTrue(<any> sortedUnsigned is ints:Unsigned32[]);
+
+    byte[] bytes = [200, 3, 0, 255, 3];
+    byte[] sortedBytes = bytes.sort();
+    assertValueEquality([0, 3, 3, 200, 255], sortedBytes);
+    assertTrue(<any> sortedBytes is byte[]);
+    assertValueEquality([255, 200, 3, 3, 0], bytes.sort(array:DESCENDING));
+    assertValueEquality([200, 3, 0, 255, 3], bytes);
+}
+
+// Arrays of at least 8192 members are sorted in parallel.
+const LARGE_SORT_SIZE = 10000;
+
+function testSortLargeArrays() {
+    int[] ints = [];
+    float[] floats = [];
+    string[] strings = [];
+    [int, int][] entries = [];
+    foreach int i in 0 ..< LARGE_SORT_SIZE {
+        int value = (i * 7919) % LARGE_SORT_SIZE;
+        ints.push(value);
+        if i % 100 == 0 {
+            floats.push(float:NaN);
+        } else if i % 100 == 1 {
+            // signed zeros alternate, starting with -0.0
+            floats.push(i % 200 == 1 ? -0.0 : 0.0);
+        } else {
+            floats.push(<float> value - 4999.5);
+        }
+        strings.push("s" + value.toString());
+        entries.push([i, value % 10]);
+    }
+
+    int[] sortedInts = ints.sort();
+    int[] reversedInts = ints.sort(array:DESCENDING);
+    foreach int i in 0 ..< LARGE_SORT_SIZE {
+        assertValueEquality(i, sortedInts[i]);
+        assertValueEquality(LARGE_SORT_SIZE - 1 - i, reversedInts[i]);
+    }
+
+    float[] sortedFloats = floats.sort();
+    int nanCount = 0;
+    boolean expectNegativeZero = true;
+    foreach int i in 0 ..< LARGE_SORT_SIZE {
+        float value = sortedFloats[i];
+        if value.isNaN() {
+            nanCount += 1;
+            continue;
+        }
+        assertValueEquality(0, nanCount);
+        if i > 0 {
+            assertTrue(sortedFloats[i - 1] <= value);
+        }
+        if value == 0.0 {
+            assertTrue(expectNegativeZero ? value === -0.0 : value === 0.0);
+            expectNegativeZero = !expectNegativeZero;
+        }
+    }
+    assertValueEquality(100, nanCount);
+    float[] reversedFloats = floats.sort(array:DESCENDING);
+    foreach int i in 1 ..< LARGE_SORT_SIZE - 100 {
+        assertTrue(reversedFloats[i - 1] >= reversedFloats[i]);
+    }
+    assertTrue(reversedFloats[LARGE_SORT_SIZE - 1].isNaN());
+
+    string[] sortedStrings = strings.sort();
+    foreach int i in 1 ..< LARGE_SORT_SIZE {
+        assertTrue(sortedStrings[i - 1] < sortedStrings[i]);
+    }
+
+    [int, int][] sortedEntries = entries.sort(array:DESCENDING, entry => entry[1]);
+    foreach int i in 1 ..< LARGE_SORT_SIZE {
+        [int, int] previous = sortedEntries[i - 1];
+        [int, int] current = sortedEntries[i];
+        assertTrue(previous[1] > current[1] || (previous[1] == current[1] && previous[0] < current[0]));
+    }
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
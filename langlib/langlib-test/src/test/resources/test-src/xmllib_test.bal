@@ -1301,6 +1301,175 @@ function testLangLibCallsWithUnions() {
     test:assertValueEqual(get4, xml `<!--foo-->`);
 }
 
+function testElementChildrenFromBytes() {
+    stream<byte[], error?> content = ["<books><book>Ham".toBytes(),
+        "let</book><!--comment--> <book year=\"1606\">Macbeth</book></books>".toBytes()].toStream();
+    stream<xml:Element, error?> books = xml:elementChildrenFromBytes(content);
+    test:assertValueEqual(checkpanic books.next(), {value: xml `<book>Hamlet</book>`});
+    test:assertValueEqual(checkpanic books.next(), {value: xml `<book year="1606">Macbeth</book>`});
+    test:assertValueEqual(checkpanic books.next(), ());
+
+    stream<byte[], error?> invalidContent = ["<books><book>Hamlet</books>".toBytes()].toStream();
+    record {|xml:Element value;|}|error? next = xml:elementChildrenFromBytes(invalidContent).next();
+    test:assertTrue(next is error);
+
+    stream<byte[], error?> failingContent = new (new FailingContent());
+    stream<xml:Element, error?> partialBooks = xml:elementChildrenFromBytes(failingContent);
+    next = partialBooks.next();
+    while next is record {|xml:Element value;|} {
+        next = partialBooks.next();
+    }
+    test:assertTrue(next is error);
+    test:assertValueEqual((<error>next).message(), "failed to read content");
+}
+
+function testElementChildrenFromBytesWithRootNamespaces() {
+    string document = "<lib:books xmlns:lib=\"http://example.com/lib\" xmlns=\"http://example.com/default\">"
+        + "<lib:book lib:id=\"1\">Hamlet</lib:book><book>Macbeth</book><lib:shelf><book/></lib:shelf></lib:books>";
+    xml:Element root = <xml:Element> checkpanic xml:fromString(document);
+    xml expected = root.getChildren().elements();
+
+    stream<byte[], error?> content = [document.substring(0, 50).toBytes(), document.substring(50).toBytes()]
+        .toStream();
+    stream<xml:Element, error?> children = xml:elementChildrenFromBytes(content);
+    int count = 0;
+    record {|xml:Element value;|}? next = checkpanic children.next();
+    while next !is () {
+        xml:Element expectedChild = <xml:Element> expected[count];
+        test:assertValueEqual(next.value, expectedChild);
+        test:assertValueEqual(next.value.getName(), expectedChild.getName());
+        test:assertValueEqual(next.value.getAttributes(), expectedChild.getAttributes());
+        count += 1;
+        next = checkpanic children.next();
+    }
+    test:assertValueEqual(count, 3);
+    test:assertValueEqual((<xml:Element> expected[0]).getName(), "{http://example.com/lib}book");
+    test:assertValueEqual((<xml:Element> expected[1]).getName(), "{http://example.com/default}book");
+}
+
+function testElementChildrenFromBytesClose() {
+    ClosableContent content = new (["<books><book>Hamlet</book>".toBytes(),
+        "<book>Macbeth</book></books>".toBytes()]);
+    stream<byte[], error?> contentStream = new (content);
+    stream<xml:Element, error?> books = xml:elementChildrenFromBytes(contentStream);
+    test:assertValueEqual(checkpanic books.next(), {value: xml `<book>Hamlet</book>`});
+    test:assertFalse(content.closed);
+    test:assertNotError(books.close());
+    test:assertTrue(content.closed);
+
+    ClosableContent unreadContent = new (["<books><book>Hamlet</book></books>".toBytes()]);
+    stream<byte[], error?> unreadContentStream = new (unreadContent);
+    stream<xml:Element, error?> unreadBooks = xml:elementChildrenFromBytes(unreadContentStream);
+    test:assertNotError(unreadBooks.close());
+    test:assertTrue(unreadContent.closed);
+}
+
+function testElementChildrenToBytes() {
+    xml:Element[] books = [xml `<book>Hamlet</book>`, xml `<book year="1606">Macbeth &amp; Banquo</book>`];
+    stream<byte[], error?> content = xml:elementChildrenToBytes(xml `<books><!--plays--></books>`, books.toStream());
+    byte[] bytes = readAllBytes(content);
+    test:assertValueEqual(checkpanic string:fromBytes(bytes),
+        "<books><!--plays--><book>Hamlet</book><book year=\"1606\">Macbeth &amp; Banquo</book></books>");
+    test:assertValueEqual(checkpanic content.next(), ());
+
+    stream<xml:Element, error?> children = xml:elementChildrenFromBytes([bytes].toStream());
+    test:assertValueEqual(checkpanic children.next(), {value: books[0]});
+    test:assertValueEqual(checkpanic children.next(), {value: books[1]});
+    test:assertValueEqual(checkpanic children.next(), ());
+
+    xml:Element[] noBooks = [];
+    test:assertValueEqual(checkpanic string:fromBytes(readAllBytes(xml:elementChildrenToBytes(xml `<books/>`,
+        noBooks.toStream()))), "<books/>");
+
+    stream<xml:Element, error?> failingChildren = new (new FailingChildren());
+    record {|byte[] value;|}|error? next = xml:elementChildrenToBytes(xml `<books/>`, failingChildren).next();
+    test:assertTrue(next is error);
+    test:assertValueEqual((<error>next).message(), "failed to read children");
+}
+
+function testElementChildrenToBytesClose() {
+    ClosableChildren children = new ([xml `<book>Hamlet</book>`]);
+    stream<xml:Element, error?> childrenStream = new (children);
+    stream<byte[], error?> content = xml:elementChildrenToBytes(xml `<books/>`, childrenStream);
+    test:assertFalse(children.closed);
+    test:assertNotError(content.close());
+    test:assertTrue(children.closed);
+}
+
+function readAllBytes(stream<byte[], error?> content) returns byte[] {
+    byte[] bytes = [];
+    record {|byte[] value;|}? block = checkpanic content.next();
+    while block !is () {
+        bytes.push(...block.value);
+        block = checkpanic content.next();
+    }
+    return bytes;
+}
+
+class ClosableChildren {
+    boolean closed = false;
+    private final xml:Element[] children;
+    private int index = 0;
+
+    function init(xml:Element[] children) {
+        self.children = children;
+    }
+
+    public isolated function next() returns record {|xml:Element value;|}? {
+        if self.index == self.children.length() {
+            return ();
+        }
+        xml:Element child = self.children[self.index];
+        self.index += 1;
+        return {value: child};
+    }
+
+    public isolated function close() returns error? {
+        self.closed = true;
+    }
+}
+
+class FailingChildren {
+    public isolated function next() returns record {|xml:Element value;|}|error? {
+        return error("failed to read children");
+    }
+}
+
+class ClosableContent {
+    boolean closed = false;
+    private final byte[][] blocks;
+    private int index = 0;
+
+    function init(byte[][] blocks) {
+        self.blocks = blocks;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}? {
+        if self.index == self.blocks.length() {
+            return ();
+        }
+        byte[] block = self.blocks[self.index];
+        self.index += 1;
+        return {value: block};
+    }
+
+    public isolated function close() returns error? {
+        self.closed = true;
+    }
+}
+
+class FailingContent {
+    private boolean read = false;
+
+    public isolated function next() returns record {|byte[] value;|}|error? {
+        if self.read {
+            return error("failed to read content");
+        }
+        self.read = true;
+        return {value: "<books><book>Hamlet</book>".toBytes()};
+    }
+}
+
 type Error error<record {string message;}>;
 
 function assertError(any|error value, string errorMessage, string expDetailMessage) {
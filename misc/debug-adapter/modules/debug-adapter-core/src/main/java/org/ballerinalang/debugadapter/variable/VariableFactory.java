@@ -149,6 +149,7 @@ public final class VariableFactory {
             return new BDecimal(context, varName, value);
         } else if (valueTypeName.equals(JVMValueType.BMP_STRING.getString())
                 || valueTypeName.equals(JVMValueType.NON_BMP_STRING.getString())
+                || valueTypeName.equals(JVMValueType.CONCAT_STRING.getString())
                 || valueTypeName.equals(JVMValueType.J_STRING.getString())) {
             return new BString(context, varName, value);
         } else if (valueTypeName.contains(JVMValueType.ARRAY_VALUE.getString())) {
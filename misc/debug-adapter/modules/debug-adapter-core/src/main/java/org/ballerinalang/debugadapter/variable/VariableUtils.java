@@ -49,6 +49,7 @@ public final class VariableUtils {
     public static final String FIELD_REFERRED_TYPE = "referredType";
     public static final String FIELD_EFFECTIVE_TYPE = "effectiveType";
     private static final String FIELD_CONSTRAINT = "constraint";
+    private static final String FIELD_FLATTENED = "flattened";
     private static final String METHOD_STR_VALUE = "stringValue";
     private static final String METHOD_EXP_STR_VALUE = "expressionStringValue";
     public static final String UNKNOWN_VALUE = "unknown";
@@ -141,7 +142,30 @@ public final class VariableUtils {
     }
 
     /**
-     * Returns the actual string value from ballerina jvm types for strings.
+     * Returns the actual string value from ballerina jvm types for strings. Strings built by concatenation which are
+     * not flattened yet are read by invoking "stringValue()" in the remote VM.
+     *
+     * @param context     variable debug context.
+     * @param stringValue JDI value of the string instance
+     * @return actual string.
+     */
+    public static String getStringFrom(SuspendedContext context, Value stringValue) {
+        try {
+            if (stringValue instanceof ObjectReference stringRef
+                    && stringRef.referenceType().name().equals(JVMValueType.CONCAT_STRING.getString())
+                    && getFieldValue(stringRef, FIELD_FLATTENED).isEmpty()) {
+                return getStringValue(context, stringRef);
+            }
+            return getStringFrom(stringValue);
+        } catch (Exception e) {
+            return UNKNOWN_VALUE;
+        }
+    }
+
+    /**
+     * Returns the actual string value from ballerina jvm types for strings. Returns "unknown" for strings built by
+     * concatenation which are not flattened yet, which can only be read with {@link #getStringFrom(SuspendedContext,
+     * Value)}.
      *
      * @param stringValue JDI value of the string instance
      * @return actual string.
@@ -151,6 +175,11 @@ public final class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                // Strings built by concatenation hold their characters only after they are flattened.
+                Optional<Value> flattenedField = getFieldValue(stringRef, FIELD_FLATTENED);
+                return flattenedField.map(VariableUtils::getStringFrom).orElse(UNKNOWN_VALUE);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -71,7 +71,7 @@ public class BRecord extends NamedCompoundVariable {
 
             for (Map.Entry<Value, Value> mapEntry : recordFields.entrySet()) {
                 childVarMap.put(Utils.encodeNonFunctionIdentifier(
-                        Utils.escapeSpecialCharacters(VariableUtils.getStringFrom(mapEntry.getKey()))),
+                        Utils.escapeSpecialCharacters(VariableUtils.getStringFrom(context, mapEntry.getKey()))),
                         mapEntry.getValue());
             }
             return childVarMap;
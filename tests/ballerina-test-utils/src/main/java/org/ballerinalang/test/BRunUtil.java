@@ -33,6 +33,7 @@ import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.ConcatStringValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.ErrorValue;
 import io.ballerina.runtime.internal.values.FutureValue;
@@ -102,6 +103,7 @@ public final class BRunUtil {
                 case XmlValue ignored -> paramTypes[i] = XmlValue.class;
                 case BmpStringValue ignored -> paramTypes[i] = BmpStringValue.class;
                 case NonBmpStringValue ignored -> paramTypes[i] = NonBmpStringValue.class;
+                case ConcatStringValue ignored -> paramTypes[i] = ConcatStringValue.class;
                 case ArrayValue ignored1 -> paramTypes[i] = ArrayValue.class;
                 case Integer ignored -> paramTypes[i] = Long.class;
                 case Float ignored -> paramTypes[i] = Double.class;
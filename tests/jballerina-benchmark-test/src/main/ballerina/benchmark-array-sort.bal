@@ -0,0 +1,138 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+const int SMALL_SORT_SIZE = 10;
+const int LARGE_SORT_SIZE = 100000;
+
+type SortEntry record {|
+    int id;
+    string name;
+    float score;
+|};
+
+// Returns `count` pseudo-random ints in [0, 2^31), which are the same for every run.
+function createSortInput(int count) returns int[] {
+    int[] values = [];
+    int seed = 42;
+    int i = 0;
+    while (i < count) {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        values.push(seed);
+        i += 1;
+    }
+    return values;
+}
+
+// Scales an iteration count down so that every input size sorts about as many elements as the 10 element input does.
+function scaleBySortSize(int count, int size) returns int {
+    int scaled = count * SMALL_SORT_SIZE / size;
+    return scaled < 1 ? 1 : scaled;
+}
+
+function sortInts(int[] values, int count) returns int {
+    int sorted = 0;
+    int i = 0;
+    while (i < count) {
+        sorted += values.sort().length();
+        i += 1;
+    }
+    return sorted;
+}
+
+function timeSortInts(int size, int warmupCount, int benchmarkCount) returns int {
+    int[] values = createSortInput(size);
+    int _ = sortInts(values, scaleBySortSize(warmupCount, size));
+
+    int startTime = nanoTime();
+    int _ = sortInts(values, scaleBySortSize(benchmarkCount, size));
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortInt10(int warmupCount, int benchmarkCount) returns int {
+    return timeSortInts(SMALL_SORT_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortInt1K(int warmupCount, int benchmarkCount) returns int {
+    return timeSortInts(1000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortInt100K(int warmupCount, int benchmarkCount) returns int {
+    return timeSortInts(LARGE_SORT_SIZE, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortInt10M(int warmupCount, int benchmarkCount) returns int {
+    return timeSortInts(10000000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkArraySortFloat100K(int warmupCount, int benchmarkCount) returns int {
+    float[] values = from int value in createSortInput(LARGE_SORT_SIZE) select <float>value / 7.0;
+    int warmupSorts = scaleBySortSize(warmupCount, LARGE_SORT_SIZE);
+    int benchmarkSorts = scaleBySortSize(benchmarkCount, LARGE_SORT_SIZE);
+    int i = 0;
+    while (i < warmupSorts) {
+        float[] _ = values.sort(array:DESCENDING);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkSorts) {
+        float[] _ = values.sort(array:DESCENDING);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortString100K(int warmupCount, int benchmarkCount) returns int {
+    string[] values = from int value in createSortInput(LARGE_SORT_SIZE) select "item-" + value.toString();
+    int warmupSorts = scaleBySortSize(warmupCount, LARGE_SORT_SIZE);
+    int benchmarkSorts = scaleBySortSize(benchmarkCount, LARGE_SORT_SIZE);
+    int i = 0;
+    while (i < warmupSorts) {
+        string[] _ = values.sort();
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkSorts) {
+        string[] _ = values.sort();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortRecordsByKey100K(int warmupCount, int benchmarkCount) returns int {
+    SortEntry[] entries = from int value in createSortInput(LARGE_SORT_SIZE)
+        select {id: value, name: "entry-" + value.toString(), score: <float>(value % 1000)};
+    int warmupSorts = scaleBySortSize(warmupCount, LARGE_SORT_SIZE);
+    int benchmarkSorts = scaleBySortSize(benchmarkCount, LARGE_SORT_SIZE);
+    int i = 0;
+    while (i < warmupSorts) {
+        SortEntry[] _ = entries.sort(array:ASCENDING, entry => entry.score);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkSorts) {
+        SortEntry[] _ = entries.sort(array:ASCENDING, entry => entry.score);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
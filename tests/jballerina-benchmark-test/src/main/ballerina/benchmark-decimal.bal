@@ -0,0 +1,104 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+const int DECIMAL_INPUT_SIZE = 100000;
+const int COMPOUND_RATE_COUNT = 1000;
+
+// Returns `count` prices with two decimal places, which are the same for every run.
+function createDecimalPrices(int count) returns decimal[] {
+    decimal[] prices = [];
+    int i = 0;
+    while (i < count) {
+        prices.push(<decimal>(i % 100000) / 100.0d);
+        i += 1;
+    }
+    return prices;
+}
+
+// Returns how many times an input of `size` values has to be processed for about `count` decimal operations.
+function decimalPasses(int count, int size) returns int {
+    int passes = count / size;
+    return passes < 1 ? 1 : passes;
+}
+
+function sumDecimals(decimal[] values, int count) returns decimal {
+    decimal total = 0;
+    int i = 0;
+    while (i < count) {
+        foreach decimal value in values {
+            total += value;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function sumDecimalProducts(decimal[] prices, decimal[] quantities, int count) returns decimal {
+    decimal total = 0;
+    int i = 0;
+    while (i < count) {
+        int j = 0;
+        while (j < prices.length()) {
+            total += prices[j] * quantities[j];
+            j += 1;
+        }
+        i += 1;
+    }
+    return total;
+}
+
+function compoundDecimals(decimal[] rates, int count) returns decimal {
+    decimal total = 0;
+    int i = 0;
+    while (i < count) {
+        decimal balance = 1000.00;
+        foreach decimal rate in rates {
+            balance *= rate;
+        }
+        total += balance;
+        i += 1;
+    }
+    return total;
+}
+
+public function benchmarkDecimalSum100K(int warmupCount, int benchmarkCount) returns int {
+    decimal[] prices = createDecimalPrices(DECIMAL_INPUT_SIZE);
+    decimal _ = sumDecimals(prices, decimalPasses(warmupCount, DECIMAL_INPUT_SIZE));
+
+    int startTime = nanoTime();
+    decimal _ = sumDecimals(prices, decimalPasses(benchmarkCount, DECIMAL_INPUT_SIZE));
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkDecimalProductSum100K(int warmupCount, int benchmarkCount) returns int {
+    decimal[] prices = createDecimalPrices(DECIMAL_INPUT_SIZE);
+    decimal[] quantities = from int i in 0 ..< DECIMAL_INPUT_SIZE select <decimal>(i % 50) + 0.5d;
+    decimal _ = sumDecimalProducts(prices, quantities, decimalPasses(warmupCount, DECIMAL_INPUT_SIZE));
+
+    int startTime = nanoTime();
+    decimal _ = sumDecimalProducts(prices, quantities, decimalPasses(benchmarkCount, DECIMAL_INPUT_SIZE));
+    return (nanoTime() - startTime);
+}
+
+// Compounding grows the digits of the balance until it no longer fits in a long, so this also covers the
+// BigDecimal arithmetic.
+public function benchmarkDecimalCompound1K(int warmupCount, int benchmarkCount) returns int {
+    decimal[] rates = from int i in 0 ..< COMPOUND_RATE_COUNT select 1.0d + <decimal>(i % 7) / 1000.0d;
+    decimal _ = compoundDecimals(rates, decimalPasses(warmupCount, COMPOUND_RATE_COUNT));
+
+    int startTime = nanoTime();
+    decimal _ = compoundDecimals(rates, decimalPasses(benchmarkCount, COMPOUND_RATE_COUNT));
+    return (nanoTime() - startTime);
+}
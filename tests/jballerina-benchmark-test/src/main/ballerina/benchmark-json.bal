@@ -0,0 +1,93 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int SMALL_ORDER_COUNT = 5;
+
+type Order record {|
+    int id;
+    string customer;
+    string currency;
+    boolean express;
+    OrderItem[] items;
+|};
+
+// Creates a JSON array of `count` orders, each of which is a little over 200 bytes.
+function createOrdersPayload(int count) returns string {
+    string[] orders = [];
+    int i = 0;
+    while (i < count) {
+        orders.push(ORDER_PAYLOAD);
+        i += 1;
+    }
+    return "[" + string:'join(", ", ...orders) + "]";
+}
+
+function bindOrders(string payload, int count) returns int {
+    int parsed = 0;
+    int i = 0;
+    while (i < count) {
+        Order[] orders = checkpanic payload.fromJsonStringWithType();
+        parsed += orders.length();
+        i += 1;
+    }
+    return parsed;
+}
+
+// Scales an iteration count down so that every payload size parses about as many bytes as the 1KB payload does.
+function scaleByPayload(int count, int orderCount) returns int {
+    int scaled = count * SMALL_ORDER_COUNT / orderCount;
+    return scaled < 1 ? 1 : scaled;
+}
+
+function timeBindOrders(int orderCount, int warmupCount, int benchmarkCount) returns int {
+    string payload = createOrdersPayload(orderCount);
+    int _ = bindOrders(payload, scaleByPayload(warmupCount, orderCount));
+
+    int startTime = nanoTime();
+    int _ = bindOrders(payload, scaleByPayload(benchmarkCount, orderCount));
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonBindRecords1KB(int warmupCount, int benchmarkCount) returns int {
+    return timeBindOrders(SMALL_ORDER_COUNT, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonBindRecords100KB(int warmupCount, int benchmarkCount) returns int {
+    return timeBindOrders(500, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonBindRecords10MB(int warmupCount, int benchmarkCount) returns int {
+    return timeBindOrders(50000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkJsonParse100KB(int warmupCount, int benchmarkCount) returns int {
+    string payload = createOrdersPayload(500);
+    int warmupParses = scaleByPayload(warmupCount, 500);
+    int benchmarkParses = scaleByPayload(benchmarkCount, 500);
+    int i = 0;
+    while (i < warmupParses) {
+        json _ = checkpanic payload.fromJsonString();
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkParses) {
+        json _ = checkpanic payload.fromJsonString();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -545,3 +545,45 @@ public function benchmarkJoinWithForeach(int warmupCount, int benchmarkCount) re
     }
     return (nanoTime() - startTime);
 }
+
+isolated function isEvenPerson(Person person) returns boolean {
+    return person.id % 2 == 0;
+}
+
+isolated function getPersonName(Person person) returns string {
+    return person.fname + " " + person.lname;
+}
+
+public function benchmarkQueryWhereSelect(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    string[] names = from var person in pl
+        where isEvenPerson(person)
+        select getPersonName(person);
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    names = from var person in pl
+        where isEvenPerson(person)
+        select getPersonName(person);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkForeachWhereSelect(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    string[] names = [];
+    foreach var person in pl {
+        if isEvenPerson(person) {
+            names.push(getPersonName(person));
+        }
+    }
+
+    pl = getPersonArray(benchmarkCount);
+    names = [];
+    int startTime = nanoTime();
+    foreach var person in pl {
+        if isEvenPerson(person) {
+            names.push(getPersonName(person));
+        }
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,61 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type OrderItem record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+const string ORDER_PAYLOAD = "{\"id\": 1024, \"customer\": \"C-5531\", \"currency\": \"USD\", \"express\": true, "
+    + "\"items\": [{\"sku\": \"A-1\", \"quantity\": 2, \"price\": 10.5}, {\"sku\": \"B-7\", \"quantity\": 1, "
+    + "\"price\": 99.99}]}";
+
+public function benchmarkSmallJsonObjectCreation() {
+    map<json> order = {id: 1024, customer: "C-5531", currency: "USD", express: true};
+}
+
+public function benchmarkClosedRecordCreation() {
+    OrderItem item = {sku: "A-1", quantity: 2, price: 10.5};
+}
+
+public function benchmarkJsonObjectFieldAccess() {
+    map<json> order = {id: 1024, customer: "C-5531", currency: "USD", express: true};
+    json customer = order["customer"];
+}
+
+public function benchmarkClosedRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    OrderItem item = {sku: "A-1", quantity: 2, price: 10.5};
+    int total = 0;
+    int i = 0;
+    while (i < warmupCount) {
+        total += item.quantity + item.sku.length();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        total += item.quantity + item.sku.length();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonRequestBodyParse() {
+    json|error order = ORDER_PAYLOAD.fromJsonString();
+}
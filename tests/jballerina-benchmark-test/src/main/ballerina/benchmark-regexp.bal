@@ -0,0 +1,81 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.regexp;
+
+const REGEXP_INPUT = "order-2025-0042@example.com";
+
+function matchRegExp(string:RegExp pattern, int count) returns int {
+    int matched = 0;
+    int i = 0;
+    while (i < count) {
+        if pattern.isFullMatch(REGEXP_INPUT) {
+            matched += 1;
+        }
+        i += 1;
+    }
+    return matched;
+}
+
+public function benchmarkRegExpIsFullMatch(int warmupCount, int benchmarkCount) returns int {
+    string:RegExp pattern = re `[a-z]+-\d{4}-\d+@[a-z]+\.com`;
+    int _ = matchRegExp(pattern, warmupCount);
+
+    int startTime = nanoTime();
+    int _ = matchRegExp(pattern, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkDynamicRegExpIsFullMatch(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int _ = matchRegExp(checkpanic regexp:fromString("[a-z]+-\\d{4}-\\d+@[a-z]+\\.com"), 1);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        int _ = matchRegExp(checkpanic regexp:fromString("[a-z]+-\\d{4}-\\d+@[a-z]+\\.com"), 1);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRegExpBacktrackingInput(int warmupCount, int benchmarkCount) returns int {
+    // Backtracks exponentially in the length of the input unless it is matched in linear time.
+    string:RegExp pattern = re `(a+)+$`;
+    string input = "";
+    int i = 0;
+    while (i < 64) {
+        input += "a";
+        i += 1;
+    }
+    input += "!";
+    i = 0;
+    while (i < warmupCount) {
+        regexp:Span? _ = pattern.find(input);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkCount) {
+        regexp:Span? _ = pattern.find(input);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+isolated function getStrandValue(int i) returns int {
+    return i + 1;
+}
+
+function getNonIsolatedStrandValue(int i) returns int {
+    return i + 1;
+}
+
+public function benchmarkIsolatedStart(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f = start getStrandValue(i);
+        int _ = checkpanic wait f;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f = start getStrandValue(i);
+        int _ = checkpanic wait f;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkNonIsolatedStart(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f = start getNonIsolatedStrandValue(i);
+        int _ = checkpanic wait f;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f = start getNonIsolatedStrandValue(i);
+        int _ = checkpanic wait f;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function exchangeWorkerMessage(int i) returns int {
+    worker w1 {
+        i -> w2;
+    }
+
+    worker w2 returns int {
+        int value = <- w1;
+        return value + 1;
+    }
+
+    return checkpanic wait w2;
+}
+
+public function benchmarkWorkerMessagePassing(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        int _ = exchangeWorkerMessage(i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        int _ = exchangeWorkerMessage(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
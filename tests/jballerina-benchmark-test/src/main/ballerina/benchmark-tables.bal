@@ -0,0 +1,69 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+const int KEYLESS_TABLE_SIZE = 1000;
+
+type TableRow record {|
+    int id;
+    string name;
+    decimal amount;
+|};
+
+function populateKeylessTable(table<TableRow> tbl, int count) {
+    int i = 0;
+    while (i < count) {
+        tbl.add({id: i, name: "row", amount: 1.5});
+        i += 1;
+    }
+}
+
+function sumKeylessTable(table<TableRow> tbl) returns int {
+    int sum = 0;
+    foreach TableRow row in tbl {
+        sum += row.id;
+    }
+    return sum;
+}
+
+public function benchmarkKeylessTableBulkInsert(int warmupCount, int benchmarkCount) returns int {
+    table<TableRow> warmupTable = table [];
+    populateKeylessTable(warmupTable, warmupCount);
+
+    table<TableRow> tbl = table [];
+    int startTime = nanoTime();
+    populateKeylessTable(tbl, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkKeylessTableIteration(int warmupCount, int benchmarkCount) returns int {
+    table<TableRow> tbl = table [];
+    populateKeylessTable(tbl, KEYLESS_TABLE_SIZE);
+    iterateKeylessTable(tbl, warmupCount / KEYLESS_TABLE_SIZE);
+
+    int startTime = nanoTime();
+    iterateKeylessTable(tbl, benchmarkCount / KEYLESS_TABLE_SIZE);
+    return (nanoTime() - startTime);
+}
+
+// Walks the table `passes` times so that the number of rows visited stays close to the iteration count.
+function iterateKeylessTable(table<TableRow> tbl, int passes) {
+    int i = 0;
+    while (i < passes) {
+        int _ = sumKeylessTable(tbl);
+        i += 1;
+    }
+}
@@ -95,3 +95,47 @@ public function benchmarkStringLength() {
     int i = str.length();
 }
 
+const int APPENDED_LINE_COUNT = 100000;
+
+// Builds a string of 100K lines about once for every 100K iterations, so that the number of appends stays close to
+// the iteration count.
+function appendRuns(int count) returns int {
+    int runs = count / APPENDED_LINE_COUNT;
+    return runs < 1 ? 1 : runs;
+}
+
+function appendLines(string line, int count) returns int {
+    string result = "";
+    int i = 0;
+    while (i < count) {
+        result += line;
+        i += 1;
+    }
+    return result.length();
+}
+
+function timeAppendLines(string line, int warmupCount, int benchmarkCount) returns int {
+    int warmupRuns = appendRuns(warmupCount);
+    int benchmarkRuns = appendRuns(benchmarkCount);
+    int i = 0;
+    while (i < warmupRuns) {
+        int _ = appendLines(line, APPENDED_LINE_COUNT);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < benchmarkRuns) {
+        int _ = appendLines(line, APPENDED_LINE_COUNT);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringAppend100K(int warmupCount, int benchmarkCount) returns int {
+    return timeAppendLines("2025-01-01,order-42,12.50,LKR\n", warmupCount, benchmarkCount);
+}
+
+public function benchmarkNonBmpStringAppend100K(int warmupCount, int benchmarkCount) returns int {
+    return timeAppendLines("2025-01-01,order-42,😀,LKR\n", warmupCount, benchmarkCount);
+}
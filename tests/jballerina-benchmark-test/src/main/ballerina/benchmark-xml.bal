@@ -0,0 +1,73 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int XML_EXPORT_RECORD_COUNT = 100000;
+
+// Produces an XML export with `count` record elements, one block of bytes per record.
+class XmlExportContent {
+    private final int count;
+    private int index = -1;
+
+    function init(int count) {
+        self.count = count;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}? {
+        int index = self.index;
+        if index > self.count {
+            return ();
+        }
+        self.index = index + 1;
+        if index == -1 {
+            return {value: "<export>".toBytes()};
+        }
+        if index == self.count {
+            return {value: "</export>".toBytes()};
+        }
+        string item = string `<record id="${index}"><name>item ${index}</name><amount>${index * 7}</amount></record>`;
+        return {value: item.toBytes()};
+    }
+}
+
+function readXmlExport(int recordCount, int count) returns int|error {
+    int read = 0;
+    int i = 0;
+    while i < count {
+        stream<byte[], error?> content = new (new XmlExportContent(recordCount));
+        stream<xml:Element, error?> records = xml:elementChildrenFromBytes(content);
+        record {|xml:Element value;|}? next = check records.next();
+        while next !is () {
+            read += 1;
+            next = check records.next();
+        }
+        i += 1;
+    }
+    return read;
+}
+
+public function benchmarkXmlElementChildrenFromBytes100K(int warmupCount, int benchmarkCount) returns int {
+    // Each run streams XML_EXPORT_RECORD_COUNT elements, so scale the run count down by the export size.
+    _ = checkpanic readXmlExport(XML_EXPORT_RECORD_COUNT, xmlExportRuns(warmupCount));
+
+    int startTime = nanoTime();
+    _ = checkpanic readXmlExport(XML_EXPORT_RECORD_COUNT, xmlExportRuns(benchmarkCount));
+    return (nanoTime() - startTime);
+}
+
+function xmlExportRuns(int count) returns int {
+    int runs = count / XML_EXPORT_RECORD_COUNT;
+    return runs < 1 ? 1 : runs;
+}
@@ -36,6 +36,34 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkIsolatedStart", benchmarkIsolatedStart);
+    addSingleExecFunction("benchmarkNonIsolatedStart", benchmarkNonIsolatedStart);
+    addSingleExecFunction("benchmarkWorkerMessagePassing", benchmarkWorkerMessagePassing);
+    addSingleExecFunction("benchmarkClosedRecordFieldAccess", benchmarkClosedRecordFieldAccess);
+    addSingleExecFunction("benchmarkKeylessTableBulkInsert", benchmarkKeylessTableBulkInsert);
+    addSingleExecFunction("benchmarkKeylessTableIteration", benchmarkKeylessTableIteration);
+    addSingleExecFunction("benchmarkQueryWhereSelect", benchmarkQueryWhereSelect);
+    addSingleExecFunction("benchmarkForeachWhereSelect", benchmarkForeachWhereSelect);
+    addSingleExecFunction("benchmarkRegExpIsFullMatch", benchmarkRegExpIsFullMatch);
+    addSingleExecFunction("benchmarkDynamicRegExpIsFullMatch", benchmarkDynamicRegExpIsFullMatch);
+    addSingleExecFunction("benchmarkRegExpBacktrackingInput", benchmarkRegExpBacktrackingInput);
+    addSingleExecFunction("benchmarkJsonBindRecords1KB", benchmarkJsonBindRecords1KB);
+    addSingleExecFunction("benchmarkJsonBindRecords100KB", benchmarkJsonBindRecords100KB);
+    addSingleExecFunction("benchmarkJsonBindRecords10MB", benchmarkJsonBindRecords10MB);
+    addSingleExecFunction("benchmarkJsonParse100KB", benchmarkJsonParse100KB);
+    addSingleExecFunction("benchmarkArraySortInt10", benchmarkArraySortInt10);
+    addSingleExecFunction("benchmarkArraySortInt1K", benchmarkArraySortInt1K);
+    addSingleExecFunction("benchmarkArraySortInt100K", benchmarkArraySortInt100K);
+    addSingleExecFunction("benchmarkArraySortInt10M", benchmarkArraySortInt10M);
+    addSingleExecFunction("benchmarkArraySortFloat100K", benchmarkArraySortFloat100K);
+    addSingleExecFunction("benchmarkArraySortString100K", benchmarkArraySortString100K);
+    addSingleExecFunction("benchmarkArraySortRecordsByKey100K", benchmarkArraySortRecordsByKey100K);
+    addSingleExecFunction("benchmarkStringAppend100K", benchmarkStringAppend100K);
+    addSingleExecFunction("benchmarkNonBmpStringAppend100K", benchmarkNonBmpStringAppend100K);
+    addSingleExecFunction("benchmarkDecimalSum100K", benchmarkDecimalSum100K);
+    addSingleExecFunction("benchmarkDecimalProductSum100K", benchmarkDecimalProductSum100K);
+    addSingleExecFunction("benchmarkDecimalCompound1K", benchmarkDecimalCompound1K);
+    addSingleExecFunction("benchmarkXmlElementChildrenFromBytes100K", benchmarkXmlElementChildrenFromBytes100K);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +91,8 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkSmallJsonObjectCreation", benchmarkSmallJsonObjectCreation);
+    addMultiExecFunction("benchmarkClosedRecordCreation", benchmarkClosedRecordCreation);
+    addMultiExecFunction("benchmarkJsonObjectFieldAccess", benchmarkJsonObjectFieldAccess);
+    addMultiExecFunction("benchmarkJsonRequestBodyParse", benchmarkJsonRequestBodyParse);
 }
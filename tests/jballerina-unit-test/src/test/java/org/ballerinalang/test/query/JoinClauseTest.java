@@ -124,6 +124,11 @@ public class JoinClauseTest {
     public void testJoinClauseWithLargeList() {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
+
+    @Test(description = "Test where and join clauses comparing readonly fields of a table")
+    public void testQueriesOnIndexedTableFields() {
+        BRunUtil.invoke(result, "testQueriesOnIndexedTableFields");
+    }
     
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
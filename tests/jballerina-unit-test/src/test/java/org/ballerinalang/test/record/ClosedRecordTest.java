@@ -329,6 +329,11 @@ public class ClosedRecordTest {
         BRunUtil.invoke(compileResult, "testOverridingIncludedFieldInRecordWithReadOnlyIntersection");
     }
 
+    @Test
+    public void testFieldAccessOfStructurallyEquivalentRecords() {
+        BRunUtil.invoke(compileResult, "testFieldAccessOfStructurallyEquivalentRecords");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
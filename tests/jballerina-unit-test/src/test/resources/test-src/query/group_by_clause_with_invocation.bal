@@ -975,6 +975,58 @@ function testGroupByExpressionAndSelectWithNonGroupingKeys9() {
     ], quarterlyMin);
 }
 
+function testAggregatedAndCollectedNonGroupingKeys() {
+    var input = [{name: "Saman", price: 11, qty: 2.5, cost: 1.5d},
+                    {name: "Kamal", price: 12, qty: 1.0, cost: 3d},
+                    {name: "Saman", price: 13, qty: 0.5, cost: 2.5d}];
+
+    var res = from var {name, price, qty, cost} in input
+                group by name
+                select {name, total: sum(price), count: count(price), maxQty: float:max(qty),
+                    avgCost: decimal:avg(cost), prices: [price]};
+    assertEquality([
+        {name: "Saman", total: 24, count: 2, maxQty: 2.5, avgCost: 2d, prices: [11, 13]},
+        {name: "Kamal", total: 12, count: 1, maxQty: 1.0, avgCost: 3d, prices: [12]}
+    ], res);
+
+    int[] res2 = from var {name, price} in input
+                    group by name
+                    select int:max(sum(price), 20) + [price].length();
+    assertEquality([26, 21], res2);
+}
+
+function testAggregatesInClausesAfterGroupBy() {
+    var input = [{name: "Saman", price: 11}, {name: "Kamal", price: 12}, {name: "Saman", price: 13},
+                    {name: "Amal", price: 5}];
+
+    string[] res = from var {name, price} in input
+                    group by name
+                    let int total = int:max(sum(price), 0)
+                    where count(price) > 1 || min(price) > 10
+                    order by total descending
+                    select name + ":" + total.toString() + ":" + sum(price).toString();
+    assertEquality(["Saman:24:24", "Kamal:12:12"], res);
+}
+
+function testAggregateErrorOfGroup() {
+    var input = [{name: "Saman", price: int:MAX_VALUE}, {name: "Kamal", price: 1}, {name: "Saman", price: 1}];
+
+    // The overflow of a group is not raised if the group is filtered out before its sum is selected.
+    int[] res = from var {name, price} in input
+                    group by name
+                    where name == "Kamal"
+                    select sum(price);
+    assertEquality([1], res);
+
+    int[]|error res2 = trap from var {name, price} in input
+                            group by name
+                            select sum(price);
+    if res2 is int[] {
+        panic error("expected an overflow error");
+    }
+    assertEquality("{ballerina/lang.int}NumberOverflow", res2.message());
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
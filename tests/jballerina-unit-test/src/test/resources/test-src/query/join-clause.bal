@@ -514,6 +514,41 @@ public function testJoinClauseWithLargeList() {
     assertEquality(10000, getCommonList("a"));
 }
 
+public function testQueriesOnIndexedTableFields() {
+    table<User> key(id) users = table [
+            {id: 1234, name: "Keith"},
+            {id: 6789, name: "Anne"},
+            {id: 3987, name: "Mike"}
+        ];
+    final int minId = 2000;
+
+    string[] names = from var user in users
+        where user.id == 6789
+        select user.name;
+    assertEquality(["Anne"], names);
+
+    names = from var user in users
+        where minId < user.id
+        select user.name;
+    assertEquality(["Anne", "Mike"], names);
+
+    users.add({id: 2500, name: "Jane"});
+    names = from var user in users
+        where user.id >= minId
+        select user.name;
+    assertEquality(["Anne", "Mike", "Jane"], names);
+
+    Login[] logins = [
+        {userId: 6789, time: "20:10:23"},
+        {userId: 1234, time: "10:30:02"},
+        {userId: 5555, time: "12:05:00"}
+    ];
+    string[] joined = from var login in logins
+        join var user in users on login.userId equals user.id
+        select user.name + "@" + login.time;
+    assertEquality(["Anne@20:10:23", "Keith@10:30:02"], joined);
+}
+
 function getCommonList(string character) returns int {
     string[] barList = ["a", "b", "c"];
     string[] fooList = [];
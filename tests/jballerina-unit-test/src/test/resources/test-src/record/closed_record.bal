@@ -406,6 +406,49 @@ function testOverridingIncludedFieldInRecordWithReadOnlyIntersection() {
     assertEquality("world", corge.body.b);
 }
 
+type Point record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+    int[] tags;
+|};
+
+type Coordinate record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+    int[] tags;
+|};
+
+function testFieldAccessOfStructurallyEquivalentRecords() {
+    Coordinate coordinate = {x: 3, y: 4.5, label: "c", visible: false, tags: [3]};
+    Point[] points = [{x: 1, y: 2.5, label: "p", visible: true, tags: [1, 2]}, coordinate];
+    int xSum = 0;
+    float ySum = 0;
+    string labels = "";
+    int visibleCount = 0;
+    int tagCount = 0;
+    foreach Point point in points {
+        xSum += point.x;
+        ySum += point.y;
+        labels += point.label;
+        visibleCount += point.visible ? 1 : 0;
+        tagCount += point.tags.length();
+    }
+    assertEquality(4, xSum);
+    assertEquality(7.0, ySum);
+    assertEquality("pc", labels);
+    assertEquality(1, visibleCount);
+    assertEquality(3, tagCount);
+
+    points[1].x = 5;
+    int|float x = points[1].x;
+    assertEquality(5, x);
+    assertEquality(5, coordinate.x);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;